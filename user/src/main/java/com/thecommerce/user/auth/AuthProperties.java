@@ -0,0 +1,42 @@
+package com.thecommerce.user.auth;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.auth")
+public class AuthProperties {
+    /**
+     * 토큰 서명에 사용할 Base64 인코딩된 비밀 키 (32바이트 이상)
+     * 비어 있으면 인스턴스마다 임의의 키를 생성하고 key-rotation-interval마다 교체합니다.
+     */
+    private String secret = "";
+
+    /**
+     * 토큰 유효 시간
+     */
+    private Duration tokenTtl = Duration.ofMinutes(30);
+
+    /**
+     * 임의로 생성한 키의 교체 주기 (token-ttl보다 길어야 합니다)
+     */
+    private Duration keyRotationInterval = Duration.ofHours(12);
+
+    /**
+     * 서명 검증 결과를 캐시할 최대 토큰 수
+     */
+    private long verifiedTokenCacheSize = 100_000;
+
+    /**
+     * ADMIN 권한을 가지는 회원 아이디 목록
+     * 이 아이디로는 회원가입(/api/user/join)할 수 없으므로 관리자 계정은 데이터베이스에 직접 등록하는 등 운영 경로로 만들어야 합니다.
+     */
+    private List<String> adminUserIds = new ArrayList<>();
+}
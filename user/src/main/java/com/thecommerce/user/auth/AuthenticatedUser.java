@@ -0,0 +1,16 @@
+package com.thecommerce.user.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 통과한 토큰의 내용입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser {
+    private final long userIndex;
+    private final String userId;
+    private final long expiresAtEpochSecond;
+    private final int keyId;
+}
@@ -0,0 +1,43 @@
+package com.thecommerce.user.auth;
+
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * HMAC-SHA256 서명 키입니다. Mac 인스턴스는 스레드 안전하지 않으므로 스레드별로 하나씩 만들어 재사용합니다.
+ */
+public class SigningKey {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final int id;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    public SigningKey(int id, byte[] secret) {
+        this.id = id;
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public byte[] sign(byte[] payload) {
+        Mac instance = mac.get();
+        instance.reset();
+        return instance.doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
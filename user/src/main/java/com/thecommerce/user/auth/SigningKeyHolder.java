@@ -0,0 +1,80 @@
+package com.thecommerce.user.auth;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 토큰 서명 키를 보관합니다.
+ * 현재 키와 직전 키를 하나의 불변 객체로 묶어 AtomicReference로 교체하므로
+ * 검증 경로에서 락 없이 일관된 키 쌍을 읽을 수 있습니다.
+ * 교체 직후에도 직전 키로 서명된 토큰은 만료될 때까지 검증됩니다.
+ */
+public class SigningKeyHolder {
+    private static final int GENERATED_KEY_BYTES = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final AtomicReference<KeySet> keys;
+
+    public SigningKeyHolder(byte[] secret) {
+        this.keys = new AtomicReference<>(new KeySet(new SigningKey(1, secret), null));
+    }
+
+    public SigningKeyHolder() {
+        this(generate());
+    }
+
+    /**
+     * @return 새 토큰을 서명할 현재 키
+     */
+    public SigningKey current() {
+        return keys.get().current;
+    }
+
+    /**
+     * @param keyId 토큰에 기록된 키 번호
+     * @return 현재 키 또는 직전 키 중 번호가 일치하는 키, 없으면 null
+     */
+    public SigningKey find(int keyId) {
+        KeySet keySet = keys.get();
+        if (keySet.current.getId() == keyId) {
+            return keySet.current;
+        }
+        if (keySet.previous != null && keySet.previous.getId() == keyId) {
+            return keySet.previous;
+        }
+        return null;
+    }
+
+    /**
+     * 임의의 새 키를 만들어 현재 키로 사용하고, 기존 현재 키는 직전 키로 남깁니다.
+     *
+     * @return 새 현재 키
+     */
+    public SigningKey rotate() {
+        byte[] secret = generate();
+        while (true) {
+            KeySet keySet = keys.get();
+            SigningKey next = new SigningKey(keySet.current.getId() + 1, secret);
+            if (keys.compareAndSet(keySet, new KeySet(next, keySet.current))) {
+                return next;
+            }
+        }
+    }
+
+    private static byte[] generate() {
+        byte[] secret = new byte[GENERATED_KEY_BYTES];
+        RANDOM.nextBytes(secret);
+        return secret;
+    }
+
+    private static final class KeySet {
+        private final SigningKey current;
+        private final SigningKey previous;
+
+        private KeySet(SigningKey current, SigningKey previous) {
+            this.current = current;
+            this.previous = previous;
+        }
+    }
+}
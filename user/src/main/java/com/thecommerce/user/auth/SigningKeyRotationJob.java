@@ -0,0 +1,23 @@
+package com.thecommerce.user.auth;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * thecommerce.auth.secret이 설정되지 않아 인스턴스가 직접 생성한 서명 키를 주기적으로 교체합니다.
+ */
+@Slf4j
+public class SigningKeyRotationJob {
+    private final SigningKeyHolder keyHolder;
+
+    public SigningKeyRotationJob(SigningKeyHolder keyHolder) {
+        this.keyHolder = keyHolder;
+    }
+
+    @Scheduled(fixedDelayString = "${thecommerce.auth.key-rotation-interval:PT12H}",
+            initialDelayString = "${thecommerce.auth.key-rotation-interval:PT12H}")
+    public void rotate() {
+        log.info("token signing key rotated to key {}", keyHolder.rotate().getId());
+    }
+}
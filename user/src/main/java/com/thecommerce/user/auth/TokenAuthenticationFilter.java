@@ -0,0 +1,75 @@
+package com.thecommerce.user.auth;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.thecommerce.user.circuitbreaker.CircuitBreakerOpenException;
+import com.thecommerce.user.user.UserService;
+
+/**
+ * Authorization: Bearer 헤더의 토큰을 검증하여 SecurityContext에 인증 정보를 설정합니다.
+ * 토큰이 없거나 유효하지 않으면 인증 정보 없이 다음 필터로 넘기고, 접근 제어는 WebSecurityConfig가 담당합니다.
+ *
+ * 서명이 맞더라도 토큰의 회원 번호로 조회한 회원이 없거나(탈퇴), 아이디가 다르거나(탈퇴 후 같은 아이디로 재가입),
+ * 비활성화되었으면 인증하지 않습니다. 회원 조회는 2차 캐시를 거치므로 대부분 데이터베이스를 조회하지 않습니다.
+ * 회로 차단기가 열려 회원을 확인할 수 없으면 인증 여부를 판단할 수 없으므로 503으로 응답합니다.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final SimpleGrantedAuthority ROLE_USER = new SimpleGrantedAuthority("ROLE_USER");
+    private static final SimpleGrantedAuthority ROLE_ADMIN = new SimpleGrantedAuthority("ROLE_ADMIN");
+
+    private final TokenService tokenService;
+    private final UserService userService;
+    private final Set<String> adminUserIds;
+
+    public TokenAuthenticationFilter(TokenService tokenService, UserService userService, List<String> adminUserIds) {
+        this.tokenService = tokenService;
+        this.userService = userService;
+        this.adminUserIds = new HashSet<>(adminUserIds);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            AuthenticatedUser user = tokenService.verify(header.substring(BEARER_PREFIX.length()).trim());
+            boolean active;
+            try {
+                active = user != null && userService.isActiveUser(user.getUserIndex(), user.getUserId());
+            } catch (CircuitBreakerOpenException e) {
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getWriter().write("SERVICE_UNAVAILABLE");
+                return;
+            }
+            if (active) {
+                List<GrantedAuthority> authorities = new ArrayList<>();
+                authorities.add(ROLE_USER);
+                if (adminUserIds.contains(user.getUserId())) {
+                    authorities.add(ROLE_ADMIN);
+                }
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(user.getUserId(), null, authorities));
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,112 @@
+package com.thecommerce.user.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인에 성공한 회원에게 HMAC-SHA256으로 서명한 짧은 수명의 토큰을 발급하고 검증합니다.
+ *
+ * 토큰 형식: base64url("{keyId}:{만료 epoch 초}:{회원 번호}:{회원 아이디}") + "." + base64url(서명)
+ *
+ * 회원 번호를 함께 서명하므로 탈퇴한 회원의 아이디로 새로 가입한 회원에게는 이전 토큰이 통하지 않습니다.
+ * 회원이 존재하고 활성 상태인지는 TokenAuthenticationFilter가 확인합니다.
+ *
+ * 서명 검증은 데이터베이스나 세션 저장소를 조회하지 않습니다. 최근 검증에 성공한 토큰은 크기가 제한된 캐시에
+ * 보관하여 같은 토큰이 반복 사용될 때 Base64 디코딩과 HMAC 계산을 생략합니다.
+ * 검증에 실패한 토큰은 캐시하지 않으므로 임의의 토큰으로 캐시를 채울 수 없습니다.
+ */
+@Slf4j
+public class TokenService {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SigningKeyHolder keyHolder;
+    private final Clock clock;
+    private final long ttlSeconds;
+    private final Cache<String, AuthenticatedUser> verifiedTokens;
+
+    public TokenService(SigningKeyHolder keyHolder, AuthProperties properties, Clock clock) {
+        this.keyHolder = keyHolder;
+        this.clock = clock;
+        this.ttlSeconds = properties.getTokenTtl().getSeconds();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedTokenCacheSize())
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * @param userIndex 회원 번호
+     * @param userId    회원 아이디
+     * @return 현재 키로 서명된 토큰
+     */
+    public String issue(long userIndex, String userId) {
+        SigningKey key = keyHolder.current();
+        long expiresAt = clock.millis() / 1000 + ttlSeconds;
+        byte[] payload = (key.getId() + ":" + expiresAt + ":" + userIndex + ":" + userId)
+                .getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(key.sign(payload));
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * @param token Authorization 헤더로 전달된 토큰
+     * @return 유효한 토큰이면 토큰의 내용, 서명이 맞지 않거나 만료되었거나 폐기된 키로 서명된 경우 null
+     */
+    public AuthenticatedUser verify(String token) {
+        long now = clock.millis() / 1000;
+        AuthenticatedUser cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.getExpiresAtEpochSecond() > now && keyHolder.find(cached.getKeyId()) != null) {
+                return cached;
+            }
+            verifiedTokens.invalidate(token);
+            return null;
+        }
+
+        AuthenticatedUser verified = verifySignature(token, now);
+        if (verified != null) {
+            verifiedTokens.put(token, verified);
+        }
+        return verified;
+    }
+
+    private AuthenticatedUser verifySignature(String token, long now) {
+        try {
+            int dot = token.indexOf('.');
+            if (dot <= 0 || dot != token.lastIndexOf('.')) {
+                return null;
+            }
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+
+            String[] claims = new String(payload, StandardCharsets.UTF_8).split(":", 4);
+            if (claims.length != 4) {
+                return null;
+            }
+            SigningKey key = keyHolder.find(Integer.parseInt(claims[0]));
+            if (key == null || !MessageDigest.isEqual(key.sign(payload), signature)) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(claims[1]);
+            if (expiresAt <= now) {
+                return null;
+            }
+            return new AuthenticatedUser(Long.parseLong(claims[2]), claims[3], expiresAt, key.getId());
+        } catch (IllegalArgumentException e) {
+            log.debug("malformed token: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.thecommerce.user.circuitbreaker;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 호출 결과로 데이터베이스 상태를 판단하는 회로 차단기입니다.
+ * 최근 windowSize개 호출 중 실패(예외 또는 slowCallNanos 초과) 비율이 임계값을 넘으면 열리고(OPEN),
+ * openNanos 동안 모든 호출을 바로 거절합니다. 그 뒤 halfOpenCalls개 호출만 시험 삼아 허용하여(HALF_OPEN)
+ * 모두 성공하면 닫히고(CLOSED), 하나라도 실패하면 다시 열립니다.
+ *
+ * 닫힌 상태에서 호출을 허용할지는 volatile 읽기 한 번으로 판단하고, 결과 기록만 동기화합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRatePercent;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private volatile State state = State.CLOSED;
+    private final LongAdder notPermittedCalls = new LongAdder();
+
+    // 아래 필드는 this로 동기화합니다.
+    private final boolean[] failedWindow;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param name               로그에 표시할 이름
+     * @param windowSize         실패율을 계산할 최근 호출 수
+     * @param minimumCalls       실패율을 계산하기 위한 최소 호출 수
+     * @param failureRatePercent 회로를 여는 실패율(%)
+     * @param slowCallNanos      이 시간보다 오래 걸린 호출은 실패로 봅니다.
+     * @param openNanos          열린 상태를 유지하는 시간
+     * @param halfOpenCalls      반열림 상태에서 시험 삼아 허용하는 호출 수
+     */
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRatePercent, long slowCallNanos,
+            long openNanos, int halfOpenCalls) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize || failureRatePercent < 1
+                || failureRatePercent > 100 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("invalid circuit breaker settings");
+        }
+        this.name = name;
+        this.failedWindow = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRatePercent = failureRatePercent;
+        this.slowCallNanos = slowCallNanos;
+        this.openNanos = openNanos;
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * 조회 호출을 허용할지 확인합니다. 열린 상태에서 openNanos가 지났다면 반열림 상태로 바꾸고 시험 호출을 허용합니다.
+     * 허용된 호출은 끝난 뒤 반드시 onResult로 결과를 기록해야 합니다.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     */
+    public boolean tryAcquirePermission(long nowNanos) {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN && nowNanos - openedAtNanos >= openNanos) {
+                transitionTo(State.HALF_OPEN);
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+                halfOpenPermits--;
+                return true;
+            }
+            if (state == State.CLOSED) {
+                return true;
+            }
+        }
+        notPermittedCalls.increment();
+        return false;
+    }
+
+    /**
+     * 결과를 기록하지 않는 호출(쓰기)을 허용할지 확인합니다. 닫힌 상태에서만 허용합니다.
+     */
+    public boolean isCallPermitted() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        notPermittedCalls.increment();
+        return false;
+    }
+
+    /**
+     * tryAcquirePermission으로 허용된 호출의 결과를 기록합니다.
+     *
+     * @param durationNanos 호출에 걸린 시간(ns)
+     * @param failed        데이터베이스 오류로 실패했는지 여부
+     * @param nowNanos      현재 시각 (System.nanoTime 기준)
+     */
+    public synchronized void onResult(long durationNanos, boolean failed, long nowNanos) {
+        boolean failure = failed || durationNanos > slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            if (failure) {
+                open(nowNanos);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // 열리기 전에 시작된 호출의 결과입니다.
+            return;
+        }
+
+        if (windowCalls == failedWindow.length) {
+            if (failedWindow[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+        failedWindow[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % failedWindow.length;
+
+        if (windowCalls >= minimumCalls && windowFailures * 100 >= failureRatePercent * windowCalls) {
+            open(nowNanos);
+        }
+    }
+
+    private void open(long nowNanos) {
+        openedAtNanos = nowNanos;
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State newState) {
+        if (newState != State.OPEN) {
+            windowIndex = 0;
+            windowCalls = 0;
+            windowFailures = 0;
+        }
+        if (newState == State.OPEN) {
+            log.warn("circuit breaker [{}] opened", name);
+        } else {
+            log.info("circuit breaker [{}] {}", name, newState == State.CLOSED ? "closed" : "half-open");
+        }
+        state = newState;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getNotPermittedCalls() {
+        return notPermittedCalls.sum();
+    }
+}
@@ -0,0 +1,13 @@
+package com.thecommerce.user.circuitbreaker;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * 회로 차단기가 열려 있어 데이터베이스를 호출하지 않고 거절했음을 나타냅니다.
+ */
+public class CircuitBreakerOpenException extends TransientDataAccessResourceException {
+
+    public CircuitBreakerOpenException(String name) {
+        super("circuit breaker [" + name + "] is open");
+    }
+}
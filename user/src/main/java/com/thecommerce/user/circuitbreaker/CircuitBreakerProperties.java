@@ -0,0 +1,63 @@
+package com.thecommerce.user.circuitbreaker;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.circuit-breaker")
+public class CircuitBreakerProperties {
+    private boolean enabled = true;
+
+    /**
+     * 실패율을 계산할 최근 조회 호출 수
+     */
+    private int windowSize = 50;
+
+    /**
+     * 실패율을 계산하기 위한 최소 호출 수
+     */
+    private int minimumCalls = 20;
+
+    /**
+     * 회로를 여는 실패율(%)
+     */
+    private int failureRateThreshold = 50;
+
+    /**
+     * 이 시간보다 오래 걸린 조회는 실패로 봅니다.
+     * 커넥션 대기(spring.datasource.hikari.connection-timeout)와
+     * 조회 쿼리 시간(UserRepository.READ_TIMEOUT_MILLIS) 제한보다 짧아야 합니다.
+     */
+    private Duration slowCallDuration = Duration.ofSeconds(1);
+
+    /**
+     * 열린 상태를 유지하는 시간
+     */
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    /**
+     * 반열림 상태에서 시험 삼아 허용하는 조회 수
+     */
+    private int halfOpenCalls = 5;
+
+    private Snapshot snapshot = new Snapshot();
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        /**
+         * 마지막으로 성공한 조회 결과를 보관하는 최대 항목 수 (목록 페이지, 회원 각각)
+         */
+        private long maxEntries = 100_000;
+
+        /**
+         * 이 시간보다 오래된 결과는 대신 응답하지 않습니다.
+         */
+        private Duration maxAge = Duration.ofMinutes(30);
+    }
+}
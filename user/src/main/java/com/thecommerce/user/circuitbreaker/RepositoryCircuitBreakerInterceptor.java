@@ -0,0 +1,79 @@
+package com.thecommerce.user.circuitbreaker;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * 저장소 호출을 회로 차단기로 감쌉니다.
+ * 조회(find, get, exists, count로 시작하는 메서드)는 결과를 기록하고, 쓰기는 회로가 닫혀 있을 때만 허용합니다.
+ * 저장소 트랜잭션보다 바깥에 추가되므로 커넥션 획득에 걸린 시간과 실패도 조회 결과에 포함됩니다.
+ */
+public class RepositoryCircuitBreakerInterceptor implements MethodInterceptor {
+    private static final String[] READ_PREFIXES = { "find", "get", "exists", "count" };
+
+    /**
+     * default 메서드 안에서 다시 저장소를 호출하는 경우 바깥 호출 하나로만 기록합니다.
+     */
+    private static final ThreadLocal<Boolean> IN_CALL = new ThreadLocal<>();
+
+    private final CircuitBreaker circuitBreaker;
+    private final String name;
+
+    public RepositoryCircuitBreakerInterceptor(CircuitBreaker circuitBreaker, String name) {
+        this.circuitBreaker = circuitBreaker;
+        this.name = name;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (IN_CALL.get() != null) {
+            return invocation.proceed();
+        }
+        if (!isRead(invocation.getMethod().getName())) {
+            if (!circuitBreaker.isCallPermitted()) {
+                throw new CircuitBreakerOpenException(name);
+            }
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        if (!circuitBreaker.tryAcquirePermission(start)) {
+            throw new CircuitBreakerOpenException(name);
+        }
+        IN_CALL.set(Boolean.TRUE);
+        boolean failed = false;
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            failed = isDatabaseFailure(t);
+            throw t;
+        } finally {
+            IN_CALL.remove();
+            long now = System.nanoTime();
+            circuitBreaker.onResult(now - start, failed, now);
+        }
+    }
+
+    private static boolean isRead(String methodName) {
+        for (String prefix : READ_PREFIXES) {
+            if (methodName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 커넥션 획득 실패, 쿼리 시간 초과 등 데이터베이스 상태로 인한 실패만 실패율에 반영합니다.
+     */
+    private static boolean isDatabaseFailure(Throwable t) {
+        return t instanceof TransientDataAccessException
+                || t instanceof DataAccessResourceFailureException
+                || t instanceof RecoverableDataAccessException
+                || t instanceof TransactionException;
+    }
+}
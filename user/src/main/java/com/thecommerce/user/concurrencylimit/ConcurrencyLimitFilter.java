@@ -0,0 +1,191 @@
+package com.thecommerce.user.concurrencylimit;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * UserController의 엔드포인트별로 동시에 처리하는 요청 수를 제한합니다.
+ * 한도는 GradientConcurrencyLimiter가 응답 시간을 보고 조정하며, 한도를 넘은 요청은
+ * 대기 없이 HttpStatus.SERVICE_UNAVAILABLE과 Retry-After로 거절됩니다.
+ * 조회(목록, 일괄 조회, 검색, 닉네임 추천, 가입 통계)의 응답 시간이 늘어나면
+ * 쓰기(회원가입, 로그인, 정보 수정, 탈퇴)와 그 밖의 요청은 그 비율만큼 한도를 줄여 조회를 먼저 처리합니다.
+ *
+ * 경로는 Spring MVC가 핸들러를 찾을 때와 같이 디코딩하고 ';' 뒤의 매개변수와 끝의 '/'를 떼고 분류합니다.
+ * 따로 분류하지 않은 /api/user 경로는 OTHER 한도를 함께 사용하며, 연결을 오래 유지하는 SSE 구독만 제외합니다.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final String USER_PATH_PREFIX = "/api/user/";
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+    private static final int STALE_WINDOWS = 10;
+
+    private enum Endpoint {
+        JOIN("join", false),
+        LOGIN("login", false),
+        UPDATE("update", false),
+        DELETE("delete", false),
+        LIST("list", true),
+        BATCH_GET("batch-get", true),
+        SEARCH("search", true),
+        SUGGESTIONS("username-suggestions", true),
+        STATS("stats", true),
+        OTHER("other", false);
+
+        private final String tag;
+        private final boolean read;
+
+        Endpoint(String tag, boolean read) {
+            this.tag = tag;
+            this.read = read;
+        }
+    }
+
+    private final Map<Endpoint, GradientConcurrencyLimiter> limiters = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Counter> rejected = new EnumMap<>(Endpoint.class);
+    private final long staleNanos;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        long now = System.nanoTime();
+        for (Endpoint endpoint : Endpoint.values()) {
+            GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties.getInitialLimit(),
+                    properties.getMinLimit(), properties.getMaxLimit(), properties.getSmoothing(),
+                    properties.getTolerance(), properties.getLongWindow(), properties.getWindow().toNanos(),
+                    properties.getMinWindowSamples(), now);
+            limiters.put(endpoint, limiter);
+            Gauge.builder("user.concurrency-limit.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                    .description("Adaptive concurrency limit per endpoint")
+                    .tag("endpoint", endpoint.tag)
+                    .register(meterRegistry);
+            Gauge.builder("user.concurrency-limit.in-flight", limiter, GradientConcurrencyLimiter::getInFlight)
+                    .description("Requests currently being processed per endpoint")
+                    .tag("endpoint", endpoint.tag)
+                    .register(meterRegistry);
+            rejected.put(endpoint, Counter.builder("user.concurrency-limit.rejected")
+                    .description("Requests shed by the adaptive concurrency limiter")
+                    .tag("endpoint", endpoint.tag)
+                    .register(meterRegistry));
+        }
+        this.staleNanos = properties.getWindow().toNanos() * STALE_WINDOWS;
+        this.retryAfterSeconds = String.valueOf(Math.max(1L, properties.getRetryAfter().getSeconds()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return resolve(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Endpoint endpoint = resolve(request);
+        GradientConcurrencyLimiter limiter = limiters.get(endpoint);
+        long start = System.nanoTime();
+        int inFlight = limiter.tryAcquire(endpoint.read ? 1.0 : readGradient(start));
+        if (inFlight == 0) {
+            rejected.get(endpoint).increment();
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 검증 실패 같은 클라이언트 오류는 금방 끝나므로 응답 시간에 반영하면 과부하를 가립니다.
+            if (response.getStatus() >= 400 && response.getStatus() < 500) {
+                limiter.release();
+            } else {
+                long now = System.nanoTime();
+                limiter.release(now - start, inFlight, now);
+            }
+        }
+    }
+
+    /**
+     * 조회 엔드포인트 중 응답 시간이 가장 많이 늘어난 쪽의 기울기를 리턴합니다.
+     */
+    private double readGradient(long nowNanos) {
+        double gradient = 1.0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.read) {
+                gradient = Math.min(gradient, limiters.get(endpoint).getGradient(nowNanos, staleNanos));
+            }
+        }
+        return gradient;
+    }
+
+    private static Endpoint resolve(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        // Spring MVC는 끝의 '/'를 무시하고 같은 핸들러로 매핑합니다.
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (!path.startsWith(USER_PATH_PREFIX)) {
+            return null;
+        }
+        String rest = path.substring(USER_PATH_PREFIX.length());
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method)) {
+            switch (rest) {
+                case "list":
+                    return Endpoint.LIST;
+                case "search":
+                case "search/full-text":
+                    return Endpoint.SEARCH;
+                case "username-suggestions":
+                    return Endpoint.SUGGESTIONS;
+                case "stats/signups":
+                    return Endpoint.STATS;
+                case "stream":
+                    return null;
+                default:
+                    return Endpoint.OTHER;
+            }
+        }
+        if (HttpMethod.POST.matches(method)) {
+            switch (rest) {
+                case "join":
+                    return Endpoint.JOIN;
+                case "login":
+                    return Endpoint.LOGIN;
+                case "batch-get":
+                    return Endpoint.BATCH_GET;
+                default:
+                    return Endpoint.OTHER;
+            }
+        }
+        boolean loginIdPath = !rest.isEmpty() && rest.indexOf('/') < 0;
+        if (HttpMethod.PUT.matches(method) && loginIdPath) {
+            return Endpoint.UPDATE;
+        }
+        if (HttpMethod.DELETE.matches(method) && loginIdPath) {
+            return Endpoint.DELETE;
+        }
+        return Endpoint.OTHER;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        log.debug("request shed by concurrency limiter, retry after {}s", retryAfterSeconds);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("SERVICE_UNAVAILABLE");
+    }
+}
@@ -0,0 +1,54 @@
+package com.thecommerce.user.concurrencylimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+
+    /**
+     * 엔드포인트별 시작 동시 처리 한도
+     */
+    private int initialLimit = 20;
+
+    private int minLimit = 2;
+
+    private int maxLimit = 200;
+
+    /**
+     * 새로 계산한 한도를 반영하는 비율 (0 ~ 1)
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * 장기 평균 대비 이 배율까지의 응답 시간 증가는 한도를 줄이지 않습니다.
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * 장기 평균 응답 시간에 반영되는 window 수
+     */
+    private int longWindow = 100;
+
+    /**
+     * 응답 시간을 모아 한도를 다시 계산하는 주기
+     */
+    private Duration window = Duration.ofMillis(100);
+
+    /**
+     * 한도를 다시 계산하기 위해 window 안에 필요한 최소 응답 수
+     */
+    private int minWindowSamples = 10;
+
+    /**
+     * 거절한 요청에 내려주는 Retry-After
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
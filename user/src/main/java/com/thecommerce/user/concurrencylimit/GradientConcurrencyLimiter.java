@@ -0,0 +1,156 @@
+package com.thecommerce.user.concurrencylimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간의 변화로 동시 처리 한도를 조정하는 Gradient 방식의 동시성 제한기입니다.
+ * 일정 시간(window) 동안 모은 평균 응답 시간(short RTT)을 장기 평균(long RTT)과 비교하여
+ * 응답 시간이 늘어나면 한도를 줄이고, 그대로면 sqrt(limit)만큼 늘립니다.
+ * 처리 중 요청 수가 한도의 절반에도 못 미치는 구간은 한도가 실제로 쓰이지 않은 것이므로 한도를 늘리지 않습니다.
+ */
+public class GradientConcurrencyLimiter {
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longRttAlpha;
+    private final long windowNanos;
+    private final int minWindowSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private volatile double gradient = 1.0;
+    private volatile long lastUpdateNanos;
+
+    // 아래 필드는 this로 동기화합니다.
+    private double longRttNanos;
+    private long windowStartNanos;
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    /**
+     * @param initialLimit     시작 한도
+     * @param minLimit         최소 한도
+     * @param maxLimit         최대 한도
+     * @param smoothing        새 한도를 반영하는 비율 (0 ~ 1)
+     * @param tolerance        장기 평균 대비 허용하는 응답 시간 증가 배율
+     * @param longWindow       장기 평균에 반영되는 window 수
+     * @param windowNanos      응답 시간을 모으는 최소 시간(ns)
+     * @param minWindowSamples 한 window에 필요한 최소 응답 수
+     * @param nowNanos         생성 시각 (System.nanoTime 기준)
+     */
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance,
+            int longWindow, long windowNanos, int minWindowSamples, long nowNanos) {
+        if (minLimit < 1 || maxLimit < minLimit || smoothing <= 0 || smoothing > 1 || tolerance < 1
+                || longWindow < 1) {
+            throw new IllegalArgumentException("invalid concurrency limit settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longRttAlpha = 2.0 / (longWindow + 1);
+        this.windowNanos = windowNanos;
+        this.minWindowSamples = minWindowSamples;
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.windowStartNanos = nowNanos;
+        this.lastUpdateNanos = nowNanos;
+    }
+
+    /**
+     * 현재 한도의 share 비율 안에서 처리 슬롯 하나를 획득합니다.
+     *
+     * @param share 사용할 수 있는 한도의 비율 (0 ~ 1)
+     * @return 획득에 성공하면 이 요청을 포함한 처리 중 요청 수, 실패하면 0을 리턴합니다.
+     */
+    public int tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 응답 시간을 반영하지 않고 슬롯을 반납합니다. (클라이언트 오류 등)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 슬롯을 반납하고 응답 시간을 반영합니다.
+     *
+     * @param rttNanos 요청 처리 시간(ns)
+     * @param inFlightAtStart tryAcquire가 리턴한 처리 중 요청 수
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     */
+    public void release(long rttNanos, int inFlightAtStart, long nowNanos) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            windowRttSumNanos += rttNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+            if (windowSamples < minWindowSamples || nowNanos - windowStartNanos < windowNanos) {
+                return;
+            }
+            double shortRttNanos = Math.max(1.0, (double) windowRttSumNanos / windowSamples);
+            int maxInFlight = windowMaxInFlight;
+            windowStartNanos = nowNanos;
+            windowRttSumNanos = 0;
+            windowSamples = 0;
+            windowMaxInFlight = 0;
+            updateLimit(shortRttNanos, maxInFlight, nowNanos);
+        }
+    }
+
+    private void updateLimit(double shortRttNanos, int maxInFlight, long nowNanos) {
+        if (longRttNanos == 0) {
+            longRttNanos = shortRttNanos;
+        } else {
+            longRttNanos += (shortRttNanos - longRttNanos) * longRttAlpha;
+        }
+        // 응답 시간이 크게 줄어든 경우 장기 평균이 따라오도록 빠르게 낮춥니다.
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        lastUpdateNanos = nowNanos;
+
+        double current = limit;
+        double newGradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double newLimit = current * newGradient + Math.sqrt(current);
+        newLimit = current * (1 - smoothing) + newLimit * smoothing;
+        if (maxInFlight < current / 2) {
+            newLimit = Math.min(current, newLimit);
+        }
+        gradient = newGradient;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 마지막 window의 응답 시간 기울기(0.5 ~ 1)를 리턴합니다. 1보다 작으면 응답 시간이 늘어나고 있는 상태입니다.
+     * staleNanos 동안 갱신되지 않았다면 부하가 없는 것으로 보고 1을 리턴합니다.
+     */
+    public double getGradient(long nowNanos, long staleNanos) {
+        if (nowNanos - lastUpdateNanos > staleNanos) {
+            return 1.0;
+        }
+        return gradient;
+    }
+}
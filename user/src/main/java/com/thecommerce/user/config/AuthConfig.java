@@ -0,0 +1,55 @@
+package com.thecommerce.user.config;
+
+import java.time.Clock;
+import java.util.Base64;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.thecommerce.user.auth.AuthProperties;
+import com.thecommerce.user.auth.SigningKeyHolder;
+import com.thecommerce.user.auth.SigningKeyRotationJob;
+import com.thecommerce.user.auth.TokenService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(AuthProperties.class)
+public class AuthConfig {
+    private static final int MIN_SECRET_BYTES = 32;
+
+    /**
+     * 여러 인스턴스가 같은 토큰을 검증하려면 모든 인스턴스에 같은 thecommerce.auth.secret을 설정해야 합니다.
+     * 설정하지 않으면 인스턴스마다 임의의 키를 생성하므로 단일 인스턴스 또는 개발 환경에서만 사용합니다.
+     */
+    @Bean
+    public SigningKeyHolder signingKeyHolder(AuthProperties properties) {
+        if (properties.getSecret() == null || properties.getSecret().isEmpty()) {
+            log.warn("thecommerce.auth.secret is not set, using a generated signing key for this instance");
+            if (properties.getKeyRotationInterval().compareTo(properties.getTokenTtl()) <= 0) {
+                throw new IllegalStateException("thecommerce.auth.key-rotation-interval must be longer than token-ttl");
+            }
+            return new SigningKeyHolder();
+        }
+        byte[] secret = Base64.getDecoder().decode(properties.getSecret());
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("thecommerce.auth.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return new SigningKeyHolder(secret);
+    }
+
+    @Bean
+    public TokenService tokenService(SigningKeyHolder signingKeyHolder, AuthProperties properties) {
+        return new TokenService(signingKeyHolder, properties, Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${thecommerce.auth.secret:}'.isEmpty()")
+    public SigningKeyRotationJob signingKeyRotationJob(SigningKeyHolder signingKeyHolder) {
+        return new SigningKeyRotationJob(signingKeyHolder);
+    }
+
+}
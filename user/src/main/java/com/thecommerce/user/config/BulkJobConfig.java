@@ -0,0 +1,27 @@
+package com.thecommerce.user.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thecommerce.user.job.BulkJobProperties;
+import com.thecommerce.user.job.UserBulkJobRepository;
+import com.thecommerce.user.job.UserBulkJobRunner;
+import com.thecommerce.user.job.UserBulkJobTargetRepository;
+import com.thecommerce.user.user.UserService;
+
+@Configuration
+@EnableConfigurationProperties(BulkJobProperties.class)
+public class BulkJobConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public UserBulkJobRunner userBulkJobRunner(UserBulkJobRepository userBulkJobRepository,
+            UserBulkJobTargetRepository userBulkJobTargetRepository, UserService userService,
+            PlatformTransactionManager transactionManager, BulkJobProperties properties) {
+        return new UserBulkJobRunner(userBulkJobRepository, userBulkJobTargetRepository, userService,
+                new TransactionTemplate(transactionManager), properties);
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.thecommerce.user.config;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.thecommerce.user.circuitbreaker.CircuitBreaker;
+import com.thecommerce.user.circuitbreaker.CircuitBreakerProperties;
+import com.thecommerce.user.circuitbreaker.RepositoryCircuitBreakerInterceptor;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserSnapshotCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+@EnableConfigurationProperties(CircuitBreakerProperties.class)
+public class CircuitBreakerConfig {
+    private static final String USER_REPOSITORY = "userRepository";
+
+    @Bean
+    public UserSnapshotCache userSnapshotCache(CircuitBreakerProperties properties) {
+        return new UserSnapshotCache(properties.getSnapshot().getMaxEntries(), properties.getSnapshot().getMaxAge(),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "thecommerce.circuit-breaker", name = "enabled", matchIfMissing = true)
+    public CircuitBreaker userRepositoryCircuitBreaker(CircuitBreakerProperties properties) {
+        return new CircuitBreaker(USER_REPOSITORY, properties.getWindowSize(), properties.getMinimumCalls(),
+                properties.getFailureRateThreshold(), properties.getSlowCallDuration().toNanos(),
+                properties.getOpenDuration().toNanos(), properties.getHalfOpenCalls());
+    }
+
+    /**
+     * UserRepository 프록시의 가장 바깥(트랜잭션 시작보다 먼저)에 회로 차단기 interceptor를 추가합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "thecommerce.circuit-breaker", name = "enabled", matchIfMissing = true)
+    public static BeanPostProcessor userRepositoryCircuitBreakerPostProcessor(
+            ObjectProvider<CircuitBreaker> circuitBreaker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof RepositoryFactoryBeanSupport) {
+                    ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(
+                            factory -> factory.addRepositoryProxyPostProcessor((proxyFactory, information) -> {
+                                if (information.getRepositoryInterface() == UserRepository.class) {
+                                    proxyFactory.addAdvice(0, new RepositoryCircuitBreakerInterceptor(
+                                            circuitBreaker.getObject(), USER_REPOSITORY));
+                                }
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 트랜잭션이 시작될 때가 아니라 첫 SQL을 실행할 때 커넥션을 가져오도록 DataSource를 감쌉니다.
+     * 회로가 열려 있으면 저장소 호출이 SQL 실행 전에 거절되므로 요청 스레드가 커넥션 풀에서 기다리지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "thecommerce.circuit-breaker", name = "enabled", matchIfMissing = true)
+    public static BeanPostProcessor lazyConnectionDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new LazyConnectionDataSourceProxy((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder userReadFallbackMetrics(ObjectProvider<CircuitBreaker> circuitBreaker,
+            UserSnapshotCache userSnapshotCache) {
+        return registry -> {
+            circuitBreaker.ifAvailable(breaker -> {
+                Gauge.builder("user.circuit-breaker.state", breaker, b -> b.getState().ordinal())
+                        .description("Circuit breaker state (0 closed, 1 open, 2 half-open)")
+                        .tag("name", USER_REPOSITORY)
+                        .register(registry);
+                FunctionCounter.builder("user.circuit-breaker.not-permitted", breaker,
+                        CircuitBreaker::getNotPermittedCalls)
+                        .description("Calls rejected without reaching the database")
+                        .tag("name", USER_REPOSITORY)
+                        .register(registry);
+            });
+            FunctionCounter.builder("user.read.stale", userSnapshotCache, UserSnapshotCache::getStaleResponses)
+                    .description("Read responses served from the last-known-good snapshot")
+                    .register(registry);
+        };
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.thecommerce.user.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.thecommerce.user.concurrencylimit.ConcurrencyLimitFilter;
+import com.thecommerce.user.concurrencylimit.ConcurrencyLimitProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "thecommerce.concurrency-limit", name = "enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    /**
+     * 요청 수 제한에 걸린 요청이 처리 슬롯을 차지하거나 응답 시간 측정을 왜곡하지 않도록
+     * RateLimitFilter 다음, 인증과 역직렬화보다 먼저 필터를 등록합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/user/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        return registration;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.thecommerce.user.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.thecommerce.user.directory.UserDirectory;
+import com.thecommerce.user.directory.UserDirectoryProperties;
+import com.thecommerce.user.directory.UserDirectoryUpdater;
+import com.thecommerce.user.user.UserRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+@EnableConfigurationProperties(UserDirectoryProperties.class)
+public class DirectoryConfig {
+
+    /**
+     * thecommerce.directory.enabled가 false이면 디렉터리를 채우지 않으므로 isReady()가 항상 false이며,
+     * UserController는 기존처럼 UserService로 조회합니다.
+     */
+    @Bean
+    public UserDirectory userDirectory(UserDirectoryProperties properties) {
+        return new UserDirectory(properties.isEnabled() ? properties.getInitialCapacity() : 0);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "thecommerce.directory", name = "enabled")
+    public UserDirectoryUpdater userDirectoryUpdater(UserDirectory userDirectory, UserRepository userRepository) {
+        return new UserDirectoryUpdater(userDirectory, userRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "thecommerce.directory", name = "enabled")
+    public MeterBinder userDirectoryMetrics(UserDirectory userDirectory) {
+        return registry -> {
+            Gauge.builder("user.directory.size", userDirectory, UserDirectory::size)
+                    .description("Users held in the in-memory directory")
+                    .register(registry);
+            Gauge.builder("user.directory.bytes", userDirectory, UserDirectory::estimatedBytes)
+                    .description("Bytes allocated by the in-memory directory arrays")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.thecommerce.user.config;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thecommerce.user.crypto.EncryptionProperties;
+import com.thecommerce.user.crypto.FieldEncryption;
+import com.thecommerce.user.user.UserFieldReencryption;
+import com.thecommerce.user.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(EncryptionProperties.class)
+public class EncryptionConfig {
+    private static final Profiles GENERATED_KEY_PROFILES = Profiles.of("dev", "test");
+
+    private final EncryptionProperties properties;
+    private final Environment environment;
+
+    /**
+     * 여러 인스턴스가 같은 데이터를 읽으려면 모든 인스턴스에 같은 thecommerce.encryption.keys, blind-index-key를
+     * 설정해야 합니다. 설정하지 않으면 프로세스마다 임의의 키를 생성하므로 재시작하면 이전 데이터를 읽을 수 없습니다.
+     * 그래서 임의의 키는 인메모리 데이터베이스를 사용하는 dev, test 프로필에서만 허용하고,
+     * 그 외 프로필에서 키가 없으면 시작하지 않습니다.
+     */
+    @PostConstruct
+    public void configureFieldEncryption() {
+        boolean generatedKeysAllowed = environment.acceptsProfiles(GENERATED_KEY_PROFILES);
+        byte[] blindIndexKey = null;
+        if (properties.getBlindIndexKey() == null || properties.getBlindIndexKey().isEmpty()) {
+            requireGeneratedKeysAllowed(generatedKeysAllowed, "thecommerce.encryption.blind-index-key");
+            log.warn("thecommerce.encryption.blind-index-key is not set, using a generated key for this instance");
+        } else {
+            blindIndexKey = Base64.getDecoder().decode(properties.getBlindIndexKey());
+        }
+
+        if (properties.getKeys().isEmpty()) {
+            requireGeneratedKeysAllowed(generatedKeysAllowed, "thecommerce.encryption.keys");
+            log.warn("thecommerce.encryption.keys is not set, using a generated encryption key for this instance");
+            if (blindIndexKey != null) {
+                FieldEncryption.configure(new HashMap<>(), FieldEncryption.activeKeyId(), blindIndexKey);
+            }
+            return;
+        }
+        Map<Integer, byte[]> keys = new HashMap<>();
+        properties.getKeys().forEach((keyId, key) -> keys.put(keyId, Base64.getDecoder().decode(key)));
+        if (!keys.containsKey(properties.getActiveKeyId())) {
+            throw new IllegalStateException("thecommerce.encryption.active-key-id must be one of keys");
+        }
+        FieldEncryption.configure(keys, properties.getActiveKeyId(), blindIndexKey);
+    }
+
+    private static void requireGeneratedKeysAllowed(boolean generatedKeysAllowed, String property) {
+        if (!generatedKeysAllowed) {
+            throw new IllegalStateException(property + " must be set outside the dev and test profiles");
+        }
+    }
+
+    @Bean
+    public UserFieldReencryption userFieldReencryption(UserRepository userRepository,
+            PlatformTransactionManager transactionManager) {
+        return new UserFieldReencryption(userRepository, new TransactionTemplate(transactionManager),
+                properties.getReencryptBatchSize());
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.thecommerce.user.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.thecommerce.user.user.GroupCommitProperties;
+import com.thecommerce.user.user.UserJoinBatcher;
+import com.thecommerce.user.user.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(GroupCommitProperties.class)
+public class GroupCommitConfig {
+
+    /**
+     * thecommerce.group-commit.enabled가 false이면 writer 스레드를 시작하지 않으며,
+     * UserController는 기존처럼 요청마다 UserService.save를 호출합니다.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public UserJoinBatcher userJoinBatcher(UserService userService, GroupCommitProperties properties,
+            MeterRegistry meterRegistry) {
+        return new UserJoinBatcher(userService, properties, meterRegistry);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.thecommerce.user.config;
+
+import java.net.URI;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserCacheProperties;
+import com.thecommerce.user.user.UserRepository;
+
+@Configuration
+@EnableConfigurationProperties(UserCacheProperties.class)
+public class HibernateCacheConfig {
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final long UPDATE_TIMESTAMPS_MAX_ENTRIES = 1_000;
+
+    /**
+     * Hibernate 2차 캐시가 사용할 Ehcache 영역을 미리 만듭니다.
+     * 영역 이름이 어긋나면 크기 제한이 없는 기본 영역이 생기지 않도록
+     * hibernate.javax.cache.missing_cache_strategy를 fail로 설정합니다.
+     *
+     * 쿼리 결과는 update timestamps 영역의 테이블 수정 시각보다 오래된 경우 사용되지 않으므로,
+     * timestamps 영역은 만료나 축출이 일어나지 않도록 따로 구성합니다.
+     * 같은 JVM의 다른 애플리케이션 컨텍스트(테스트 등)와 영역을 공유하지 않도록 컨텍스트마다 별도의 URI를 사용합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(UserCacheProperties properties) {
+        CacheConfiguration<Object, Object> region = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(properties.getMaxEntries()))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(properties.getTimeToLive()))
+                .build();
+        CacheConfiguration<Object, Object> updateTimestamps = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(UPDATE_TIMESTAMPS_MAX_ENTRIES))
+                .withExpiry(ExpiryPolicyBuilder.noExpiration())
+                .build();
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("thecommerce-hibernate-" + UUID.randomUUID()),
+                ConfigurationBuilder.newConfigurationBuilder()
+                        .withClassLoader(getClass().getClassLoader())
+                        .withCache(User.CACHE_REGION, region)
+                        .withCache(UserRepository.LOOKUP_CACHE_REGION, region)
+                        .withCache(QUERY_RESULTS_REGION, region)
+                        .withCache(UPDATE_TIMESTAMPS_REGION, updateTimestamps)
+                        .build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.thecommerce.user.config;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import com.thecommerce.user.profiling.ContinuousRecording;
+import com.thecommerce.user.profiling.JfrEndpoint;
+import com.thecommerce.user.profiling.JfrProperties;
+import com.thecommerce.user.profiling.RepositoryCallEventInterceptor;
+
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+@ConditionalOnProperty(prefix = "thecommerce.jfr", name = "enabled", matchIfMissing = true)
+public class JfrConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ContinuousRecording continuousRecording(JfrProperties properties) {
+        return new ContinuousRecording(properties);
+    }
+
+    @Bean
+    public JfrEndpoint jfrEndpoint(ContinuousRecording continuousRecording, JfrProperties properties) {
+        return new JfrEndpoint(continuousRecording, properties);
+    }
+
+    /**
+     * 모든 Spring Data 저장소 프록시에 RepositoryCallEvent를 기록하는 interceptor를 추가합니다.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryCallEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof RepositoryFactoryBeanSupport) {
+                    ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(
+                            factory -> factory.addRepositoryProxyPostProcessor((proxyFactory, information) -> proxyFactory
+                                    .addAdvice(new RepositoryCallEventInterceptor(
+                                            information.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.thecommerce.user.config;
+
+import java.nio.file.Paths;
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.outbox.FileUserChangeEventSink;
+import com.thecommerce.user.outbox.InMemoryUserChangeEventSink;
+import com.thecommerce.user.outbox.OutboxProperties;
+import com.thecommerce.user.outbox.UserChangeEventSink;
+import com.thecommerce.user.outbox.UserOutboxRelay;
+import com.thecommerce.user.outbox.UserOutboxRepository;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(UserChangeEventSink.class)
+    public UserChangeEventSink userChangeEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        if ("memory".equals(properties.getSink())) {
+            return new InMemoryUserChangeEventSink();
+        }
+        return new FileUserChangeEventSink(Paths.get(properties.getFile()), objectMapper,
+                properties.getMaxFileSize().toBytes(), properties.getMaxFiles());
+    }
+
+    @Bean
+    public UserOutboxRelay userOutboxRelay(UserOutboxRepository userOutboxRepository, UserChangeEventSink sink,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager, OutboxProperties properties) {
+        return new UserOutboxRelay(userOutboxRepository, sink, objectMapper,
+                new TransactionTemplate(transactionManager), properties.getBatchSize(), Clock.systemDefaultZone(),
+                properties.getRelayLag());
+    }
+
+}
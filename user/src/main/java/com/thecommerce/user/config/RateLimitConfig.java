@@ -0,0 +1,33 @@
+package com.thecommerce.user.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.thecommerce.user.ratelimit.RateLimitFilter;
+import com.thecommerce.user.ratelimit.RateLimitProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "thecommerce.rate-limit", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    /**
+     * 인증, 역직렬화보다 먼저 요청을 거절할 수 있도록 Idempotency-Key 처리 바로 다음에 필터를 등록합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/user/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+}
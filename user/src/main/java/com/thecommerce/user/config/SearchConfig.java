@@ -0,0 +1,25 @@
+package com.thecommerce.user.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.thecommerce.user.search.FullTextSearchProperties;
+import com.thecommerce.user.search.UserFullTextIndex;
+import com.thecommerce.user.search.UserPrefixIndex;
+
+@Configuration
+@EnableConfigurationProperties(FullTextSearchProperties.class)
+public class SearchConfig {
+
+    @Bean
+    public UserPrefixIndex userPrefixIndex() {
+        return new UserPrefixIndex();
+    }
+
+    @Bean(destroyMethod = "close")
+    public UserFullTextIndex userFullTextIndex(FullTextSearchProperties properties) {
+        return new UserFullTextIndex(properties);
+    }
+
+}
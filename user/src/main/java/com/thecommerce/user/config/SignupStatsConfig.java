@@ -0,0 +1,33 @@
+package com.thecommerce.user.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thecommerce.user.stats.SignupHourlyCountRepository;
+import com.thecommerce.user.stats.SignupStats;
+import com.thecommerce.user.stats.SignupStatsProperties;
+
+@Configuration
+@EnableConfigurationProperties(SignupStatsProperties.class)
+public class SignupStatsConfig {
+
+    /**
+     * 종료 시 남은 증가분을 rollup 테이블에 반영합니다.
+     */
+    @Bean(destroyMethod = "flush")
+    public SignupStats signupStats(SignupHourlyCountRepository signupHourlyCountRepository,
+            PlatformTransactionManager transactionManager, SignupStatsProperties properties) {
+        Duration rebuildLag = properties.getRebuildLag().compareTo(properties.getFlushInterval()) > 0
+                ? properties.getRebuildLag()
+                : properties.getFlushInterval();
+        return new SignupStats(signupHourlyCountRepository, new TransactionTemplate(transactionManager),
+                Clock.systemDefaultZone(), rebuildLag);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.thecommerce.user.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.startup.CdsTrainingRunListener;
+import com.thecommerce.user.startup.JitWarmupRunner;
+import com.thecommerce.user.startup.StartupProperties;
+import com.thecommerce.user.startup.WarmupProperties;
+import com.thecommerce.user.user.UserController;
+
+@Configuration
+@EnableConfigurationProperties({ StartupProperties.class, WarmupProperties.class })
+public class StartupConfig {
+
+    /**
+     * spring.main.lazy-initialization을 켜더라도 이 애플리케이션의 빈(컨트롤러, 필터, 스케줄러, 인덱스)은
+     * 즉시 초기화합니다. 스케줄 작업과 시작 시 인덱스 적재가 누락되지 않도록 하고,
+     * 지연 초기화는 첫 요청에 필요 없는 프레임워크 빈(Actuator 엔드포인트, 문서화 등)에만 적용합니다.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter applicationBeansLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && beanType.getName().startsWith("com.thecommerce.user.");
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "thecommerce.startup", name = "exit-after-ready", havingValue = "true")
+    public CdsTrainingRunListener cdsTrainingRunListener() {
+        return new CdsTrainingRunListener();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "thecommerce.warmup", name = "enabled", havingValue = "true")
+    public JitWarmupRunner jitWarmupRunner(UserController userController, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager, WarmupProperties properties) {
+        return new JitWarmupRunner(userController, objectMapper, new TransactionTemplate(transactionManager),
+                properties);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.thecommerce.user.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.stream.UserChangeBroadcaster;
+import com.thecommerce.user.stream.UserStreamProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+@EnableConfigurationProperties(UserStreamProperties.class)
+public class StreamConfig {
+
+    /**
+     * 종료 시 열려 있는 스트림을 모두 닫습니다.
+     */
+    @Bean(destroyMethod = "close")
+    public UserChangeBroadcaster userChangeBroadcaster(ObjectMapper objectMapper, UserStreamProperties properties) {
+        return new UserChangeBroadcaster(objectMapper, properties.getBufferSize(), properties.getMaxSubscribers(),
+                properties.getSenderThreads());
+    }
+
+    @Bean
+    public MeterBinder userStreamMetrics(UserChangeBroadcaster userChangeBroadcaster) {
+        return registry -> {
+            Gauge.builder("user.stream.subscribers", userChangeBroadcaster, UserChangeBroadcaster::subscriberCount)
+                    .description("Open user change streams")
+                    .register(registry);
+            FunctionCounter.builder("user.stream.dropped", userChangeBroadcaster,
+                    UserChangeBroadcaster::droppedCount)
+                    .description("User change events dropped for slow stream subscribers")
+                    .register(registry);
+        };
+    }
+
+}
@@ -1,21 +1,60 @@
 package com.thecommerce.user.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import com.thecommerce.user.auth.AuthProperties;
+import com.thecommerce.user.auth.TokenAuthenticationFilter;
+import com.thecommerce.user.auth.TokenService;
+import com.thecommerce.user.user.UserService;
+
+import lombok.RequiredArgsConstructor;
 
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
+    private final TokenService tokenService;
+    private final AuthProperties authProperties;
+    private final UserService userService;
 
+    /**
+     * 세션을 만들지 않고 요청마다 Bearer 토큰으로 인증합니다.
+     * 컨트롤러 경로에 대한 규칙은 Spring MVC와 같은 방식으로 매칭하도록 mvcMatchers를 사용합니다.
+     * antMatchers는 끝에 '/'가 붙은 경로(/api/user/{loginId}/)를 매칭하지 않아 규칙을 우회할 수 있습니다.
+     * 회원 정보 수정, 탈퇴는 본인 또는 ADMIN만, 회원 일괄 작업과 Actuator(health, info 제외)는 ADMIN만 호출할 수 있습니다.
+     */
     @Override
     protected void configure(HttpSecurity httpSecurity) throws Exception {
         httpSecurity.cors(cors -> cors.disable())
                 .csrf(csrf -> csrf.disable())
                 .formLogin(login -> login.disable())
-                .headers(headers -> headers.frameOptions().disable());
+                .httpBasic(basic -> basic.disable())
+                .headers(headers -> headers.frameOptions().disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService, userService,
+                        authProperties.getAdminUserIds()),
+                        UsernamePasswordAuthenticationFilter.class)
+                .authorizeRequests(authorize -> authorize
+                        .mvcMatchers("/api/user/bulk-jobs/**").hasRole("ADMIN")
+                        .mvcMatchers("/api/user/stream").hasRole("ADMIN")
+                        .mvcMatchers("/api/user/stats/**").hasRole("ADMIN")
+                        .mvcMatchers(HttpMethod.PUT, "/api/user/{loginId}")
+                        .access("isAuthenticated() and (#loginId == authentication.name or hasRole('ADMIN'))")
+                        .mvcMatchers(HttpMethod.DELETE, "/api/user/{loginId}")
+                        .access("isAuthenticated() and (#loginId == authentication.name or hasRole('ADMIN'))")
+                        .antMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                        .antMatchers("/actuator/**").hasRole("ADMIN")
+                        .anyRequest().permitAll());
     }
 
 }
-
@@ -0,0 +1,22 @@
+package com.thecommerce.user.crypto;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * 문자열 컬럼을 FieldEncryption으로 암호화하여 저장하고, 읽을 때 복호화합니다.
+ * 같은 값도 저장할 때마다 IV가 달라 암호문이 달라지므로 이 컬럼으로는 조회하지 않고 blind index 컬럼으로 조회합니다.
+ */
+@Converter
+public class EncryptedStringConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return FieldEncryption.encrypt(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return FieldEncryption.decrypt(dbData);
+    }
+}
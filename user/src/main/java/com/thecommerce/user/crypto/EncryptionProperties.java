@@ -0,0 +1,33 @@
+package com.thecommerce.user.crypto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.encryption")
+public class EncryptionProperties {
+
+    /**
+     * 키 번호별 AES-256 키(Base64), 비어 있으면 dev, test 프로필에서만 프로세스마다 임의의 키를 사용합니다.
+     * 키를 교체할 때는 새 키를 추가하고 active-key-id를 바꾸며, 재암호화가 끝날 때까지 이전 키를 남겨 둡니다.
+     */
+    private Map<Integer, String> keys = new LinkedHashMap<>();
+
+    private int activeKeyId = 1;
+
+    /**
+     * blind index HMAC 키(Base64), 바꾸면 기존 조회용 해시로 회원을 찾을 수 없으므로 교체하지 않습니다.
+     */
+    private String blindIndexKey = "";
+
+    /**
+     * 이전 키로 암호화된 회원을 현재 키로 다시 암호화할 때 한 트랜잭션에서 처리할 회원 수
+     */
+    private int reencryptBatchSize = 500;
+}
@@ -0,0 +1,217 @@
+package com.thecommerce.user.crypto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 개인정보 컬럼(이메일, 전화번호)의 AES-GCM 암호화와 동등 비교 조회용 blind index(HMAC-SHA256)를 제공합니다.
+ *
+ * JPA AttributeConverter와 엔티티 콜백은 Spring 빈을 주입받지 못하므로 키를 정적으로 보관합니다.
+ * 키는 EncryptionConfig가 시작 시 설정하며, 설정이 없으면 (dev, test 프로필에서만) 프로세스마다 임의의 키를 사용합니다.
+ * 키 번호별 키와 현재 키 번호, blind index 키를 하나의 불변 객체로 묶어 AtomicReference로 교체합니다.
+ *
+ * 암호문은 "E1.{키 번호}.{Base64(IV 12바이트 + 암호문 + 태그 16바이트)}" 형식의 문자열입니다.
+ * Cipher, Mac, SecureRandom은 생성 비용이 크고 스레드 안전하지 않으므로 스레드마다 하나씩 만들어 재사용합니다.
+ */
+public final class FieldEncryption {
+    public static final int BLIND_INDEX_LENGTH = 16;
+
+    private static final String PREFIX = "E1.";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String BLIND_INDEX_ALGORITHM = "HmacSHA256";
+    private static final int KEY_BYTES = 32;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final AtomicReference<KeyRing> KEYS = new AtomicReference<>(
+            new KeyRing(Collections.singletonMap(1, aesKey(generateKey())), 1, hmacKey(generateKey())));
+
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+    private static final ThreadLocal<SecureRandom> RANDOMS = ThreadLocal.withInitial(SecureRandom::new);
+    private static final ThreadLocal<KeyedMac> MACS = new ThreadLocal<>();
+
+    private FieldEncryption() {
+    }
+
+    /**
+     * 암호화 키를 추가하고 현재 키를 바꿉니다. 이전 키로 암호화된 값을 계속 복호화할 수 있도록 기존 키는 유지합니다.
+     *
+     * @param keys          키 번호별 AES 키(32바이트)
+     * @param activeKeyId   새로 암호화할 때 사용할 키 번호
+     * @param blindIndexKey blind index HMAC 키, null이면 기존 키를 유지합니다.
+     */
+    public static void configure(Map<Integer, byte[]> keys, int activeKeyId, byte[] blindIndexKey) {
+        KEYS.updateAndGet(current -> {
+            Map<Integer, SecretKey> merged = new HashMap<>(current.keys);
+            keys.forEach((keyId, key) -> merged.put(keyId, aesKey(key)));
+            if (!merged.containsKey(activeKeyId)) {
+                throw new IllegalArgumentException("unknown encryption key id: " + activeKeyId);
+            }
+            return new KeyRing(merged, activeKeyId,
+                    blindIndexKey == null ? current.blindIndexKey : hmacKey(blindIndexKey));
+        });
+    }
+
+    public static int activeKeyId() {
+        return KEYS.get().activeKeyId;
+    }
+
+    /**
+     * @return 현재 키로 암호화한 값, 입력이 null이면 null
+     */
+    public static String encrypt(String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        KeyRing keyRing = KEYS.get();
+        byte[] iv = new byte[IV_BYTES];
+        RANDOMS.get().nextBytes(iv);
+        try {
+            Cipher cipher = CIPHERS.get();
+            cipher.init(Cipher.ENCRYPT_MODE, keyRing.keys.get(keyRing.activeKeyId), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer output = ByteBuffer.allocate(IV_BYTES + cipher.getOutputSize(input.length));
+            output.put(iv);
+            cipher.doFinal(ByteBuffer.wrap(input), output);
+            return PREFIX + keyRing.activeKeyId + "." + Base64.getEncoder().encodeToString(output.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("field encryption failed", e);
+        }
+    }
+
+    /**
+     * 암호문을 복호화합니다. 암호화 형식이 아닌 값은 암호화 도입 전에 저장된 평문으로 보고 그대로 리턴합니다.
+     *
+     * @return 복호화한 값, 입력이 null이면 null
+     * @throws IllegalStateException 키가 없거나 암호문이 변조된 경우
+     */
+    public static String decrypt(String stored) {
+        int keyId = keyIdOf(stored);
+        if (keyId < 0) {
+            return stored;
+        }
+        SecretKey key = KEYS.get().keys.get(keyId);
+        if (key == null) {
+            throw new IllegalStateException("unknown encryption key id: " + keyId);
+        }
+        byte[] payload;
+        try {
+            payload = Base64.getDecoder().decode(stored.substring(stored.indexOf('.', PREFIX.length()) + 1));
+        } catch (IllegalArgumentException e) {
+            return stored;
+        }
+        try {
+            Cipher cipher = CIPHERS.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, IV_BYTES));
+            return new String(cipher.doFinal(payload, IV_BYTES, payload.length - IV_BYTES), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("field decryption failed", e);
+        }
+    }
+
+    /**
+     * @return 암호문의 키 번호, 암호화 형식이 아니면 -1
+     */
+    public static int keyIdOf(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) {
+            return -1;
+        }
+        int end = stored.indexOf('.', PREFIX.length());
+        if (end < 0) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(stored.substring(PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 정규화한 값의 HMAC-SHA256 앞 16바이트를 만듭니다. 키 없이 계산할 수 없으므로 단순 해시와 달리
+     * 흔한 이메일 목록으로 대입해 보는 방식으로 값을 알아낼 수 없고, 같은 값은 같은 결과가 나와 unique 인덱스로 조회합니다.
+     *
+     * @param normalized 정규화한 값
+     * @return blind index, 입력이 null이면 null
+     */
+    public static byte[] blindIndex(String normalized) {
+        if (normalized == null) {
+            return null;
+        }
+        SecretKey key = KEYS.get().blindIndexKey;
+        KeyedMac keyedMac = MACS.get();
+        if (keyedMac == null || keyedMac.key != key) {
+            try {
+                Mac mac = Mac.getInstance(BLIND_INDEX_ALGORITHM);
+                mac.init(key);
+                keyedMac = new KeyedMac(key, mac);
+                MACS.set(keyedMac);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return Arrays.copyOf(keyedMac.mac.doFinal(normalized.getBytes(StandardCharsets.UTF_8)), BLIND_INDEX_LENGTH);
+    }
+
+    private static byte[] generateKey() {
+        byte[] key = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static SecretKey aesKey(byte[] key) {
+        if (key.length != KEY_BYTES) {
+            throw new IllegalArgumentException("encryption key must be " + KEY_BYTES + " bytes");
+        }
+        return new SecretKeySpec(key, "AES");
+    }
+
+    private static SecretKey hmacKey(byte[] key) {
+        if (key.length < KEY_BYTES) {
+            throw new IllegalArgumentException("blind index key must be at least " + KEY_BYTES + " bytes");
+        }
+        return new SecretKeySpec(key, BLIND_INDEX_ALGORITHM);
+    }
+
+    private static final class KeyRing {
+        private final Map<Integer, SecretKey> keys;
+        private final int activeKeyId;
+        private final SecretKey blindIndexKey;
+
+        private KeyRing(Map<Integer, SecretKey> keys, int activeKeyId, SecretKey blindIndexKey) {
+            this.keys = keys;
+            this.activeKeyId = activeKeyId;
+            this.blindIndexKey = blindIndexKey;
+        }
+    }
+
+    private static final class KeyedMac {
+        private final SecretKey key;
+        private final Mac mac;
+
+        private KeyedMac(SecretKey key, Mac mac) {
+            this.key = key;
+            this.mac = mac;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.thecommerce.user.crypto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.thecommerce.user.user.UserFieldReencryption;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 개인정보 컬럼 암호화 키 상태 조회와 재암호화를 위한 Actuator 엔드포인트입니다.
+ * POST /actuator/fieldencryption 로 이전 키로 암호화된 회원을 현재 키로 다시 암호화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "fieldencryption")
+public class FieldEncryptionEndpoint {
+    private final UserFieldReencryption userFieldReencryption;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("activeKeyId", FieldEncryption.activeKeyId());
+        status.put("pendingUsers", userFieldReencryption.countPending());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> reencrypt() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("activeKeyId", FieldEncryption.activeKeyId());
+        result.put("reencryptedUsers", userFieldReencryption.reencrypt());
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package com.thecommerce.user.directory;
+
+import java.util.Arrays;
+
+/**
+ * long 키를 int 값으로 매핑하는 open addressing(linear probing) 해시 맵입니다.
+ * HashMap<Long, Integer>와 달리 키, 값을 박싱하지 않고 원시 타입 배열 두 개에 저장합니다.
+ * Long.MIN_VALUE는 빈 칸 표시로 사용하므로 키로 사용할 수 없습니다.
+ *
+ * 동기화하지 않으므로 UserDirectory의 잠금 안에서만 사용합니다.
+ */
+public class LongIntHashMap {
+    public static final int MISSING = -1;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    public LongIntHashMap(int initialCapacity) {
+        int length = Integer.highestOneBit(Math.max(16, initialCapacity * 2) - 1) << 1;
+        this.keys = new long[length];
+        this.values = new int[length];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * @return key에 매핑된 값, 없으면 MISSING
+     */
+    public int get(long key) {
+        if (key == EMPTY) {
+            return MISSING;
+        }
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask;; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE cannot be used as a key");
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != EMPTY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == EMPTY) {
+            keys[i] = key;
+            size++;
+        }
+        values[i] = value;
+        if (size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * key를 삭제합니다. 삭제한 칸 뒤의 같은 클러스터에 있는 키를 앞으로 옮겨(backward shift)
+     * 삭제 표시(tombstone) 없이 탐색이 끊기지 않도록 합니다.
+     */
+    public void remove(long key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != key) {
+            if (keys[i] == EMPTY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        size--;
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = hash(keys[j]) & mask;
+            // home이 (i, j] 구간 밖에 있으면 j의 키를 빈 칸 i로 옮겨도 탐색 경로가 유지됩니다.
+            if (i <= j ? (home <= i || home > j) : (home <= i && home > j)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long estimatedBytes() {
+        return 8L * keys.length + 4L * values.length;
+    }
+
+    private void rehash(int newLength) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[newLength];
+        values = new int[newLength];
+        Arrays.fill(keys, EMPTY);
+        int mask = newLength - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY) {
+                int i = hash(oldKeys[j]) & mask;
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,171 @@
+package com.thecommerce.user.directory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 문자열을 UTF-8 바이트로 하나의 배열에 이어 붙여 저장하고 int 번호로 참조하는 문자열 풀입니다.
+ * 같은 문자열은 한 번만 저장됩니다. 문자열마다 String 객체와 char 배열을 두는 것보다
+ * 객체 헤더와 참조가 없으므로 메모리를 적게 사용합니다.
+ *
+ * 동기화하지 않으므로 UserDirectory의 잠금 안에서만 사용합니다.
+ */
+public class StringPool {
+    public static final int NONE = -1;
+
+    private byte[] data;
+    private int dataLength;
+    private int[] offsets;
+    private int size;
+    private int[] table;
+
+    public StringPool(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.data = new byte[capacity * 16];
+        this.offsets = new int[capacity + 1];
+        this.table = new int[tableSizeFor(capacity)];
+        Arrays.fill(table, NONE);
+    }
+
+    /**
+     * value를 풀에 추가하고 번호를 리턴합니다. 이미 있는 문자열이면 기존 번호를 리턴합니다.
+     *
+     * @return 문자열 번호, value가 null이면 NONE
+     */
+    public int intern(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int mask = table.length - 1;
+        for (int i = hash(bytes) & mask;; i = (i + 1) & mask) {
+            int id = table[i];
+            if (id == NONE) {
+                id = append(bytes);
+                table[i] = id;
+                if (size * 2 > table.length) {
+                    rehash(table.length * 2);
+                }
+                return id;
+            }
+            if (matches(id, bytes)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * @return value의 번호, 풀에 없으면 NONE
+     */
+    public int find(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int mask = table.length - 1;
+        for (int i = hash(bytes) & mask;; i = (i + 1) & mask) {
+            int id = table[i];
+            if (id == NONE || matches(id, bytes)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * @return 번호에 해당하는 문자열, NONE이면 null
+     */
+    public String get(int id) {
+        if (id == NONE) {
+            return null;
+        }
+        return new String(data, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 두 문자열을 UTF-8 바이트 순서(유니코드 코드 포인트 순서)로 비교합니다. NONE(null)이 가장 앞에 옵니다.
+     */
+    public int compare(int a, int b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == NONE || b == NONE) {
+            return a == NONE ? -1 : 1;
+        }
+        int i = offsets[a];
+        int aEnd = offsets[a + 1];
+        int j = offsets[b];
+        int bEnd = offsets[b + 1];
+        for (; i < aEnd && j < bEnd; i++, j++) {
+            int diff = (data[i] & 0xff) - (data[j] & 0xff);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (aEnd - offsets[a]) - (bEnd - offsets[b]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long estimatedBytes() {
+        return (long) data.length + 4L * offsets.length + 4L * table.length;
+    }
+
+    private int append(byte[] bytes) {
+        if (dataLength + bytes.length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + bytes.length));
+        }
+        if (size + 2 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        System.arraycopy(bytes, 0, data, dataLength, bytes.length);
+        dataLength += bytes.length;
+        int id = size++;
+        offsets[id + 1] = dataLength;
+        return id;
+    }
+
+    private boolean matches(int id, byte[] bytes) {
+        int start = offsets[id];
+        if (offsets[id + 1] - start != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (data[start + i] != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash(int newLength) {
+        int[] newTable = new int[newLength];
+        Arrays.fill(newTable, NONE);
+        int mask = newLength - 1;
+        for (int id = 0; id < size; id++) {
+            int i = hash(data, offsets[id], offsets[id + 1]) & mask;
+            while (newTable[i] != NONE) {
+                i = (i + 1) & mask;
+            }
+            newTable[i] = id;
+        }
+        table = newTable;
+    }
+
+    private static int hash(byte[] bytes) {
+        return hash(bytes, 0, bytes.length);
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int h = 0x811c9dc5;
+        for (int i = from; i < to; i++) {
+            h = (h ^ (bytes[i] & 0xff)) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(Math.max(16, capacity * 2) - 1) << 1;
+    }
+}
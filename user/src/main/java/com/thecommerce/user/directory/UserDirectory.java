@@ -0,0 +1,512 @@
+package com.thecommerce.user.directory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.thecommerce.user.user.userDTO.UserBatchGetResultDTO;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+/**
+ * 회원 목록, 일괄 조회를 JPA 없이 처리하기 위한 메모리 회원 디렉터리입니다. 비밀번호 해시는 보관하지 않습니다.
+ *
+ * 회원 한 명을 32바이트 고정 길이 레코드로 하나의 byte 배열에 저장하고, 문자열은 StringPool 번호로 참조합니다.
+ * userIndex와 userId는 원시 타입 해시 맵으로 레코드 번호(slot)를 찾고,
+ * 가입일순, 이름순 목록은 slot을 정렬해 둔 int 배열 두 개로 페이지를 바로 잘라 냅니다.
+ * 회원마다 엔티티, String, LocalDateTime 객체를 두는 것보다 객체 헤더와 참조가 없어 메모리를 적게 사용합니다.
+ *
+ * 쓰기는 StampedLock 쓰기 잠금 안에서 하고, 읽기는 낙관적 읽기로 먼저 시도한 뒤
+ * 그 사이 쓰기가 있었으면 읽기 잠금을 잡고 다시 읽습니다.
+ */
+public class UserDirectory {
+    private static final int RECORD_SIZE = 32;
+    private static final int USER_INDEX = 0;
+    private static final int CREATE_DATE = 8;
+    private static final int USER_ID = 16;
+    private static final int USER_NAME = 20;
+    private static final int EMAIL = 24;
+    private static final int PHONE_NUMBER = 28;
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final Sort CREATE_DATE_DESC = Sort.by(Sort.Order.desc("createDate"));
+    private static final Sort USER_NAME_ASC = Sort.by(Sort.Order.asc("userName"));
+    private static final Sort CREATE_DATE_DESC_USER_NAME_ASC = Sort.by(
+            Sort.Order.desc("createDate"), Sort.Order.asc("userName"));
+
+    private final StampedLock lock = new StampedLock();
+    private final LongIntHashMap slotByUserIndex;
+    private LongIntHashMap slotByUserId;
+    private StringPool strings;
+    private byte[] records;
+    private int count;
+
+    /**
+     * (createDate 오름차순, userName 내림차순, userIndex 내림차순)으로 정렬한 slot 배열입니다.
+     * 뒤에서부터 읽으면 가입일 최신순, 같은 가입일이면 이름순이 됩니다.
+     */
+    private int[] byCreateDate;
+
+    /**
+     * (userName 오름차순, userIndex 오름차순)으로 정렬한 slot 배열입니다.
+     */
+    private int[] byUserName;
+
+    /**
+     * 시작 시 전체 적재가 끝나기 전에는 정렬 배열을 유지하지 않고 finishLoad에서 한 번에 정렬합니다.
+     */
+    private boolean sorted;
+    private volatile boolean ready;
+
+    /**
+     * 전체 적재 도중 삭제된 회원 번호입니다. 적재가 아직 읽지 않은 회원이 먼저 삭제되면
+     * 나중에 읽은 이전 상태로 putIfAbsent가 되살리지 않도록 finishLoad까지 보관합니다.
+     */
+    private Set<Long> removedDuringLoad = new HashSet<>();
+
+    public UserDirectory(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.slotByUserIndex = new LongIntHashMap(capacity);
+        this.slotByUserId = new LongIntHashMap(capacity);
+        this.strings = new StringPool(capacity * 4);
+        this.records = new byte[capacity * RECORD_SIZE];
+        this.byCreateDate = new int[capacity];
+        this.byUserName = new int[capacity];
+    }
+
+    /**
+     * 회원 정보를 추가하거나, 이미 있는 회원이면 새 정보로 교체합니다.
+     *
+     * @param user 회원 정보
+     */
+    public void put(UserListDTO user) {
+        write(user, true);
+    }
+
+    /**
+     * 디렉터리에 없는 회원만 추가합니다. 시작 시 전체 적재 도중 들어온 변경 내용을 덮어쓰지 않기 위해 사용합니다.
+     * 적재 도중 삭제된 회원은 추가하지 않습니다.
+     *
+     * @param user 회원 정보
+     */
+    public void putIfAbsent(UserListDTO user) {
+        write(user, false);
+    }
+
+    /**
+     * 회원을 디렉터리에서 삭제합니다. 마지막 레코드를 삭제한 자리로 옮겨 레코드 배열에 빈칸을 남기지 않습니다.
+     *
+     * @param userIndex 회원 번호
+     */
+    public void remove(Long userIndex) {
+        if (userIndex == null) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (removedDuringLoad != null) {
+                removedDuringLoad.add(userIndex);
+            }
+            int slot = slotByUserIndex.get(userIndex);
+            if (slot == LongIntHashMap.MISSING) {
+                return;
+            }
+            int last = count - 1;
+            if (sorted) {
+                remove(byCreateDate, last, slot, this::compareByCreateDate);
+                remove(byUserName, last, slot, this::compareByUserName);
+            }
+            slotByUserIndex.remove(userIndex);
+            if (intAt(slot, USER_ID) != StringPool.NONE) {
+                slotByUserId.remove(intAt(slot, USER_ID));
+            }
+
+            if (slot != last) {
+                System.arraycopy(records, last * RECORD_SIZE, records, slot * RECORD_SIZE, RECORD_SIZE);
+                slotByUserIndex.put(longAt(slot, USER_INDEX), slot);
+                if (intAt(slot, USER_ID) != StringPool.NONE) {
+                    slotByUserId.put(intAt(slot, USER_ID), slot);
+                }
+                if (sorted) {
+                    move(byCreateDate, last, last, slot, this::compareByCreateDate);
+                    move(byUserName, last, last, slot, this::compareByUserName);
+                }
+            }
+            count = last;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 전체 적재가 끝나면 정렬 배열을 만들고 조회를 시작합니다.
+     */
+    public void finishLoad() {
+        long stamp = lock.writeLock();
+        try {
+            for (int slot = 0; slot < count; slot++) {
+                byCreateDate[slot] = slot;
+                byUserName[slot] = slot;
+            }
+            sort(byCreateDate, count, this::compareByCreateDate);
+            sort(byUserName, count, this::compareByUserName);
+            sorted = true;
+            ready = true;
+            removedDuringLoad = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 회원 목록 한 페이지를 조회합니다. UserController가 만드는 세 가지 정렬만 지원합니다.
+     * 문자열은 UTF-8 바이트 순서(코드 포인트 순서)로 비교하므로 U+E000 이상 문자와 보조 문자 사이의 순서는
+     * 데이터베이스와 다를 수 있습니다.
+     *
+     * @param pageable 페이지 번호, 크기, 정렬
+     * @return 회원 목록, 적재가 끝나지 않았거나 지원하지 않는 정렬이면 Optional.empty()
+     */
+    public Optional<Page<UserListDTO>> getUserList(Pageable pageable) {
+        if (!ready || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+        Sort sort = pageable.getSort();
+        boolean byName;
+        if (sort.equals(CREATE_DATE_DESC) || sort.equals(CREATE_DATE_DESC_USER_NAME_ASC)) {
+            byName = false;
+        } else if (sort.equals(USER_NAME_ASC)) {
+            byName = true;
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(read(() -> {
+            int total = count;
+            int[] order = byName ? byUserName : byCreateDate;
+            int from = (int) Math.min(pageable.getOffset(), total);
+            int to = (int) Math.min((long) from + pageable.getPageSize(), total);
+            List<UserListDTO> content = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                content.add(toUserListDTO(byName ? order[i] : order[total - 1 - i]));
+            }
+            return new PageImpl<>(content, pageable, total);
+        }));
+    }
+
+    /**
+     * 여러 회원을 회원 아이디 또는 회원 번호로 한 번에 조회합니다. UserService.getUsers와 같은 형식으로 리턴합니다.
+     *
+     * @return 입력 순서대로 정렬된 회원 목록과 찾지 못한 아이디, 회원 번호 목록, 적재가 끝나지 않았으면 Optional.empty()
+     */
+    public Optional<UserBatchGetResultDTO> getUsers(List<String> userIds, List<Long> userIndexes) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        return Optional.of(read(() -> {
+            List<UserListDTO> users = new ArrayList<>(userIds.size() + userIndexes.size());
+            List<String> notFoundUserIds = new ArrayList<>();
+            List<Long> notFoundUserIndexes = new ArrayList<>();
+            for (String userId : userIds) {
+                int id = strings.find(userId);
+                int slot = id == StringPool.NONE ? LongIntHashMap.MISSING : slotByUserId.get(id);
+                if (slot != LongIntHashMap.MISSING) {
+                    users.add(toUserListDTO(slot));
+                } else {
+                    notFoundUserIds.add(userId);
+                }
+            }
+            for (Long userIndex : userIndexes) {
+                int slot = slotByUserIndex.get(userIndex);
+                if (slot != LongIntHashMap.MISSING) {
+                    users.add(toUserListDTO(slot));
+                } else {
+                    notFoundUserIndexes.add(userIndex);
+                }
+            }
+            return new UserBatchGetResultDTO(users, notFoundUserIds, notFoundUserIndexes);
+        }));
+    }
+
+    public int size() {
+        return read(() -> count);
+    }
+
+    /**
+     * @return 디렉터리가 할당한 배열의 크기 합계(바이트)
+     */
+    public long estimatedBytes() {
+        return read(() -> (long) records.length + 4L * byCreateDate.length + 4L * byUserName.length
+                + slotByUserIndex.estimatedBytes() + slotByUserId.estimatedBytes() + strings.estimatedBytes());
+    }
+
+    private void write(UserListDTO user, boolean replace) {
+        if (user.getUserIndex() == null) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotByUserIndex.get(user.getUserIndex());
+            if (!replace && removedDuringLoad != null && removedDuringLoad.contains(user.getUserIndex())) {
+                return;
+            }
+            if (slot != LongIntHashMap.MISSING) {
+                if (!replace) {
+                    return;
+                }
+                if (sorted) {
+                    remove(byCreateDate, count - 1, slot, this::compareByCreateDate);
+                    remove(byUserName, count - 1, slot, this::compareByUserName);
+                }
+                slotByUserId.remove(intAt(slot, USER_ID));
+            } else {
+                ensureCapacity(count + 1);
+                slot = count++;
+                slotByUserIndex.put(user.getUserIndex(), slot);
+            }
+
+            writeRecord(slot, user);
+            if (intAt(slot, USER_ID) != StringPool.NONE) {
+                slotByUserId.put(intAt(slot, USER_ID), slot);
+            }
+            if (sorted) {
+                insert(byCreateDate, count - 1, slot, this::compareByCreateDate);
+                insert(byUserName, count - 1, slot, this::compareByUserName);
+            }
+
+            // 이름, 전화번호가 바뀌면 이전 문자열이 풀에 남으므로 살아 있는 문자열보다 충분히 많아지면 다시 만듭니다.
+            if (strings.size() > 8L * count + 1024) {
+                compactStrings();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void writeRecord(int slot, UserListDTO user) {
+        putLong(slot, USER_INDEX, user.getUserIndex());
+        putLong(slot, CREATE_DATE, encode(user.getCreateDate()));
+        putInt(slot, USER_ID, strings.intern(user.getUserId()));
+        putInt(slot, USER_NAME, strings.intern(user.getUserName()));
+        putInt(slot, EMAIL, strings.intern(user.getEmail()));
+        putInt(slot, PHONE_NUMBER, strings.intern(user.getPhoneNumber()));
+    }
+
+    private UserListDTO toUserListDTO(int slot) {
+        return new UserListDTO(
+                longAt(slot, USER_INDEX),
+                strings.get(intAt(slot, USER_ID)),
+                strings.get(intAt(slot, USER_NAME)),
+                strings.get(intAt(slot, EMAIL)),
+                strings.get(intAt(slot, PHONE_NUMBER)),
+                decode(longAt(slot, CREATE_DATE)));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity * RECORD_SIZE <= records.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, records.length / RECORD_SIZE * 2);
+        records = Arrays.copyOf(records, newCapacity * RECORD_SIZE);
+        byCreateDate = Arrays.copyOf(byCreateDate, newCapacity);
+        byUserName = Arrays.copyOf(byUserName, newCapacity);
+    }
+
+    private void compactStrings() {
+        StringPool compacted = new StringPool(count * 4);
+        LongIntHashMap userIds = new LongIntHashMap(count);
+        for (int slot = 0; slot < count; slot++) {
+            putInt(slot, USER_ID, compacted.intern(strings.get(intAt(slot, USER_ID))));
+            putInt(slot, USER_NAME, compacted.intern(strings.get(intAt(slot, USER_NAME))));
+            putInt(slot, EMAIL, compacted.intern(strings.get(intAt(slot, EMAIL))));
+            putInt(slot, PHONE_NUMBER, compacted.intern(strings.get(intAt(slot, PHONE_NUMBER))));
+            if (intAt(slot, USER_ID) != StringPool.NONE) {
+                userIds.put(intAt(slot, USER_ID), slot);
+            }
+        }
+        strings = compacted;
+        slotByUserId = userIds;
+    }
+
+    /**
+     * 낙관적 읽기로 reader를 실행하고, 그 사이 쓰기가 있었거나 일관되지 않은 상태를 읽어 예외가 나면
+     * 읽기 잠금을 잡고 다시 실행합니다.
+     */
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int compareByCreateDate(int a, int b) {
+        int result = Long.compare(longAt(a, CREATE_DATE), longAt(b, CREATE_DATE));
+        if (result != 0) {
+            return result;
+        }
+        result = strings.compare(intAt(b, USER_NAME), intAt(a, USER_NAME));
+        if (result != 0) {
+            return result;
+        }
+        return Long.compare(longAt(b, USER_INDEX), longAt(a, USER_INDEX));
+    }
+
+    private int compareByUserName(int a, int b) {
+        int result = strings.compare(intAt(a, USER_NAME), intAt(b, USER_NAME));
+        if (result != 0) {
+            return result;
+        }
+        return Long.compare(longAt(a, USER_INDEX), longAt(b, USER_INDEX));
+    }
+
+    /**
+     * 정렬된 order[0, size)에 slot을 끼워 넣습니다.
+     */
+    private static void insert(int[] order, int size, int slot, IntBinaryOperator comparator) {
+        int position = lowerBound(order, size, slot, comparator);
+        System.arraycopy(order, position, order, position + 1, size - position);
+        order[position] = slot;
+    }
+
+    /**
+     * 정렬된 order[0, size]에서 slot을 뺍니다. 비교 기준에 userIndex가 포함되어 있어 같은 위치의 slot은 하나뿐입니다.
+     */
+    private static void remove(int[] order, int size, int slot, IntBinaryOperator comparator) {
+        int position = lowerBound(order, size + 1, slot, comparator);
+        if (position > size || order[position] != slot) {
+            throw new IllegalStateException("slot " + slot + " is not in sorted order");
+        }
+        System.arraycopy(order, position + 1, order, position, size - position);
+    }
+
+    /**
+     * 정렬된 order[0, size)에서 slot from을 같은 레코드가 복사된 slot to로 바꿉니다. 레코드가 같으므로 위치는 바뀌지 않습니다.
+     */
+    private static void move(int[] order, int size, int from, int to, IntBinaryOperator comparator) {
+        int position = lowerBound(order, size, to, comparator);
+        if (position >= size || order[position] != from) {
+            throw new IllegalStateException("slot " + from + " is not in sorted order");
+        }
+        order[position] = to;
+    }
+
+    private static int lowerBound(int[] order, int size, int slot, IntBinaryOperator comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.applyAsInt(order[mid], slot) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * order[0, size)를 병합 정렬합니다. 박싱 없이 int 배열을 비교 함수로 정렬하기 위해 사용합니다.
+     */
+    private static void sort(int[] order, int size, IntBinaryOperator comparator) {
+        int[] source = order;
+        int[] target = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int from = 0; from < size; from += 2 * width) {
+                int mid = Math.min(from + width, size);
+                int to = Math.min(from + 2 * width, size);
+                int i = from;
+                int j = mid;
+                for (int k = from; k < to; k++) {
+                    if (i < mid && (j >= to || comparator.applyAsInt(source[i], source[j]) <= 0)) {
+                        target[k] = source[i++];
+                    } else {
+                        target[k] = source[j++];
+                    }
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != order) {
+            System.arraycopy(source, 0, order, 0, size);
+        }
+    }
+
+    private static long encode(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_DATE;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    private static LocalDateTime decode(long value) {
+        if (value == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(value, NANOS_PER_SECOND),
+                (int) Math.floorMod(value, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    private long longAt(int slot, int field) {
+        int offset = slot * RECORD_SIZE + field;
+        long value = 0L;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (records[offset + i] & 0xffL);
+        }
+        return value;
+    }
+
+    private void putLong(int slot, int field, long value) {
+        int offset = slot * RECORD_SIZE + field;
+        for (int i = 7; i >= 0; i--) {
+            records[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private int intAt(int slot, int field) {
+        int offset = slot * RECORD_SIZE + field;
+        return (records[offset] << 24) | ((records[offset + 1] & 0xff) << 16)
+                | ((records[offset + 2] & 0xff) << 8) | (records[offset + 3] & 0xff);
+    }
+
+    private void putInt(int slot, int field, int value) {
+        int offset = slot * RECORD_SIZE + field;
+        records[offset] = (byte) (value >>> 24);
+        records[offset + 1] = (byte) (value >>> 16);
+        records[offset + 2] = (byte) (value >>> 8);
+        records[offset + 3] = (byte) value;
+    }
+}
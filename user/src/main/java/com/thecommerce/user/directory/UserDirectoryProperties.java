@@ -0,0 +1,18 @@
+package com.thecommerce.user.directory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.directory")
+public class UserDirectoryProperties {
+    private boolean enabled = false;
+
+    /**
+     * 처음 할당할 회원 수, 예상 회원 수에 맞추면 적재 중 배열을 다시 할당하지 않습니다.
+     */
+    private int initialCapacity = 1024;
+}
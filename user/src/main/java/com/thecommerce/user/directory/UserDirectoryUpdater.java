@@ -0,0 +1,62 @@
+package com.thecommerce.user.directory;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 시작 시 회원 디렉터리를 채우고, 이후에는 커밋된 회원 변경 내용을 반영합니다.
+ * 적재에 실패하면 디렉터리는 조회를 시작하지 않고, 목록, 일괄 조회는 계속 데이터베이스에서 처리됩니다.
+ *
+ * 적재 도중 회원이 삭제되어도 건너뛰는 회원이 없도록 offset 대신 마지막으로 읽은 회원 번호 다음부터 읽습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UserDirectoryUpdater {
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final UserDirectory userDirectory;
+    private final UserRepository userRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            long start = System.currentTimeMillis();
+            long lastUserIndex = 0;
+            List<User> chunk;
+            do {
+                chunk = userRepository.findByUserIndexGreaterThanOrderByUserIndexAsc(lastUserIndex,
+                        PageRequest.of(0, LOAD_PAGE_SIZE));
+                chunk.forEach(user -> userDirectory.putIfAbsent(UserService.toUserListDTO(user)));
+                if (!chunk.isEmpty()) {
+                    lastUserIndex = chunk.get(chunk.size() - 1).getUserIndex();
+                }
+            } while (chunk.size() == LOAD_PAGE_SIZE);
+            userDirectory.finishLoad();
+            log.info("user directory loaded: {} users, {} bytes in {}ms", userDirectory.size(),
+                    userDirectory.estimatedBytes(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("user directory load failed: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            userDirectory.remove(event.getUser().getUserIndex());
+        } else {
+            userDirectory.put(event.getUser());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.thecommerce.user.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import org.springframework.util.StreamUtils;
+
+/**
+ * 요청 본문을 미리 읽어 두고 여러 번 읽을 수 있도록 합니다.
+ * 본문을 모두 메모리에 보관하므로 최대 크기를 넘으면 끝까지 읽지 않고 RequestBodyTooLargeException을 던집니다.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+
+    CachedBodyHttpServletRequest(HttpServletRequest request, long maxBodySize) throws IOException {
+        super(request);
+        if (request.getContentLengthLong() > maxBodySize) {
+            throw new RequestBodyTooLargeException();
+        }
+        this.body = read(request.getInputStream(), maxBodySize);
+    }
+
+    /**
+     * Content-Length 없이(chunked) 전송된 본문도 최대 크기까지만 읽습니다.
+     */
+    private static byte[] read(InputStream input, long maxBodySize) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[StreamUtils.BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            if (output.size() + read > maxBodySize) {
+                throw new RequestBodyTooLargeException();
+            }
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream input = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+
+            @Override
+            public int read() {
+                return input.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return input.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            /**
+             * 본문을 이미 모두 읽어 두었으므로 바로 읽을 수 있음과 다 읽었음을 알립니다.
+             */
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
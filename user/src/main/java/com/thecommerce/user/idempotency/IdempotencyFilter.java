@@ -0,0 +1,162 @@
+package com.thecommerce.user.idempotency;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원가입(POST /api/user/join) 요청의 Idempotency-Key 헤더를 처리합니다.
+ *
+ * 같은 키로 재시도된 요청은 유효성 검사, 중복 조회, 비밀번호 해싱을 다시 수행하지 않고
+ * 첫 번째 요청의 결과를 그대로 돌려줍니다. 첫 번째 요청이 아직 처리 중이라면 그 결과를 기다립니다.
+ * 같은 키를 다른 본문으로 재사용하면 HttpStatus.UNPROCESSABLE_ENTITY를 리턴합니다.
+ * 본문을 메모리에 읽어 두므로 최대 크기를 넘는 본문은 HttpStatus.PAYLOAD_TOO_LARGE를 리턴합니다.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String JOIN_PATH = "/api/user/join";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final IdempotencyStore store;
+    private final long inFlightTimeoutMillis;
+    private final long maxBodySize;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties) {
+        this.store = store;
+        this.inFlightTimeoutMillis = properties.getInFlightTimeout().toMillis();
+        this.maxBodySize = properties.getMaxBodySize().toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !JOIN_PATH.equals(handlerPath(request))
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    /**
+     * Spring MVC가 핸들러를 찾는 경로와 같은 경로를 리턴합니다.
+     * 컨텍스트 경로를 빼고 디코딩한 뒤 ';' 뒤의 매개변수를 지우고, 끝의 '/'는 같은 핸들러로 매핑되므로 뗍니다.
+     */
+    private static String handlerPath(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "idempotency key length error");
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedRequest;
+        try {
+            cachedRequest = new CachedBodyHttpServletRequest(request, maxBodySize);
+        } catch (RequestBodyTooLargeException e) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "request body too large");
+            return;
+        }
+        byte[] fingerprint = sha256(cachedRequest.getBody());
+
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry(fingerprint);
+        IdempotencyStore.Entry existing = store.putIfAbsent(key, entry);
+        if (existing != null) {
+            replay(existing, fingerprint, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(cachedRequest, cachedResponse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            store.remove(key, entry);
+            entry.getResponse().completeExceptionally(e);
+            throw e;
+        }
+
+        StoredResponse stored = new StoredResponse(cachedResponse.getStatus(), cachedResponse.getContentType(),
+                cachedResponse.getContentAsByteArray());
+        if (!isReplayable(stored.getStatus())) {
+            store.remove(key, entry);
+        }
+        entry.getResponse().complete(stored);
+        cachedResponse.copyBodyToResponse();
+    }
+
+    /**
+     * 요청 내용에 따라 결과가 정해지는 응답(성공, 유효성 검사 실패)만 보관합니다.
+     * 요청 수 제한이나 서버 에러처럼 다시 시도하면 결과가 달라질 수 있는 응답은 보관하지 않습니다.
+     */
+    private static boolean isReplayable(int status) {
+        return status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private void replay(IdempotencyStore.Entry entry, byte[] fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (!entry.matches(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "idempotency key reused");
+            return;
+        }
+
+        StoredResponse stored;
+        try {
+            stored = entry.getResponse().get(inFlightTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            writeError(response, HttpStatus.CONFLICT, "idempotency key in progress");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "SERVER_ERROR");
+            return;
+        } catch (ExecutionException e) {
+            log.error(e.getMessage());
+            writeError(response, HttpStatus.INTERNAL_SERVER_ERROR, "SERVER_ERROR");
+            return;
+        }
+
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(message);
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
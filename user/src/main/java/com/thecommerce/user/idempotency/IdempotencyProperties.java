@@ -0,0 +1,36 @@
+package com.thecommerce.user.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;
+
+    /**
+     * 보관할 수 있는 최대 Idempotency-Key 수
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * 첫 번째 처리 결과를 보관하는 기간
+     */
+    private Duration ttl = Duration.ofHours(1);
+
+    /**
+     * 같은 키로 처리 중인 요청이 끝나기를 기다리는 최대 시간
+     */
+    private Duration inFlightTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 지문을 만들기 위해 메모리에 읽어 두는 요청 본문의 최대 크기
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(16);
+}
@@ -0,0 +1,59 @@
+package com.thecommerce.user.idempotency;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Idempotency-Key별 처리 결과를 크기와 보관 기간이 제한된 저장소에 보관합니다.
+ * 처리 중인 요청은 아직 완료되지 않은 CompletableFuture로 등록되므로,
+ * 같은 키로 동시에 들어온 요청은 첫 번째 요청의 결과를 기다립니다.
+ */
+public class IdempotencyStore {
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * key에 대한 처리를 시작합니다.
+     *
+     * @param key   Idempotency-Key
+     * @param entry 요청 본문의 해시와 아직 완료되지 않은 처리 결과
+     * @return 이미 등록된 key라면 기존 항목, 새로 등록한 경우 null
+     */
+    public Entry putIfAbsent(String key, Entry entry) {
+        return entries.asMap().putIfAbsent(key, entry);
+    }
+
+    /**
+     * 재시도할 수 있는 결과(서버 에러 등)는 보관하지 않도록 key를 제거합니다.
+     */
+    public void remove(String key, Entry entry) {
+        entries.asMap().remove(key, entry);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<StoredResponse> response;
+
+        public Entry(byte[] fingerprint) {
+            this(fingerprint, new CompletableFuture<>());
+        }
+
+        public boolean matches(byte[] otherFingerprint) {
+            return Arrays.equals(fingerprint, otherFingerprint);
+        }
+    }
+}
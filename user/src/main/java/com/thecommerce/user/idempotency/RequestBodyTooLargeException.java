@@ -0,0 +1,13 @@
+package com.thecommerce.user.idempotency;
+
+import java.io.IOException;
+
+/**
+ * 요청 본문이 메모리에 읽어 둘 수 있는 최대 크기를 넘은 경우 발생합니다.
+ */
+class RequestBodyTooLargeException extends IOException {
+
+    RequestBodyTooLargeException() {
+        super("request body too large");
+    }
+}
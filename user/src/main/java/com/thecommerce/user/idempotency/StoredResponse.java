@@ -0,0 +1,15 @@
+package com.thecommerce.user.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 첫 번째 요청의 처리 결과(상태 코드, Content-Type, 본문)입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+}
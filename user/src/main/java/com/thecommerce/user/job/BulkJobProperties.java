@@ -0,0 +1,39 @@
+package com.thecommerce.user.job;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.bulk-job")
+public class BulkJobProperties {
+
+    /**
+     * 한 트랜잭션에서 처리하는 최대 회원 수. 잠금을 잡는 시간과 IN 쿼리 크기가 이 값에 비례합니다.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 묶음 사이에 쉬는 시간. 일괄 작업이 커넥션과 잠금을 연속으로 차지하지 않도록 합니다.
+     */
+    private Duration throttle = Duration.ofMillis(100);
+
+    /**
+     * 새 작업이나 재시도할 작업을 확인하는 주기
+     */
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    /**
+     * 한 작업의 최대 대상 회원 수
+     */
+    private int maxTargets = 100_000;
+
+    /**
+     * 같은 묶음이 연속으로 이 횟수만큼 실패하면 작업을 FAILED로 끝냅니다.
+     */
+    private int maxAttempts = 3;
+}
@@ -0,0 +1,98 @@
+package com.thecommerce.user.job;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import com.sun.istack.NotNull;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 회원 일괄 비활성화, 삭제 작업입니다. 대상 회원은 UserBulkJobTarget에 저장되며,
+ * UserBulkJobRunner가 묶음 단위로 처리할 때마다 처리한 대상을 지우고 진행 상황을 같은 트랜잭션에서 갱신합니다.
+ */
+@Table(name = "UserBulkJob", indexes = @Index(name = "idx_user_bulk_job_status", columnList = "status"))
+@NoArgsConstructor
+@Entity
+@Getter
+@Setter
+public class UserBulkJob {
+
+    @Id
+    @NotNull
+    @GeneratedValue
+    @Column(name = "jobId")
+    private Long jobId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 20)
+    private Action action;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private Status status;
+
+    @Column(name = "requestedBy")
+    private String requestedBy;
+
+    /**
+     * 작업 생성 시 찾은 대상 회원 수
+     */
+    @Column(name = "totalCount")
+    private int totalCount;
+
+    /**
+     * 처리한 대상 회원 수
+     */
+    @Column(name = "processedCount")
+    private int processedCount;
+
+    /**
+     * 실제로 비활성화, 삭제된 회원 수. 처리 전에 이미 비활성화되었거나 삭제된 회원은 포함하지 않습니다.
+     */
+    @Column(name = "changedCount")
+    private int changedCount;
+
+    /**
+     * 연속으로 실패한 묶음 처리 횟수
+     */
+    @Column(name = "failureCount")
+    private int failureCount;
+
+    @Column(name = "lastError", length = 1000)
+    private String lastError;
+
+    @Column(name = "createDate")
+    private LocalDateTime createDate;
+
+    @Column(name = "updateDate")
+    private LocalDateTime updateDate;
+
+    @Column(name = "completeDate")
+    private LocalDateTime completeDate;
+
+    public enum Action {
+        DEACTIVATE,
+        DELETE
+    }
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
@@ -0,0 +1,154 @@
+package com.thecommerce.user.job;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.thecommerce.user.circuitbreaker.CircuitBreakerOpenException;
+import com.thecommerce.user.user.userDTO.UserBulkJobCreatedDTO;
+import com.thecommerce.user.user.userDTO.UserBulkJobDTO;
+import com.thecommerce.user.user.userDTO.UserBulkJobRequestDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/user")
+public class UserBulkJobController {
+    private final UserBulkJobService userBulkJobService;
+    private final UserBulkJobRunner userBulkJobRunner;
+    private final BulkJobProperties properties;
+
+    /**
+     * 회원 일괄 비활성화, 삭제 작업을 등록합니다. 작업은 백그라운드에서 묶음 단위로 처리되며 진행 상황은 작업 조회로 확인합니다.
+     * ADMIN만 호출할 수 있습니다. (WebSecurityConfig)
+     *
+     * @param requestDTO 작업 종류(deactivate 또는 delete)와 대상 회원 아이디, 회원 번호 목록
+     * @param principal  요청한 회원
+     * @return 등록된 작업과 찾지 못한 회원 목록을 HttpStatus.ACCEPTED로 리턴합니다.
+     *         작업 종류가 잘못되었거나 대상이 비어 있거나 너무 많은 경우 HttpStatus.BAD_REQUEST를 리턴합니다.
+     */
+    @Operation(summary = "회원 일괄 작업 등록", description = "회원 일괄 비활성화, 삭제 작업을 등록합니다")
+    @PostMapping("/bulk-jobs")
+    public ResponseEntity<?> createJob(@RequestBody UserBulkJobRequestDTO requestDTO, Principal principal) {
+        try {
+            UserBulkJob.Action action;
+            try {
+                action = UserBulkJob.Action.valueOf(String.valueOf(requestDTO.getAction()).toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return new ResponseEntity<>("action error", HttpStatus.BAD_REQUEST);
+            }
+
+            List<String> userIds = requestDTO.getUserIds() == null ? new ArrayList<>() : requestDTO.getUserIds();
+            List<Long> userIndexes = requestDTO.getUserIndexes() == null ? new ArrayList<>()
+                    : requestDTO.getUserIndexes();
+            int size = userIds.size() + userIndexes.size();
+            if (size == 0 || properties.getMaxTargets() < size) {
+                return new ResponseEntity<>("target size error", HttpStatus.BAD_REQUEST);
+            }
+            if (userIds.contains(null) || userIndexes.contains(null)) {
+                return new ResponseEntity<>("null id error", HttpStatus.BAD_REQUEST);
+            }
+
+            return accepted(userBulkJobService.enqueue(action, userIds, userIndexes, principal.getName()));
+        } catch (CircuitBreakerOpenException e) {
+            return new ResponseEntity<>("SERVICE_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 회원 탈퇴 : 회원 한 명을 삭제하는 작업을 등록합니다. 본인 또는 ADMIN만 호출할 수 있습니다. (WebSecurityConfig)
+     * 일괄 삭제와 같은 경로로 처리되므로 회원 수, 검색 인덱스, 캐시가 같은 방식으로 갱신됩니다.
+     *
+     * @param loginId   회원 아이디
+     * @param principal 요청한 회원
+     * @return 등록된 작업을 HttpStatus.ACCEPTED로, 회원이 없으면 HttpStatus.BAD_REQUEST를 리턴합니다.
+     */
+    @Operation(summary = "회원 탈퇴", description = "회원을 삭제하는 작업을 등록합니다")
+    @DeleteMapping("/{loginId}")
+    public ResponseEntity<?> deleteUser(@PathVariable("loginId") String loginId, Principal principal) {
+        try {
+            UserBulkJobCreatedDTO created = userBulkJobService.enqueue(UserBulkJob.Action.DELETE,
+                    Collections.singletonList(loginId), Collections.emptyList(), principal.getName());
+            if (!created.getNotFoundUserIds().isEmpty()) {
+                return new ResponseEntity<>("Invalid user", HttpStatus.BAD_REQUEST);
+            }
+            return accepted(created);
+        } catch (CircuitBreakerOpenException e) {
+            return new ResponseEntity<>("SERVICE_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 일괄 작업의 상태와 진행 상황(대상 수, 처리한 수, 실제로 변경된 수)을 조회합니다. ADMIN만 호출할 수 있습니다.
+     *
+     * @param jobId 작업 번호
+     * @return 작업 정보, 작업이 없으면 HttpStatus.NOT_FOUND를 리턴합니다.
+     */
+    @Operation(summary = "회원 일괄 작업 조회", description = "회원 일괄 작업의 진행 상황을 조회합니다")
+    @GetMapping("/bulk-jobs/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable("jobId") Long jobId) {
+        try {
+            return found(userBulkJobService.getJob(jobId));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 일괄 작업을 취소합니다. 이미 처리된 묶음은 되돌리지 않습니다. ADMIN만 호출할 수 있습니다.
+     *
+     * @param jobId 작업 번호
+     * @return 취소 후의 작업 정보, 작업이 없으면 HttpStatus.NOT_FOUND,
+     *         이미 완료되었거나 실패한 작업이면 HttpStatus.CONFLICT를 리턴합니다.
+     */
+    @Operation(summary = "회원 일괄 작업 취소", description = "회원 일괄 작업을 취소합니다")
+    @PostMapping("/bulk-jobs/{jobId}/cancel")
+    public ResponseEntity<?> cancelJob(@PathVariable("jobId") Long jobId) {
+        try {
+            Optional<UserBulkJobDTO> job = userBulkJobService.cancel(jobId);
+            if (job.isPresent() && !UserBulkJob.Status.CANCELLED.name().equals(job.get().getStatus())) {
+                return new ResponseEntity<>("job already finished", HttpStatus.CONFLICT);
+            }
+            return found(job);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private ResponseEntity<?> accepted(UserBulkJobCreatedDTO created) {
+        userBulkJobRunner.wakeUp();
+        return new ResponseEntity<>(created, HttpStatus.ACCEPTED);
+    }
+
+    private static ResponseEntity<?> found(Optional<UserBulkJobDTO> job) {
+        if (!job.isPresent()) {
+            return new ResponseEntity<>("Job not found", HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(job.get());
+    }
+}
@@ -0,0 +1,28 @@
+package com.thecommerce.user.job;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserBulkJobRepository extends JpaRepository<UserBulkJob, Long> {
+
+    /**
+     * 작업에 행 잠금을 걸고 조회합니다. 묶음 처리와 취소가 동시에 같은 작업을 변경하지 않도록 하고,
+     * 여러 노드의 UserBulkJobRunner가 같은 작업을 처리하더라도 묶음이 하나씩 순서대로 처리되도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from UserBulkJob j where j.jobId = :jobId")
+    Optional<UserBulkJob> findByIdForUpdate(@Param("jobId") Long jobId);
+
+    List<UserBulkJob> findByStatusInOrderByJobIdAsc(Collection<UserBulkJob.Status> statuses, Pageable pageable);
+}
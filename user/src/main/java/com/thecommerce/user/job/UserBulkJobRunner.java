@@ -0,0 +1,219 @@
+package com.thecommerce.user.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thecommerce.user.user.UserService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 등록된 회원 일괄 작업을 전용 스레드에서 묶음(chunkSize) 단위로 처리합니다.
+ *
+ * 묶음마다 작업 행 잠금을 잡고, 회원 비활성화, 삭제와 처리한 대상 삭제, 진행 상황 갱신을 한 트랜잭션에서 커밋합니다.
+ * 따라서 프로세스가 도중에 종료되어도 커밋된 묶음까지만 반영되고, 다시 시작하면 RUNNING 상태의 작업을 남은 대상부터 이어서 처리합니다.
+ * 묶음 사이에는 throttle만큼 쉬어 다른 요청이 커넥션과 Users 테이블 잠금을 얻을 수 있도록 합니다.
+ *
+ * 회원 변경 이벤트는 묶음이 커밋된 뒤 발행되므로 회원 수, 검색 인덱스, 회원 디렉터리, 캐시에도 커밋된 묶음만 반영됩니다.
+ * 예약 작업(@Scheduled) 스레드를 오래 점유하지 않도록 별도의 스레드를 사용합니다.
+ */
+@Slf4j
+public class UserBulkJobRunner {
+    private static final List<UserBulkJob.Status> ACTIVE_STATUSES = Arrays.asList(
+            UserBulkJob.Status.RUNNING, UserBulkJob.Status.PENDING);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final UserBulkJobRepository userBulkJobRepository;
+    private final UserBulkJobTargetRepository userBulkJobTargetRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkJobProperties properties;
+    private final Thread worker;
+    private final Object signal = new Object();
+    private boolean wakeUpRequested;
+    private volatile boolean running;
+
+    public UserBulkJobRunner(UserBulkJobRepository userBulkJobRepository,
+            UserBulkJobTargetRepository userBulkJobTargetRepository, UserService userService,
+            TransactionTemplate transactionTemplate, BulkJobProperties properties) {
+        this.userBulkJobRepository = userBulkJobRepository;
+        this.userBulkJobTargetRepository = userBulkJobTargetRepository;
+        this.userService = userService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.worker = new Thread(this::workLoop, "user-bulk-job");
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * 처리 중인 묶음이 커밋될 때까지 기다린 뒤 작업 스레드를 종료합니다. 남은 묶음은 다음 시작 때 이어서 처리합니다.
+     */
+    public void stop() throws InterruptedException {
+        if (running) {
+            running = false;
+            wakeUp();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * 다음 확인 주기를 기다리지 않고 작업을 처리하도록 작업 스레드를 깨웁니다.
+     */
+    public void wakeUp() {
+        synchronized (signal) {
+            wakeUpRequested = true;
+            signal.notifyAll();
+        }
+    }
+
+    private void workLoop() {
+        while (running) {
+            try {
+                runPending();
+            } catch (Exception e) {
+                log.error("user bulk job run failed: {}", e.getMessage());
+            }
+            synchronized (signal) {
+                if (!wakeUpRequested && running) {
+                    await(properties.getPollInterval());
+                }
+                wakeUpRequested = false;
+            }
+        }
+    }
+
+    /**
+     * 등록된 순서대로 작업을 끝까지 처리합니다. 묶음 처리에 실패하면 다음 확인 주기에 같은 작업을 다시 시도합니다.
+     *
+     * @return 이번에 끝난(COMPLETED, FAILED) 작업 수
+     */
+    public synchronized int runPending() {
+        int finished = 0;
+        Long jobId;
+        while ((jobId = transactionTemplate.execute(status -> claimNext())) != null) {
+            if (!run(jobId)) {
+                break;
+            }
+            finished++;
+        }
+        return finished;
+    }
+
+    private Long claimNext() {
+        List<UserBulkJob> jobs = userBulkJobRepository.findByStatusInOrderByJobIdAsc(ACTIVE_STATUSES,
+                PageRequest.of(0, 1));
+        if (jobs.isEmpty()) {
+            return null;
+        }
+        UserBulkJob job = jobs.get(0);
+        if (job.getStatus() == UserBulkJob.Status.PENDING) {
+            job.setStatus(UserBulkJob.Status.RUNNING);
+            job.setUpdateDate(LocalDateTime.now());
+            log.info("user bulk job {} started: {} {} users", job.getJobId(), job.getAction(), job.getTotalCount());
+        }
+        return job.getJobId();
+    }
+
+    /**
+     * @return 작업이 끝났으면(완료, 취소, 실패) true, 실패한 묶음을 나중에 다시 시도해야 하거나 종료 중이면 false
+     */
+    private boolean run(Long jobId) {
+        while (true) {
+            Boolean hasMore;
+            try {
+                hasMore = transactionTemplate.execute(status -> processChunk(jobId));
+            } catch (Exception e) {
+                log.warn("user bulk job {} chunk failed: {}", jobId, e.getMessage());
+                return transactionTemplate.execute(status -> recordFailure(jobId, e));
+            }
+            if (!Boolean.TRUE.equals(hasMore)) {
+                return true;
+            }
+            if (!running) {
+                return false;
+            }
+            synchronized (signal) {
+                await(properties.getThrottle());
+            }
+        }
+    }
+
+    /**
+     * @return 남은 대상이 있으면 true
+     */
+    private boolean processChunk(Long jobId) {
+        UserBulkJob job = userBulkJobRepository.findByIdForUpdate(jobId).orElse(null);
+        if (job == null || job.getStatus() != UserBulkJob.Status.RUNNING) {
+            return false;
+        }
+        List<UserBulkJobTarget> targets = userBulkJobTargetRepository.findByJobIdOrderByUserIndexAsc(jobId,
+                PageRequest.of(0, properties.getChunkSize()));
+        if (!targets.isEmpty()) {
+            List<Long> userIndexes = new ArrayList<>(targets.size());
+            targets.forEach(target -> userIndexes.add(target.getUserIndex()));
+            int changed = job.getAction() == UserBulkJob.Action.DELETE
+                    ? userService.deleteUsers(userIndexes)
+                    : userService.deactivateUsers(userIndexes);
+            userBulkJobTargetRepository.deleteAllInBatch(targets);
+            job.setProcessedCount(job.getProcessedCount() + targets.size());
+            job.setChangedCount(job.getChangedCount() + changed);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        job.setFailureCount(0);
+        job.setUpdateDate(now);
+        if (targets.size() < properties.getChunkSize()) {
+            job.setStatus(UserBulkJob.Status.COMPLETED);
+            job.setCompleteDate(now);
+            log.info("user bulk job {} completed: {} of {} users changed", jobId, job.getChangedCount(),
+                    job.getTotalCount());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean recordFailure(Long jobId, Exception e) {
+        UserBulkJob job = userBulkJobRepository.findByIdForUpdate(jobId).orElse(null);
+        if (job == null || job.getStatus() != UserBulkJob.Status.RUNNING) {
+            return true;
+        }
+        String message = String.valueOf(e.getMessage());
+        LocalDateTime now = LocalDateTime.now();
+        job.setFailureCount(job.getFailureCount() + 1);
+        job.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        job.setUpdateDate(now);
+        if (job.getFailureCount() < properties.getMaxAttempts()) {
+            return false;
+        }
+        job.setStatus(UserBulkJob.Status.FAILED);
+        job.setCompleteDate(now);
+        log.error("user bulk job {} failed after {} attempts: {}", jobId, job.getFailureCount(), message);
+        return true;
+    }
+
+    /**
+     * signal의 잠금을 잡은 상태에서 호출합니다. stop, wakeUp이 호출되면 바로 깨어납니다.
+     */
+    private void await(Duration duration) {
+        long millis = duration.toMillis();
+        try {
+            if (running && millis > 0) {
+                signal.wait(millis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.thecommerce.user.job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.userDTO.UserBatchGetResultDTO;
+import com.thecommerce.user.user.userDTO.UserBulkJobCreatedDTO;
+import com.thecommerce.user.user.userDTO.UserBulkJobDTO;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class UserBulkJobService {
+    private static final int TARGET_INSERT_CHUNK_SIZE = 1000;
+
+    private final UserBulkJobRepository userBulkJobRepository;
+    private final UserBulkJobTargetRepository userBulkJobTargetRepository;
+    private final UserService userService;
+    private final EntityManager entityManager;
+
+    /**
+     * 회원 아이디, 회원 번호로 대상 회원을 찾아 일괄 작업을 등록합니다. 실제 처리는 UserBulkJobRunner가 합니다.
+     * 대상은 회원 번호 순으로 처리되며, 찾지 못한 회원은 대상에 포함하지 않고 결과로 돌려줍니다.
+     *
+     * @param action      비활성화 또는 삭제
+     * @param userIds     대상 회원 아이디 목록
+     * @param userIndexes 대상 회원 번호 목록
+     * @param requestedBy 요청한 회원 아이디
+     * @return 등록된 작업과 찾지 못한 회원 아이디, 회원 번호 목록, 찾은 회원이 없으면 작업은 바로 COMPLETED 상태가 됩니다.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public UserBulkJobCreatedDTO enqueue(UserBulkJob.Action action, List<String> userIds, List<Long> userIndexes,
+            String requestedBy) {
+        UserBatchGetResultDTO found = userService.getUsers(userIds, userIndexes);
+        TreeSet<Long> targets = new TreeSet<>();
+        for (UserListDTO user : found.getUsers()) {
+            targets.add(user.getUserIndex());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        UserBulkJob job = new UserBulkJob();
+        job.setAction(action);
+        job.setStatus(targets.isEmpty() ? UserBulkJob.Status.COMPLETED : UserBulkJob.Status.PENDING);
+        job.setRequestedBy(requestedBy);
+        job.setTotalCount(targets.size());
+        job.setCreateDate(now);
+        job.setUpdateDate(now);
+        if (targets.isEmpty()) {
+            job.setCompleteDate(now);
+        }
+        userBulkJobRepository.save(job);
+
+        // 대상이 수만 건이어도 영속성 컨텍스트가 커지지 않도록 나누어 저장하고 비웁니다.
+        List<UserBulkJobTarget> chunk = new ArrayList<>(TARGET_INSERT_CHUNK_SIZE);
+        for (Long userIndex : targets) {
+            chunk.add(new UserBulkJobTarget(job.getJobId(), userIndex));
+            if (chunk.size() == TARGET_INSERT_CHUNK_SIZE) {
+                saveTargets(chunk);
+            }
+        }
+        saveTargets(chunk);
+
+        return new UserBulkJobCreatedDTO(toUserBulkJobDTO(job), found.getNotFoundUserIds(),
+                found.getNotFoundUserIndexes());
+    }
+
+    private void saveTargets(List<UserBulkJobTarget> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        userBulkJobTargetRepository.saveAll(chunk);
+        userBulkJobTargetRepository.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    public Optional<UserBulkJobDTO> getJob(Long jobId) {
+        return userBulkJobRepository.findById(jobId).map(UserBulkJobService::toUserBulkJobDTO);
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 작업을 취소하고 남은 대상을 지웁니다. 이미 커밋된 묶음은 되돌리지 않습니다.
+     * 작업 행 잠금을 잡으므로 처리 중인 묶음이 있으면 그 묶음이 커밋된 뒤에 취소됩니다.
+     *
+     * @param jobId 작업 번호
+     * @return 취소 후의 작업, 이미 끝난 작업이면 상태를 바꾸지 않고 그대로 리턴합니다.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public Optional<UserBulkJobDTO> cancel(Long jobId) {
+        Optional<UserBulkJob> optionalJob = userBulkJobRepository.findByIdForUpdate(jobId);
+        optionalJob.ifPresent(job -> {
+            if (job.getStatus() == UserBulkJob.Status.PENDING || job.getStatus() == UserBulkJob.Status.RUNNING) {
+                LocalDateTime now = LocalDateTime.now();
+                job.setStatus(UserBulkJob.Status.CANCELLED);
+                job.setUpdateDate(now);
+                job.setCompleteDate(now);
+                userBulkJobTargetRepository.deleteByJobId(jobId);
+            }
+        });
+        return optionalJob.map(UserBulkJobService::toUserBulkJobDTO);
+    }
+
+    public static UserBulkJobDTO toUserBulkJobDTO(UserBulkJob job) {
+        return new UserBulkJobDTO(
+                job.getJobId(),
+                job.getAction().name(),
+                job.getStatus().name(),
+                job.getTotalCount(),
+                job.getProcessedCount(),
+                job.getChangedCount(),
+                job.getLastError(),
+                job.getCreateDate(),
+                job.getUpdateDate(),
+                job.getCompleteDate());
+    }
+}
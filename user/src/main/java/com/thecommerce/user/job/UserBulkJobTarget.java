@@ -0,0 +1,49 @@
+package com.thecommerce.user.job;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import com.sun.istack.NotNull;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 아직 처리하지 않은 일괄 작업 대상 회원입니다.
+ * 수만 건을 한 번에 저장하므로 시퀀스 값을 500개씩 할당받아 INSERT가 JDBC batch로 묶이도록 합니다.
+ */
+@Table(name = "UserBulkJobTarget", indexes = @Index(name = "idx_user_bulk_job_target_job", columnList = "jobId, userIndex"))
+@NoArgsConstructor
+@Entity
+@Getter
+@Setter
+public class UserBulkJobTarget {
+
+    @Id
+    @NotNull
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_bulk_job_target_seq")
+    @SequenceGenerator(name = "user_bulk_job_target_seq", sequenceName = "user_bulk_job_target_seq",
+            allocationSize = 500)
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "jobId")
+    private Long jobId;
+
+    @NotNull
+    @Column(name = "userIndex")
+    private Long userIndex;
+
+    public UserBulkJobTarget(Long jobId, Long userIndex) {
+        this.jobId = jobId;
+        this.userIndex = userIndex;
+    }
+}
@@ -0,0 +1,20 @@
+package com.thecommerce.user.job;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserBulkJobTargetRepository extends JpaRepository<UserBulkJobTarget, Long> {
+
+    List<UserBulkJobTarget> findByJobIdOrderByUserIndexAsc(Long jobId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from UserBulkJobTarget t where t.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,78 @@
+package com.thecommerce.user.outbox;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+/**
+ * 전달된 메시지를 한 줄에 하나씩 JSON 형식으로 파일에 추가합니다. 메시지 브로커를 대신하는 로컬 실행용입니다.
+ *
+ * 파일은 암호화되지 않으므로 이메일과 전화번호는 지우고 기록합니다. 수신 측은 userIndex로 회원 정보를 조회합니다.
+ * 파일이 maxFileSize 이상이면 {file}.1, {file}.2 ... 로 밀어내고 새 파일에 쓰며, 밀어낸 파일은 maxFiles개까지만 남깁니다.
+ */
+public class FileUserChangeEventSink implements UserChangeEventSink {
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final long maxFileSize;
+    private final int maxFiles;
+
+    public FileUserChangeEventSink(Path path, ObjectMapper objectMapper, long maxFileSize, int maxFiles) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+    }
+
+    @Override
+    public synchronized void publish(List<UserChangeMessage> messages) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        if (Files.exists(path) && Files.size(path) >= maxFileSize) {
+            rotate();
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (UserChangeMessage message : messages) {
+                writer.write(objectMapper.writeValueAsString(redact(message)));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        Files.deleteIfExists(rotated(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            if (Files.exists(rotated(i))) {
+                Files.move(rotated(i), rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles > 0) {
+            Files.move(path, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(path);
+        }
+    }
+
+    private Path rotated(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private static UserChangeMessage redact(UserChangeMessage message) {
+        UserListDTO user = message.getUser();
+        if (user == null) {
+            return message;
+        }
+        return new UserChangeMessage(message.getId(), message.getType(), message.getUserIndex(),
+                message.getOccurredAt(), new UserListDTO(user.getUserIndex(), user.getUserId(), user.getUserName(),
+                        null, null, user.getCreateDate()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.thecommerce.user.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 전달된 메시지를 메모리에 보관합니다. 테스트와 로컬 실행용입니다.
+ */
+public class InMemoryUserChangeEventSink implements UserChangeEventSink {
+    private final List<UserChangeMessage> messages = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<UserChangeMessage> batch) {
+        messages.addAll(batch);
+    }
+
+    public List<UserChangeMessage> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    public void clear() {
+        messages.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package com.thecommerce.user.outbox;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.outbox")
+public class OutboxProperties {
+
+    /**
+     * 한 번에 전달하는 최대 이벤트 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 저장된 지 이 시간이 지난 이벤트만 전달합니다.
+     * outbox 순번은 커밋 순서와 다를 수 있으므로, 더 작은 순번을 받은 트랜잭션이 커밋될 때까지 기다리기 위한 시간입니다.
+     * 회원 정보를 변경하는 트랜잭션의 최대 실행 시간과 노드 간 시계 차이보다 길어야 합니다.
+     */
+    private Duration relayLag = Duration.ofSeconds(5);
+
+    /**
+     * 기본 전달 대상 (file, memory). UserChangeEventSink 빈을 직접 등록하면 무시됩니다.
+     */
+    private String sink = "file";
+
+    /**
+     * sink가 file인 경우 메시지를 추가할 파일 경로
+     */
+    private String file = "./data/user-change-events.jsonl";
+
+    /**
+     * sink가 file인 경우 이 크기 이상이면 파일을 밀어내고 새 파일에 씁니다.
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+
+    /**
+     * sink가 file인 경우 남겨 두는 밀어낸 파일 수
+     */
+    private int maxFiles = 5;
+}
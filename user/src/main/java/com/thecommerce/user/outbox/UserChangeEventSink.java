@@ -0,0 +1,17 @@
+package com.thecommerce.user.outbox;
+
+import java.util.List;
+
+/**
+ * outbox relay가 회원 변경 메시지를 전달하는 대상입니다.
+ * 메시지 브로커 등 실제 전달 대상은 이 인터페이스를 구현한 빈을 등록하여 연결합니다.
+ */
+public interface UserChangeEventSink {
+
+    /**
+     * 메시지 묶음을 순서대로 전달합니다. 예외가 발생하면 묶음 전체를 다음에 다시 전달합니다.
+     *
+     * @param messages outbox 순번 순으로 정렬된 메시지 목록
+     */
+    void publish(List<UserChangeMessage> messages) throws Exception;
+}
@@ -0,0 +1,26 @@
+package com.thecommerce.user.outbox;
+
+import java.time.LocalDateTime;
+
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 서비스로 전달되는 회원 변경 메시지입니다.
+ * id는 outbox 순번으로, 같은 회원에 대한 메시지는 id 순서대로 전달됩니다.
+ * 한 번 이상 전달될 수 있으므로 수신 측은 id로 중복을 제거해야 합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeMessage {
+    private Long id;
+    private UserChangedEvent.Type type;
+    private Long userIndex;
+    private LocalDateTime occurredAt;
+    private UserListDTO user;
+}
@@ -0,0 +1,61 @@
+package com.thecommerce.user.outbox;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+import com.sun.istack.NotNull;
+import com.thecommerce.user.crypto.EncryptedStringConverter;
+import com.thecommerce.user.user.UserChangedEvent;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 회원 변경 이벤트를 외부로 전달하기 전까지 보관하는 outbox 테이블입니다.
+ * 회원 정보와 같은 트랜잭션에서 저장되므로 커밋된 변경은 반드시 한 번 이상 전달됩니다.
+ * payload에는 이메일, 전화번호가 포함되므로 회원 테이블과 같은 키로 암호화하여 저장합니다.
+ * 전달이 끝난 행은 삭제되므로 키를 교체할 때는 쌓여 있는 이벤트가 전달될 때까지만 이전 키를 남겨 두면 됩니다.
+ */
+@Table(name = "UserOutbox", indexes = @Index(name = "idx_user_outbox_user_index", columnList = "userIndex"))
+@NoArgsConstructor
+@Entity
+@Getter
+@Setter
+public class UserOutboxEvent {
+
+    @Id
+    @NotNull
+    @GeneratedValue
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "userIndex")
+    private Long userIndex;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "eventType", length = 20)
+    private UserChangedEvent.Type eventType;
+
+    @NotNull
+    @Lob
+    @Convert(converter = EncryptedStringConverter.class)
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "createDate")
+    private LocalDateTime createDate;
+
+}
@@ -0,0 +1,108 @@
+package com.thecommerce.user.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 테이블에 쌓인 회원 변경 이벤트를 묶음 단위로 UserChangeEventSink에 전달합니다.
+ *
+ * 조회, 전달, 삭제를 한 트랜잭션에서 수행하므로 전달에 실패한 묶음은 삭제되지 않고 다음 주기에 다시 전달됩니다.
+ * (at-least-once) 이벤트는 outbox 순번 순으로 전달되므로 같은 회원에 대한 이벤트의 순서가 보장됩니다.
+ *
+ * 순번은 트랜잭션이 이벤트를 저장할 때 정해지므로 커밋 순서와 다를 수 있습니다. 더 큰 순번이 먼저 전달된 뒤
+ * 작은 순번이 커밋되면 순번으로 중복을 제거하는 수신 측이 그 메시지를 버릴 수 있으므로,
+ * 저장된 지 relayLag가 지나 그보다 작은 순번의 트랜잭션이 모두 끝났을 이벤트만 전달합니다.
+ */
+@Slf4j
+public class UserOutboxRelay {
+    private final UserOutboxRepository userOutboxRepository;
+    private final UserChangeEventSink sink;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Clock clock;
+    private final Duration relayLag;
+
+    public UserOutboxRelay(UserOutboxRepository userOutboxRepository, UserChangeEventSink sink,
+            ObjectMapper objectMapper, TransactionTemplate transactionTemplate, int batchSize, Clock clock,
+            Duration relayLag) {
+        this.userOutboxRepository = userOutboxRepository;
+        this.sink = sink;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        this.relayLag = relayLag;
+    }
+
+    @Scheduled(fixedDelayString = "${thecommerce.outbox.relay-interval:PT1S}")
+    public void scheduledRelay() {
+        try {
+            relay();
+        } catch (Exception e) {
+            log.error("user outbox relay failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 지 relayLag가 지난 이벤트를 모두 전달합니다.
+     *
+     * @return 전달한 이벤트 수
+     */
+    public synchronized int relay() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(relayLag);
+        int total = 0;
+        int relayed;
+        do {
+            Integer count = transactionTemplate.execute(status -> relayBatch(cutoff));
+            relayed = count == null ? 0 : count;
+            total += relayed;
+        } while (relayed == batchSize);
+        return total;
+    }
+
+    private int relayBatch(LocalDateTime cutoff) {
+        List<UserOutboxEvent> batch = userOutboxRepository.findByCreateDateLessThanEqualOrderByIdAsc(cutoff,
+                PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<UserChangeMessage> messages = new ArrayList<>(batch.size());
+        for (UserOutboxEvent event : batch) {
+            messages.add(toMessage(event));
+        }
+        try {
+            sink.publish(messages);
+        } catch (Exception e) {
+            throw new IllegalStateException("user change event sink failed: " + e.getMessage(), e);
+        }
+        userOutboxRepository.deleteAllInBatch(batch);
+        return batch.size();
+    }
+
+    private UserChangeMessage toMessage(UserOutboxEvent event) {
+        try {
+            return new UserChangeMessage(
+                    event.getId(),
+                    event.getEventType(),
+                    event.getUserIndex(),
+                    event.getCreateDate(),
+                    objectMapper.readValue(event.getPayload(), UserListDTO.class));
+        } catch (Exception e) {
+            throw new IllegalStateException("invalid user outbox payload: " + event.getId(), e);
+        }
+    }
+}
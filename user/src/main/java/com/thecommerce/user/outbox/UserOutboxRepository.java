@@ -0,0 +1,22 @@
+package com.thecommerce.user.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserOutboxRepository extends JpaRepository<UserOutboxEvent, Long> {
+
+    /**
+     * 주어진 시각 이전에 저장된 이벤트를 가장 오래된 것부터 조회하고 행 잠금을 겁니다.
+     * 여러 노드의 relay가 동시에 같은 이벤트를 전달하지 않도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<UserOutboxEvent> findByCreateDateLessThanEqualOrderByIdAsc(LocalDateTime createDate, Pageable pageable);
+}
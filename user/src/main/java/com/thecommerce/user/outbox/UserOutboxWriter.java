@@ -0,0 +1,33 @@
+package com.thecommerce.user.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.user.UserChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 변경 이벤트를 outbox 테이블에 저장합니다.
+ * 트랜잭션 커밋 이후가 아니라 이벤트 발행 시점에 동기로 실행되므로 회원 정보와 같은 트랜잭션에 포함됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserOutboxWriter {
+    private final UserOutboxRepository userOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) throws JsonProcessingException {
+        UserOutboxEvent outboxEvent = new UserOutboxEvent();
+        outboxEvent.setUserIndex(event.getUser().getUserIndex());
+        outboxEvent.setEventType(event.getType());
+        outboxEvent.setPayload(objectMapper.writeValueAsString(event.getUser()));
+        outboxEvent.setCreateDate(LocalDateTime.now());
+        userOutboxRepository.save(outboxEvent);
+    }
+}
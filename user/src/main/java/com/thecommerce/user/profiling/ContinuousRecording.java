@@ -0,0 +1,120 @@
+package com.thecommerce.user.profiling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션이 실행되는 동안 JFR Recording을 계속 유지합니다.
+ * 기록은 maxAge, maxSize를 넘으면 오래된 chunk부터 디스크에서 지워지므로 항상 최근 구간만 남습니다.
+ */
+@Slf4j
+public class ContinuousRecording {
+    private static final String RECORDING_NAME = "thecommerce-user-continuous";
+    private static final String FILE_PREFIX = "user-";
+    private static final String FILE_SUFFIX = ".jfr";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final JfrProperties properties;
+    private volatile Recording recording;
+    private LocalDateTime lastDumpTime = LocalDateTime.MIN;
+
+    public ContinuousRecording(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    public void start() throws IOException, ParseException {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Java Flight Recorder is not available in this JVM, continuous recording disabled");
+            return;
+        }
+        Recording newRecording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(properties.getMaxAge());
+        newRecording.setMaxSize(properties.getMaxSize().toBytes());
+        newRecording.enable(JoinValidationEvent.class);
+        newRecording.enable(PasswordHashEvent.class);
+        newRecording.enable(RepositoryCallEvent.class);
+        newRecording.start();
+        recording = newRecording;
+        log.info("continuous JFR recording started: settings={}, maxAge={}, maxSize={}", properties.getSettings(),
+                properties.getMaxAge(), properties.getMaxSize());
+    }
+
+    public void stop() {
+        Recording current = recording;
+        recording = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    public boolean isRecording() {
+        Recording current = recording;
+        return current != null && current.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * 최근 기간의 기록을 파일로 저장합니다.
+     * 스냅샷을 만들어 기록 중인 chunk까지 디스크에 쓴 뒤, 요청한 기간과 겹치는 chunk만 복사합니다.
+     * chunk 단위로 복사하므로 파일에는 요청한 기간보다 조금 앞선 이벤트가 포함될 수 있습니다.
+     * 파일 이름은 밀리초 단위 시각이며 같은 시각이면 1ms씩 뒤로 밀어 겹치지 않게 하고, 최근 maxDumps개만 남깁니다.
+     *
+     * @param last 저장할 기간
+     * @return 저장된 파일 경로, 기록 중이 아니거나 해당 기간의 기록이 없으면 null
+     */
+    public synchronized Path dump(Duration last) throws IOException {
+        if (!isRecording()) {
+            return null;
+        }
+        Path directory = Paths.get(properties.getDumpDirectory());
+        Files.createDirectories(directory);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        lastDumpTime = now.isAfter(lastDumpTime) ? now : lastDumpTime.plus(1, ChronoUnit.MILLIS);
+        Path file = directory.resolve(FILE_PREFIX + lastDumpTime.format(FILE_TIME) + FILE_SUFFIX);
+
+        Instant end = Instant.now();
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot();
+                InputStream stream = snapshot.getStream(end.minus(last), end)) {
+            if (stream == null) {
+                return null;
+            }
+            Files.copy(stream, file);
+        }
+        log.info("JFR recording of the last {} dumped to {}", last, file);
+        deleteOldDumps(directory);
+        return file;
+    }
+
+    private void deleteOldDumps(Path directory) throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+            }).sorted().collect(Collectors.toList());
+        }
+        for (int i = 0; i < dumps.size() - Math.max(properties.getMaxDumps(), 1); i++) {
+            Files.deleteIfExists(dumps.get(i));
+            log.info("old JFR dump {} deleted", dumps.get(i));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.thecommerce.user.profiling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상시 JFR 기록의 상태 조회와 덤프를 위한 Actuator 엔드포인트입니다. (ADMIN 권한 필요)
+ * POST /actuator/jfr {"minutes": 5} 로 최근 5분의 기록을 서버의 dump-directory에 저장합니다.
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+    private static final int DEFAULT_MINUTES = 5;
+
+    private final ContinuousRecording continuousRecording;
+    private final JfrProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("recording", continuousRecording.isRecording());
+        status.put("settings", properties.getSettings());
+        status.put("maxAge", properties.getMaxAge().toString());
+        status.put("maxSize", properties.getMaxSize().toString());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> dump(@Nullable Integer minutes) throws IOException {
+        Duration last = Duration.ofMinutes(minutes == null || minutes <= 0 ? DEFAULT_MINUTES : minutes);
+        if (last.compareTo(properties.getMaxAge()) > 0) {
+            last = properties.getMaxAge();
+        }
+        Path file = continuousRecording.dump(last);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("minutes", last.toMinutes());
+        result.put("file", file == null ? null : file.toAbsolutePath().toString());
+        result.put("bytes", file == null ? 0L : Files.size(file));
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.thecommerce.user.profiling;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.jfr")
+public class JfrProperties {
+    private boolean enabled = true;
+
+    /**
+     * JDK에 포함된 JFR 설정 이름 (default: 오버헤드 약 1%, profile: 약 2%)
+     */
+    private String settings = "default";
+
+    /**
+     * 디스크에 보관할 최대 기간
+     */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /**
+     * 디스크에 보관할 최대 크기
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * 덤프 파일을 저장할 디렉터리
+     */
+    private String dumpDirectory = "./data/jfr";
+
+    /**
+     * 덤프 디렉터리에 남길 최대 덤프 파일 수, 넘으면 오래된 파일부터 지웁니다.
+     */
+    private int maxDumps = 10;
+}
@@ -0,0 +1,19 @@
+package com.thecommerce.user.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.thecommerce.user.JoinValidation")
+@Label("Join Validation")
+@Category({ "TheCommerce", "User" })
+@Description("UserController.validateUser: 형식 검사와 이메일, 닉네임 중복 조회")
+@StackTrace(false)
+@Setter
+public class JoinValidationEvent extends jdk.jfr.Event {
+    @Label("Result")
+    private String result;
+}
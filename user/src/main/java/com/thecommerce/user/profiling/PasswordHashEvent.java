@@ -0,0 +1,19 @@
+package com.thecommerce.user.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.thecommerce.user.PasswordHash")
+@Label("Password Hash")
+@Category({ "TheCommerce", "User" })
+@Description("UserService의 BCrypt 암호화(encode), 비교(matches)")
+@StackTrace(false)
+@Setter
+public class PasswordHashEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    private String operation;
+}
@@ -0,0 +1,25 @@
+package com.thecommerce.user.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.thecommerce.user.RepositoryCall")
+@Label("Repository Call")
+@Category({ "TheCommerce", "User" })
+@Description("Spring Data 저장소 메서드 호출")
+@StackTrace(false)
+@Setter
+public class RepositoryCallEvent extends jdk.jfr.Event {
+    @Label("Repository")
+    private String repository;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Failed")
+    private boolean failed;
+}
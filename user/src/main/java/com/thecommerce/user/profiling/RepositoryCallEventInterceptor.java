@@ -0,0 +1,39 @@
+package com.thecommerce.user.profiling;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 저장소 프록시의 모든 메서드 호출을 RepositoryCallEvent로 기록합니다.
+ * 기록 중인 Recording이 없으면 JFR이 commit을 무시하므로 비용은 이벤트 객체 생성 정도입니다.
+ */
+public class RepositoryCallEventInterceptor implements MethodInterceptor {
+    private final String repository;
+
+    public RepositoryCallEventInterceptor(String repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setRepository(repository);
+                event.setMethod(invocation.getMethod().getName());
+                event.setFailed(failed);
+                event.commit();
+            }
+        }
+    }
+}
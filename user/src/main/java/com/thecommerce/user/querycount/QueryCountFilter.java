@@ -0,0 +1,72 @@
+package com.thecommerce.user.querycount;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 요청마다 실행된 SQL 수, 행 수, 시간을 응답 헤더(X-Query-Count, X-Query-Rows, X-Query-Time-Ms)와
+ * 엔드포인트별 메트릭(user.request.sql.*)으로 노출합니다.
+ * 본문을 쓰기 전에 헤더를 붙일 수 있도록 응답을 버퍼링합니다.
+ * SSE 같은 스트리밍 응답은 버퍼링하지 않으며, 비동기 처리 후의 dispatch에는 필터를 다시 적용하지 않습니다.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_ROWS_HEADER = "X-Query-Rows";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StreamingAwareResponseWrapper responseWrapper = new StreamingAwareResponseWrapper(response, request);
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            RequestQueryStats.clear();
+            responseWrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatements()));
+            responseWrapper.setHeader(QUERY_ROWS_HEADER, String.valueOf(stats.getRows()));
+            responseWrapper.setHeader(QUERY_TIME_HEADER, String.valueOf(stats.getElapsedMillis()));
+            record(request, stats);
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String method = request.getMethod();
+        DistributionSummary.builder("user.request.sql.statements")
+                .description("JDBC statements executed per HTTP request")
+                .tag("uri", uri).tag("method", method)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("user.request.sql.rows")
+                .description("Rows read or written per HTTP request")
+                .tag("uri", uri).tag("method", method)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("user.request.sql.time")
+                .description("JDBC execution time per HTTP request")
+                .tag("uri", uri).tag("method", method)
+                .register(meterRegistry)
+                .record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,17 @@
+package com.thecommerce.user.querycount;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.query-count")
+public class QueryCountProperties {
+    /**
+     * 요청별 SQL 실행 수, 행 수, 시간을 측정하여 응답 헤더와 메트릭으로 노출합니다.
+     * 모든 JDBC 호출과 ResultSet을 프록시로 감싸므로 운영(prod) 프로필에서는 끕니다.
+     */
+    private boolean enabled = true;
+}
@@ -0,0 +1,56 @@
+package com.thecommerce.user.querycount;
+
+/**
+ * 현재 HTTP 요청을 처리하는 스레드에서 실행된 SQL 통계입니다.
+ * QueryCountFilter가 요청 시작 시 만들고 끝날 때 지우며, 그 사이 같은 스레드의 JDBC 호출만 집계됩니다.
+ * (그룹 커밋 writer 스레드 등 다른 스레드에서 실행된 SQL은 포함되지 않습니다.)
+ */
+public class RequestQueryStats {
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long elapsedMillis;
+
+    static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void addStatement(long elapsedMillis, long affectedRows) {
+        statements++;
+        this.elapsedMillis += elapsedMillis;
+        rows += affectedRows;
+    }
+
+    void addRowRead() {
+        rows++;
+    }
+
+    /**
+     * @return 데이터베이스로 보낸 JDBC 실행 수 (배치 실행은 1건)
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * @return 읽은 행 수와 변경된 행 수의 합
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
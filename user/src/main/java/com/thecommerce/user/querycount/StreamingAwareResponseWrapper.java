@@ -0,0 +1,58 @@
+package com.thecommerce.user.querycount;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * 응답 본문을 버퍼링하되, 스트리밍 응답(text/event-stream 또는 비동기 처리)은 버퍼링하지 않고 바로 씁니다.
+ * 버퍼링하면 요청이 끝날 때까지 클라이언트가 이벤트를 받지 못하기 때문입니다.
+ */
+class StreamingAwareResponseWrapper extends ContentCachingResponseWrapper {
+    private final HttpServletRequest request;
+
+    StreamingAwareResponseWrapper(HttpServletResponse response, HttpServletRequest request) {
+        super(response);
+        this.request = request;
+    }
+
+    boolean isStreaming() {
+        String contentType = getContentType();
+        return request.isAsyncStarted()
+                || contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (isStreaming()) {
+            copyBodyToResponse(false);
+            return getResponse().getOutputStream();
+        }
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (isStreaming()) {
+            copyBodyToResponse(false);
+            return getResponse().getWriter();
+        }
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (isStreaming()) {
+            copyBodyToResponse(false);
+            getResponse().flushBuffer();
+            return;
+        }
+        super.flushBuffer();
+    }
+}
@@ -0,0 +1,43 @@
+package com.thecommerce.user.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 키(클라이언트 IP, 회원 아이디 등)별로 토큰 버킷을 관리합니다.
+ * 버킷은 크기가 제한되고 일정 시간 접근이 없으면 만료되는 맵에 보관되므로
+ * 키가 무한히 늘어나도 메모리가 제한됩니다.
+ */
+public class KeyedRateLimiter {
+    private final long capacity;
+    private final double refillPerSecond;
+    private final Cache<String, TokenBucket> buckets;
+
+    public KeyedRateLimiter(long capacity, double refillPerSecond, long maxKeys) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        long refillAllNanos = new TokenBucket(capacity, refillPerSecond, 0L).getBurstWindowNanos();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Math.max(refillAllNanos, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    /**
+     * key에 해당하는 버킷에서 토큰 하나를 획득합니다.
+     *
+     * @param key 제한 대상 키
+     * @return 획득에 성공하면 0, 실패하면 다시 시도할 수 있을 때까지의 시간(ns)을 리턴합니다.
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillPerSecond, now));
+        return bucket.tryAcquire(now);
+    }
+
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+}
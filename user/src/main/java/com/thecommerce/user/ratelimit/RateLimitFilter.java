@@ -0,0 +1,137 @@
+package com.thecommerce.user.ratelimit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 연산이 발생하는 회원가입(POST /api/user/join), 로그인(POST /api/user/login)과
+ * 회원 정보 수정(PUT /api/user/{loginId}) 요청에 대해 클라이언트 IP별, 회원 아이디별 요청 수를 제한합니다.
+ * 제한을 넘은 요청은 컨트롤러에 도달하기 전에 HttpStatus.TOO_MANY_REQUESTS로 거절됩니다.
+ *
+ * 경로는 Spring MVC가 핸들러를 찾을 때와 같이 디코딩하고 ';' 뒤의 매개변수와 끝의 '/'를 떼고 비교하므로,
+ * /api/user/login/ 이나 /api/user/login;x=1 처럼 같은 핸들러로 가는 요청도 제한합니다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String JOIN_PATH = "/api/user/join";
+    private static final String LOGIN_PATH = "/api/user/login";
+    private static final String USER_PATH_PREFIX = "/api/user/";
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final KeyedRateLimiter clientIpLimiter;
+    private final KeyedRateLimiter loginIdLimiter;
+    private final Counter joinRejectedByIp;
+    private final Counter loginRejectedByIp;
+    private final Counter updateRejectedByIp;
+    private final Counter updateRejectedByLoginId;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.clientIpLimiter = new KeyedRateLimiter(properties.getClientIp().getCapacity(),
+                properties.getClientIp().getRefillPerSecond(), properties.getMaxKeys());
+        this.loginIdLimiter = new KeyedRateLimiter(properties.getLoginId().getCapacity(),
+                properties.getLoginId().getRefillPerSecond(), properties.getMaxKeys());
+        this.joinRejectedByIp = rejectedCounter(meterRegistry, "join", "clientIp");
+        this.loginRejectedByIp = rejectedCounter(meterRegistry, "login", "clientIp");
+        this.updateRejectedByIp = rejectedCounter(meterRegistry, "update", "clientIp");
+        this.updateRejectedByLoginId = rejectedCounter(meterRegistry, "update", "loginId");
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String endpoint, String limit) {
+        return Counter.builder("user.rate-limit.rejected")
+                .description("Requests rejected by the per-client rate limiter")
+                .tag("endpoint", endpoint)
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = handlerPath(request);
+        if (HttpMethod.POST.matches(request.getMethod())) {
+            return !JOIN_PATH.equals(path) && !LOGIN_PATH.equals(path);
+        }
+        if (HttpMethod.PUT.matches(request.getMethod())) {
+            return extractLoginId(path) == null;
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientIp = request.getRemoteAddr();
+        long waitNanos = clientIpLimiter.tryAcquire(clientIp);
+
+        if (HttpMethod.POST.matches(request.getMethod())) {
+            if (waitNanos > 0) {
+                (LOGIN_PATH.equals(handlerPath(request)) ? loginRejectedByIp : joinRejectedByIp).increment();
+                reject(response, waitNanos);
+                return;
+            }
+        } else {
+            if (waitNanos > 0) {
+                updateRejectedByIp.increment();
+                reject(response, waitNanos);
+                return;
+            }
+            String loginId = extractLoginId(handlerPath(request));
+            waitNanos = loginIdLimiter.tryAcquire(loginId);
+            if (waitNanos > 0) {
+                updateRejectedByLoginId.increment();
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Spring MVC가 핸들러를 찾는 경로와 같은 경로를 리턴합니다.
+     * 컨텍스트 경로를 빼고 디코딩한 뒤 ';' 뒤의 매개변수를 지우고, 끝의 '/'는 같은 핸들러로 매핑되므로 뗍니다.
+     */
+    private static String handlerPath(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    /**
+     * PUT /api/user/{loginId} 형태의 경로에서 회원 아이디를 추출합니다.
+     *
+     * @return 회원 아이디, 형태가 맞지 않으면 null
+     */
+    private static String extractLoginId(String path) {
+        if (!path.startsWith(USER_PATH_PREFIX)) {
+            return null;
+        }
+        String loginId = path.substring(USER_PATH_PREFIX.length());
+        if (loginId.isEmpty() || loginId.indexOf('/') >= 0) {
+            return null;
+        }
+        return loginId;
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        log.debug("request rejected by rate limiter, retry after {}s", retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("TOO_MANY_REQUESTS");
+    }
+}
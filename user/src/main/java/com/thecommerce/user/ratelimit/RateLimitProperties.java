@@ -0,0 +1,36 @@
+package com.thecommerce.user.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    /**
+     * 추적할 수 있는 최대 키 수 (IP, 회원 아이디 각각)
+     */
+    private long maxKeys = 100_000;
+
+    private Bucket clientIp = new Bucket(100, 20);
+    private Bucket loginId = new Bucket(20, 2);
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        private long capacity;
+        private double refillPerSecond;
+
+        public Bucket() {
+        }
+
+        public Bucket(long capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
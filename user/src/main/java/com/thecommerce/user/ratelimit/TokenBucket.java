@@ -0,0 +1,56 @@
+package com.thecommerce.user.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷입니다.
+ * 남은 토큰 수 대신 "다음 요청이 도착해야 할 이론적 시각" 하나만 관리하므로
+ * 락 없이 CAS 한 번으로 토큰을 획득할 수 있습니다.
+ */
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    /**
+     * @param capacity        한 번에 허용되는 최대 요청 수
+     * @param refillPerSecond 초당 보충되는 토큰 수
+     * @param nowNanos        생성 시각 (System.nanoTime 기준)
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstWindowNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 획득합니다.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     * @return 획득에 성공하면 0, 실패하면 다음 토큰까지 기다려야 하는 시간(ns)을 리턴합니다.
+     */
+    public long tryAcquire(long nowNanos) {
+        for (;;) {
+            long tat = theoreticalArrivalTime.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long allowAt = newTat - burstWindowNanos;
+            if (allowAt - nowNanos > 0) {
+                return allowAt - nowNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찰 때까지 걸리는 시간(ns)을 리턴합니다. 이 시간이 지나면 버킷을 버려도 동작이 같습니다.
+     */
+    public long getBurstWindowNanos() {
+        return burstWindowNanos;
+    }
+}
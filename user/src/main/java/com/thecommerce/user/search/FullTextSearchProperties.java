@@ -0,0 +1,29 @@
+package com.thecommerce.user.search;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.search.full-text")
+public class FullTextSearchProperties {
+
+    /**
+     * Lucene 인덱스를 저장할 디렉터리, 비어 있으면 메모리에 인덱스를 만듭니다.
+     */
+    private String directory;
+
+    /**
+     * 변경 내용이 검색 결과에 반영되기까지 허용하는 최대 지연 시간
+     */
+    private Duration maxStale = Duration.ofSeconds(1);
+
+    /**
+     * 인덱스를 디스크에 커밋하는 주기
+     */
+    private Duration commitInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,280 @@
+package com.thecommerce.user.search;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+/**
+ * 회원 정보(userName, email, phoneNumber, userId)를 Lucene 인덱스에 색인하고 토큰/오타 허용 검색을 수행합니다.
+ *
+ * 인덱스는 디스크에 저장되므로 암호화하지 않은 개인정보가 남지 않도록 회원 번호만 저장(Store.YES)하고
+ * 나머지 필드는 검색용으로 색인만 합니다. 검색 결과는 회원 번호 목록이며 호출하는 쪽에서 회원 정보를 조회합니다.
+ * 변경 내용은 IndexWriter에 바로 반영되고, 백그라운드 스레드가 maxStale 이내에 검색기를 갱신합니다.
+ */
+public class UserFullTextIndex implements Closeable {
+    private static final String ID = "id";
+    private static final String USER_ID = "userId";
+    private static final String USER_NAME = "userName";
+    private static final String EMAIL = "email";
+    private static final String PHONE_NUMBER = "phoneNumber";
+    private static final String PHONE_DIGITS = "phoneDigits";
+    private static final String GENERATION = "generation";
+    private static final String[] TEXT_FIELDS = { USER_NAME, EMAIL, USER_ID, PHONE_NUMBER };
+    private static final String FORMAT_KEY = "format";
+    /**
+     * 저장하는 필드가 바뀌면 올립니다. 디스크의 인덱스가 다른 형식이면 시작 시 다시 만듭니다.
+     * (2: 회원 번호 외의 필드를 저장하지 않음)
+     */
+    private static final String FORMAT_VERSION = "2";
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    /**
+     * 문서를 색인한 재생성 회차, 재생성이 끝나면 이번 회차에 색인되지 않은 문서를 지웁니다.
+     */
+    private volatile String generation = UUID.randomUUID().toString();
+
+    public UserFullTextIndex(FullTextSearchProperties properties) {
+        try {
+            String path = properties.getDirectory();
+            this.directory = path == null || path.trim().isEmpty()
+                    ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Paths.get(path));
+            this.analyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+            this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(indexWriter, null);
+            double maxStaleSeconds = properties.getMaxStale().toMillis() / 1000.0;
+            this.reopenThread = new ControlledRealTimeReopenThread<>(indexWriter, searcherManager,
+                    maxStaleSeconds, Math.min(0.025, maxStaleSeconds));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        reopenThread.setName("user-full-text-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    /**
+     * 회원 문서를 추가하거나 같은 userIndex의 문서를 교체합니다.
+     *
+     * @param user 회원 정보
+     */
+    public void index(UserListDTO user) throws IOException {
+        if (user.getUserIndex() == null) {
+            return;
+        }
+        indexWriter.updateDocument(new Term(ID, String.valueOf(user.getUserIndex())), toDocument(user));
+    }
+
+    /**
+     * 회원 문서를 삭제합니다.
+     *
+     * @param userIndex 회원 번호
+     */
+    public void delete(Long userIndex) throws IOException {
+        if (userIndex == null) {
+            return;
+        }
+        indexWriter.deleteDocuments(new Term(ID, String.valueOf(userIndex)));
+    }
+
+    /**
+     * 전달된 회원 목록으로 인덱스를 다시 만듭니다.
+     *
+     * 재생성 중에도 검색 결과가 비지 않도록 먼저 지우지 않고 회원 문서를 하나씩 교체한 뒤,
+     * 이번 재생성에서 색인되지 않은 (삭제된 회원의) 문서를 마지막에 지웁니다.
+     *
+     * @param loader 회원 목록을 순서대로 전달하는 함수
+     * @return 인덱스에 저장된 문서 수
+     */
+    public synchronized long rebuild(UserLoader loader) throws IOException {
+        String current = UUID.randomUUID().toString();
+        generation = current;
+        indexWriter.setLiveCommitData(
+                Collections.singletonList(new AbstractMap.SimpleImmutableEntry<>(FORMAT_KEY, FORMAT_VERSION)));
+        loader.load(user -> {
+            try {
+                index(user);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        indexWriter.deleteDocuments(new BooleanQuery.Builder()
+                .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(GENERATION, current)), BooleanClause.Occur.MUST_NOT)
+                .build());
+        commit();
+        searcherManager.maybeRefreshBlocking();
+        return numDocs();
+    }
+
+    /**
+     * userName, email, userId, phoneNumber에서 검색어의 모든 토큰이 일치(접두어, 오타 허용 포함)하는 회원을 찾습니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 점수가 높은 순으로 정렬된 회원 번호 목록
+     */
+    public List<Long> search(String query, int limit) throws IOException {
+        List<String> tokens = analyze(query);
+        if (tokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            builder.add(tokenQuery(token), BooleanClause.Occur.MUST);
+        }
+        String digits = query.replaceAll("[^0-9]", "");
+        Query luceneQuery = builder.build();
+        if (digits.length() >= 4) {
+            luceneQuery = new BooleanQuery.Builder()
+                    .add(luceneQuery, BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(PHONE_DIGITS, digits)), BooleanClause.Occur.SHOULD)
+                    .build();
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(luceneQuery, limit);
+            List<Long> result = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                result.add(Long.valueOf(searcher.doc(scoreDoc.doc).get(ID)));
+            }
+            return result;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * @return 인덱스가 현재 형식으로 만들어졌는지 여부, 이전 형식이면 rebuild가 필요합니다.
+     */
+    public boolean isCurrentFormat() {
+        Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (FORMAT_KEY.equals(entry.getKey())) {
+                    return FORMAT_VERSION.equals(entry.getValue());
+                }
+            }
+        }
+        return false;
+    }
+
+    public long numDocs() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    public void commit() throws IOException {
+        if (indexWriter.hasUncommittedChanges()) {
+            indexWriter.commit();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private static Query tokenQuery(String token) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        int maxEdits = token.length() <= 2 ? 0 : token.length() <= 5 ? 1 : 2;
+        for (String field : TEXT_FIELDS) {
+            Term term = new Term(field, token);
+            builder.add(new BoostQuery(new TermQuery(term), 3.0f), BooleanClause.Occur.SHOULD);
+            builder.add(new BoostQuery(new PrefixQuery(term), 2.0f), BooleanClause.Occur.SHOULD);
+            if (maxEdits > 0) {
+                builder.add(new FuzzyQuery(term, maxEdits, 1), BooleanClause.Occur.SHOULD);
+            }
+        }
+        return builder.build();
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(USER_NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+
+    private Document toDocument(UserListDTO user) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(user.getUserIndex()), Field.Store.YES));
+        document.add(new StringField(GENERATION, generation, Field.Store.NO));
+        addText(document, USER_ID, user.getUserId());
+        addText(document, USER_NAME, user.getUserName());
+        addText(document, EMAIL, user.getEmail());
+        addText(document, PHONE_NUMBER, user.getPhoneNumber());
+        if (user.getPhoneNumber() != null) {
+            document.add(new StringField(PHONE_DIGITS, user.getPhoneNumber().replaceAll("[^0-9]", ""),
+                    Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    /**
+     * 인덱스 재생성 시 회원 목록을 전달하는 함수입니다.
+     */
+    @FunctionalInterface
+    public interface UserLoader {
+        void load(Consumer<UserListDTO> consumer) throws IOException;
+    }
+}
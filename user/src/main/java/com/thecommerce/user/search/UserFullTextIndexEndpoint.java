@@ -0,0 +1,34 @@
+package com.thecommerce.user.search;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lucene 회원 인덱스의 상태 조회와 전체 재생성을 위한 Actuator 엔드포인트입니다.
+ * POST /actuator/userfulltextindex 로 인덱스를 다시 만듭니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "userfulltextindex")
+public class UserFullTextIndexEndpoint {
+    private final UserFullTextIndex userFullTextIndex;
+    private final UserFullTextIndexUpdater userFullTextIndexUpdater;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Collections.singletonMap("numDocs", userFullTextIndex.numDocs());
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() throws IOException {
+        return Collections.singletonMap("numDocs", userFullTextIndexUpdater.rebuild());
+    }
+}
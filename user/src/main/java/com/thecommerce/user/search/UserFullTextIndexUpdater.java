@@ -0,0 +1,101 @@
+package com.thecommerce.user.search;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 회원 변경 내용을 Lucene 인덱스에 반영하고, 주기적으로 인덱스를 디스크에 커밋합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserFullTextIndexUpdater {
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final UserFullTextIndex userFullTextIndex;
+    private final UserRepository userRepository;
+
+    /**
+     * 인덱스의 문서 수가 회원 수와 다르거나 (처음 시작했거나 인덱스가 손상된 경우)
+     * 이전 형식으로 만들어진 경우 인덱스를 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        try {
+            long userCount = userRepository.count();
+            if (!userFullTextIndex.isCurrentFormat()) {
+                log.info("user full-text index was built with an older format, rebuilding");
+                rebuild();
+            } else if (userFullTextIndex.numDocs() != userCount) {
+                log.info("user full-text index has {} documents but {} users exist, rebuilding",
+                        userFullTextIndex.numDocs(), userCount);
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("user full-text index verification failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스의 모든 회원으로 인덱스를 다시 만듭니다.
+     *
+     * @return 인덱스에 저장된 문서 수
+     */
+    public long rebuild() throws IOException {
+        long start = System.currentTimeMillis();
+        long numDocs = userFullTextIndex.rebuild(this::loadAll);
+        log.info("user full-text index rebuilt: {} documents in {}ms", numDocs, System.currentTimeMillis() - start);
+        return numDocs;
+    }
+
+    private void loadAll(Consumer<UserListDTO> consumer) {
+        Pageable pageable = PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("userIndex"));
+        Slice<User> page;
+        do {
+            page = userRepository.findAllBy(pageable);
+            page.forEach(user -> consumer.accept(UserService.toUserListDTO(user)));
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        try {
+            if (event.getType() == UserChangedEvent.Type.DELETED) {
+                userFullTextIndex.delete(event.getUser().getUserIndex());
+            } else {
+                userFullTextIndex.index(event.getUser());
+            }
+        } catch (Exception e) {
+            log.error("user full-text index update failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${thecommerce.search.full-text.commit-interval:PT30S}")
+    public void commit() {
+        try {
+            userFullTextIndex.commit();
+        } catch (Exception e) {
+            log.error("user full-text index commit failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.thecommerce.user.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+/**
+ * userName과 email의 접두어로 회원을 찾기 위한 메모리 정렬 인덱스입니다.
+ *
+ * "소문자로 정규화한 값 + 구분자 + userIndex"를 키로 하는 정렬 맵을 사용하므로
+ * 접두어 검색은 정렬 맵의 범위 조회 한 번으로 끝납니다.
+ */
+public class UserPrefixIndex {
+    private static final char SEPARATOR = '\u0000';
+    private static final char MAX_CHAR = '\uffff';
+
+    private final ConcurrentSkipListMap<String, Long> terms = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, UserListDTO> users = new ConcurrentHashMap<>();
+
+    /**
+     * 회원 정보를 인덱스에 추가하거나, 이미 있는 회원이면 새 정보로 교체합니다.
+     *
+     * @param user 회원 정보
+     */
+    public void index(UserListDTO user) {
+        if (user.getUserIndex() == null) {
+            return;
+        }
+        users.compute(user.getUserIndex(), (userIndex, previous) -> {
+            if (previous != null) {
+                removeTerms(previous);
+            }
+            addTerms(user);
+            return user;
+        });
+    }
+
+    /**
+     * 인덱스에 없는 회원만 추가합니다. 시작 시 전체 적재 도중 들어온 변경 내용을 덮어쓰지 않기 위해 사용합니다.
+     *
+     * @param user 회원 정보
+     */
+    public void indexIfAbsent(UserListDTO user) {
+        if (user.getUserIndex() == null) {
+            return;
+        }
+        users.computeIfAbsent(user.getUserIndex(), userIndex -> {
+            addTerms(user);
+            return user;
+        });
+    }
+
+    /**
+     * 회원을 인덱스에서 삭제합니다.
+     *
+     * @param userIndex 회원 번호
+     */
+    public void remove(Long userIndex) {
+        if (userIndex == null) {
+            return;
+        }
+        users.computeIfPresent(userIndex, (key, previous) -> {
+            removeTerms(previous);
+            return null;
+        });
+    }
+
+    /**
+     * userName 또는 email이 query로 시작하는 회원을 찾습니다. 대소문자는 구분하지 않습니다.
+     *
+     * @param query 검색할 접두어
+     * @param limit 최대 결과 수
+     * @return 검색된 회원 목록
+     */
+    public List<UserListDTO> search(String query, int limit) {
+        String prefix = normalize(query);
+        ConcurrentNavigableMap<String, Long> matches = terms.subMap(prefix, true, prefix + MAX_CHAR, false);
+
+        Set<Long> userIndexes = new LinkedHashSet<>();
+        for (Long userIndex : matches.values()) {
+            if (userIndexes.size() >= limit) {
+                break;
+            }
+            userIndexes.add(userIndex);
+        }
+
+        List<UserListDTO> result = new ArrayList<>(userIndexes.size());
+        for (Long userIndex : userIndexes) {
+            UserListDTO user = users.get(userIndex);
+            if (user != null) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    private void addTerms(UserListDTO user) {
+        if (user.getUserName() != null) {
+            terms.put(key(user.getUserName(), user.getUserIndex()), user.getUserIndex());
+        }
+        if (user.getEmail() != null) {
+            terms.put(key(user.getEmail(), user.getUserIndex()), user.getUserIndex());
+        }
+    }
+
+    private void removeTerms(UserListDTO user) {
+        if (user.getUserName() != null) {
+            terms.remove(key(user.getUserName(), user.getUserIndex()));
+        }
+        if (user.getEmail() != null) {
+            terms.remove(key(user.getEmail(), user.getUserIndex()));
+        }
+    }
+
+    private static String key(String value, Long userIndex) {
+        return normalize(value) + SEPARATOR + userIndex;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,58 @@
+package com.thecommerce.user.search;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 시작 시 접두어 인덱스를 만들고, 이후에는 커밋된 회원 변경 내용을 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrefixIndexUpdater {
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final UserPrefixIndex userPrefixIndex;
+    private final UserRepository userRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            long start = System.currentTimeMillis();
+            Pageable pageable = PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("userIndex"));
+            Slice<User> page;
+            do {
+                page = userRepository.findAllBy(pageable);
+                page.forEach(user -> userPrefixIndex.indexIfAbsent(UserService.toUserListDTO(user)));
+                pageable = page.nextPageable();
+            } while (page.hasNext());
+            log.info("user prefix index loaded: {} users in {}ms", userPrefixIndex.size(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("user prefix index load failed: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            userPrefixIndex.remove(event.getUser().getUserIndex());
+        } else {
+            userPrefixIndex.index(event.getUser());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.thecommerce.user.search;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.thecommerce.user.directory.UserDirectory;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/user")
+public class UserSearchController {
+    private static final int MAX_LIMIT = 50;
+
+    private final UserPrefixIndex userPrefixIndex;
+    private final UserFullTextIndex userFullTextIndex;
+    private final UserDirectory userDirectory;
+    private final UserService userService;
+
+    /**
+     * 회원 이름 또는 이메일의 접두어로 회원을 검색합니다.
+     *
+     * @param q     검색할 접두어
+     * @param limit 최대 결과 수 (최대 50)
+     * @return 검색된 회원 목록, 검색어가 비어 있거나 limit이 범위를 벗어난 경우 HttpStatus.BAD_REQUEST를
+     *         리턴합니다.
+     */
+    @Operation(summary = "회원 접두어 검색", description = "회원 이름 또는 이메일의 접두어로 회원을 검색합니다")
+    @GetMapping("/search")
+    public ResponseEntity<?> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (q.trim().isEmpty()) {
+            return new ResponseEntity<>("query error", HttpStatus.BAD_REQUEST);
+        }
+        if (limit < 1 || MAX_LIMIT < limit) {
+            return new ResponseEntity<>("limit error", HttpStatus.BAD_REQUEST);
+        }
+
+        List<UserListDTO> result = userPrefixIndex.search(q, limit);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 회원 이름, 이메일, 아이디, 전화번호에 대해 토큰 단위 검색을 수행합니다. 접두어와 오타를 허용합니다.
+     * 인덱스는 회원 번호만 돌려주므로 회원 정보는 메모리 디렉터리(준비된 경우) 또는 데이터베이스에서 검색 순서대로 조회합니다.
+     *
+     * @param q     검색어
+     * @param limit 최대 결과 수 (최대 50)
+     * @return 검색된 회원 목록, 검색어가 비어 있거나 limit이 범위를 벗어난 경우 HttpStatus.BAD_REQUEST,
+     *         서버 에러 시 HttpStatus.INTERNAL_SERVER_ERROR를 리턴합니다.
+     */
+    @Operation(summary = "회원 전문 검색", description = "회원 이름, 이메일, 아이디, 전화번호로 회원을 검색합니다")
+    @GetMapping("/search/full-text")
+    public ResponseEntity<?> fullTextSearch(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (q.trim().isEmpty()) {
+            return new ResponseEntity<>("query error", HttpStatus.BAD_REQUEST);
+        }
+        if (limit < 1 || MAX_LIMIT < limit) {
+            return new ResponseEntity<>("limit error", HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            List<Long> userIndexes = userFullTextIndex.search(q, limit);
+            List<UserListDTO> result = userDirectory.getUsers(Collections.emptyList(), userIndexes)
+                    .orElseGet(() -> userService.getUsers(Collections.emptyList(), userIndexes))
+                    .getUsers();
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+}
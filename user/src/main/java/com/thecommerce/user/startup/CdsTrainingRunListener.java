@@ -0,0 +1,38 @@
+package com.thecommerce.user.startup;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AppCDS 학습 실행용 리스너입니다.
+ * 애플리케이션이 준비되면 회원 목록 조회를 한 번 호출하여 첫 요청 처리에 필요한 클래스까지 적재한 뒤 종료합니다.
+ * JVM이 종료될 때 -XX:ArchiveClassesAtExit 옵션으로 지정한 파일에 적재된 클래스가 기록됩니다.
+ */
+@Slf4j
+public class CdsTrainingRunListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        if (context instanceof WebServerApplicationContext) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            try {
+                HttpURLConnection connection = (HttpURLConnection) new URL(
+                        "http://localhost:" + port + "/api/user/list").openConnection();
+                log.info("CDS training request finished with status {}", connection.getResponseCode());
+                connection.disconnect();
+            } catch (Exception e) {
+                log.error("CDS training request failed: {}", e.getMessage());
+            }
+        }
+        System.exit(SpringApplication.exit(context));
+    }
+}
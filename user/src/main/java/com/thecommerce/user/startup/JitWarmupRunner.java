@@ -0,0 +1,125 @@
+package com.thecommerce.user.startup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.user.UserController;
+import com.thecommerce.user.user.userDTO.UserBatchGetDTO;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실제 UserController, UserService 빈에 합성 요청을 반복 호출하여
+ * 유효성 검사, Jackson 직렬화, Hibernate, BCrypt 코드가 JIT 컴파일되도록 합니다.
+ *
+ * ApplicationRunner는 readiness 상태가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로
+ * 워밍업이 끝날 때까지 readiness probe는 UP을 리턴하지 않습니다.
+ * 각 호출은 롤백되는 트랜잭션 안에서 실행되므로 데이터베이스, outbox, 인덱스에 아무것도 남기지 않습니다.
+ */
+@Slf4j
+public class JitWarmupRunner implements ApplicationRunner, InfoContributor {
+    private static final String JOIN = "join";
+    private static final String LIST = "list";
+    private static final String LOOKUP = "lookup";
+
+    private final UserController userController;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final WarmupProperties properties;
+    private final WarmupReport report = new WarmupReport();
+
+    public JitWarmupRunner(UserController userController, ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate, WarmupProperties properties) {
+        this.userController = userController;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        List<String> schedule = schedule();
+        for (int i = 0; i < properties.getIterations(); i++) {
+            String operation = schedule.get(i % schedule.size());
+            try {
+                report.record(operation, timeInRolledBackTransaction(call(operation, i)));
+            } catch (Exception e) {
+                log.warn("warm-up {} call failed: {}", operation, e.getMessage());
+            }
+        }
+        log.info("JIT warm-up finished in {}ms: {}", System.currentTimeMillis() - start, report.toMap());
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        builder.withDetail("warmup", report.toMap());
+    }
+
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    /**
+     * 설정된 비율대로 호출 종류를 섞은 순서를 만듭니다. (예: join 1, list 5, lookup 4 → 10개 단위 반복)
+     */
+    private List<String> schedule() {
+        List<String> schedule = new ArrayList<>();
+        WarmupProperties.Mix mix = properties.getMix();
+        schedule.addAll(Collections.nCopies(mix.getJoin(), JOIN));
+        schedule.addAll(Collections.nCopies(mix.getList(), LIST));
+        schedule.addAll(Collections.nCopies(mix.getLookup(), LOOKUP));
+        if (schedule.isEmpty()) {
+            schedule.add(LIST);
+        }
+        Collections.shuffle(schedule, new Random(0));
+        return schedule;
+    }
+
+    private Callable<Object> call(String operation, int i) {
+        switch (operation) {
+            case JOIN:
+                return () -> {
+                    String json = objectMapper.writeValueAsString(new UserDTO(null, "warmup" + i, "wu" + (i % 1000),
+                            "warmup" + i + "@example.com", "Warmup!123", "010-1234-5678", null));
+                    return userController.join(objectMapper.readValue(json, UserDTO.class));
+                };
+            case LOOKUP:
+                return () -> {
+                    String json = objectMapper.writeValueAsString(new UserBatchGetDTO(
+                            Arrays.asList("warmup" + i, "warmup" + (i + 1)), Arrays.asList((long) i)));
+                    return userController.batchGet(objectMapper.readValue(json, UserBatchGetDTO.class));
+                };
+            default:
+                return () -> userController.getUserList(0, 10, i % 2 == 0 ? "createDateSort" : null,
+                        i % 3 == 0 ? "userNameSort" : null);
+        }
+    }
+
+    private long timeInRolledBackTransaction(Callable<Object> call) {
+        Long nanos = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            long begin = System.nanoTime();
+            try {
+                Object response = call.call();
+                objectMapper.writeValueAsBytes(response);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return System.nanoTime() - begin;
+        });
+        return nanos == null ? 0L : nanos;
+    }
+}
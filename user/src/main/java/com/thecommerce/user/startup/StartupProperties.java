@@ -0,0 +1,17 @@
+package com.thecommerce.user.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.startup")
+public class StartupProperties {
+
+    /**
+     * 애플리케이션 시작 후 첫 요청을 한 번 수행하고 종료합니다. AppCDS 아카이브를 만들기 위한 학습 실행에 사용합니다.
+     */
+    private boolean exitAfterReady = false;
+}
@@ -0,0 +1,31 @@
+package com.thecommerce.user.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.warmup")
+public class WarmupProperties {
+    private boolean enabled = false;
+
+    /**
+     * 수행할 전체 호출 수
+     */
+    private int iterations = 300;
+
+    /**
+     * 호출 종류별 비율 (회원가입 유효성 검사 + 저장, 목록 조회, 일괄 조회)
+     */
+    private Mix mix = new Mix();
+
+    @Getter
+    @Setter
+    public static class Mix {
+        private int join = 1;
+        private int list = 5;
+        private int lookup = 4;
+    }
+}
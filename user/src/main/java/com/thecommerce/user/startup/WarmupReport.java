@@ -0,0 +1,38 @@
+package com.thecommerce.user.startup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 워밍업 단계에서 호출 종류별로 측정한 첫 호출 지연 시간과 워밍업 후 지연 시간입니다.
+ */
+public class WarmupReport {
+    private final Map<String, long[]> samples = new LinkedHashMap<>();
+
+    synchronized void record(String operation, long nanos) {
+        long[] sample = samples.get(operation);
+        if (sample == null) {
+            samples.put(operation, new long[] { nanos, nanos, 1 });
+            return;
+        }
+        sample[1] = nanos;
+        sample[2]++;
+    }
+
+    /**
+     * @return 호출 종류별 {calls, firstMillis, warmedMillis, improvementPercent}
+     */
+    public synchronized Map<String, Map<String, Object>> toMap() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> entry : samples.entrySet()) {
+            long[] sample = entry.getValue();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("calls", sample[2]);
+            values.put("firstMillis", sample[0] / 1_000_000.0);
+            values.put("warmedMillis", sample[1] / 1_000_000.0);
+            values.put("improvementPercent", Math.round(100.0 * (sample[0] - sample[1]) / sample[0]));
+            result.put(entry.getKey(), values);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package com.thecommerce.user.stats;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import com.sun.istack.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 시간(정시)별 회원가입 수를 미리 집계해 두는 rollup 테이블입니다.
+ * SignupStats가 메모리에 모은 증가분을 주기적으로 더하며, Users 테이블에서 다시 만들 수 있습니다.
+ */
+@Table(name = "SignupHourlyCount")
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Getter
+@Setter
+public class SignupHourlyCount {
+
+    @Id
+    @NotNull
+    @Column(name = "bucketHour")
+    private LocalDateTime bucketHour;
+
+    @NotNull
+    @Column(name = "signupCount")
+    private long signupCount;
+
+}
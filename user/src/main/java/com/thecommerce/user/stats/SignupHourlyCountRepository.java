@@ -0,0 +1,40 @@
+package com.thecommerce.user.stats;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SignupHourlyCountRepository extends JpaRepository<SignupHourlyCount, LocalDateTime> {
+
+    List<SignupHourlyCount> findByBucketHourGreaterThanEqualAndBucketHourLessThanOrderByBucketHourAsc(
+            LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 기존 행에 증가분을 더합니다.
+     *
+     * @return 갱신된 행 수, 해당 시간의 행이 없으면 0
+     */
+    @Modifying
+    @Query("update SignupHourlyCount s set s.signupCount = s.signupCount + :delta where s.bucketHour = :bucketHour")
+    int increment(@Param("bucketHour") LocalDateTime bucketHour, @Param("delta") long delta);
+
+    /**
+     * cutoff 이전에 생성된 회원을 읽어 연, 월, 일, 시별 가입 수를 집계합니다. rollup 테이블을 다시 만들 때만 사용합니다.
+     *
+     * @return [연, 월, 일, 시, 가입 수] 목록
+     */
+    @Query("select year(u.createDate), month(u.createDate), day(u.createDate), hour(u.createDate), count(u) "
+            + "from User u where u.createDate < :cutoff "
+            + "group by year(u.createDate), month(u.createDate), day(u.createDate), hour(u.createDate)")
+    List<Object[]> countUsersByHourBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("delete from SignupHourlyCount s where s.bucketHour < :cutoff")
+    int deleteByBucketHourBefore(@Param("cutoff") LocalDateTime cutoff);
+}
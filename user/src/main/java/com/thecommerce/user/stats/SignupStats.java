@@ -0,0 +1,312 @@
+package com.thecommerce.user.stats;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.userDTO.SignupBucketDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간별 회원가입 수를 집계합니다.
+ *
+ * 회원가입이 커밋되면 해당 시간의 LongAdder를 증가시킵니다. LongAdder는 스레드별로 나뉜 셀에 더하므로
+ * 동시에 가입하는 요청끼리 같은 값을 두고 경합하지 않습니다. 모인 증가분은 주기적으로 rollup 테이블에 더하고,
+ * 조회는 rollup 테이블과 아직 반영하지 않은 증가분을 합쳐서 계산하므로 Users 테이블을 집계하지 않습니다.
+ *
+ * 반영(flush)과 조회는 읽기/쓰기 잠금으로 나누어, 조회가 반영 중인 증가분을 두 번 세거나 빠뜨리지 않도록 합니다.
+ * 회원가입 시의 증가는 잠금을 사용하지 않습니다. 대신 반영할 때 시간별 카운터를 새 카운터로 바꾸고 떼어 낸 카운터를 읽으며,
+ * 증가시킨 카운터가 이미 떼어 낸 것이면 되돌리고 현재 카운터에 다시 더합니다.
+ */
+@Slf4j
+public class SignupStats {
+    private final SignupHourlyCountRepository signupHourlyCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration rebuildLag;
+    private final ConcurrentHashMap<LocalDateTime, Counter> pending = new ConcurrentHashMap<>();
+    /**
+     * 직전 drain에서 떼어 낸 카운터, 쓰기 잠금을 잡고 바꾸고 읽기 잠금을 잡고 읽습니다.
+     */
+    private final List<Counter> detached = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime truncate(LocalDateTime dateTime) {
+            return dateTime.truncatedTo(unit);
+        }
+
+        public LocalDateTime next(LocalDateTime start) {
+            return start.plus(1, unit);
+        }
+    }
+
+    public SignupStats(SignupHourlyCountRepository signupHourlyCountRepository,
+            TransactionTemplate transactionTemplate, Clock clock, Duration rebuildLag) {
+        this.signupHourlyCountRepository = signupHourlyCountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.rebuildLag = rebuildLag;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.CREATED && event.getUser().getCreateDate() != null) {
+            record(event.getUser().getCreateDate());
+        }
+    }
+
+    public void record(LocalDateTime createDate) {
+        add(createDate.truncatedTo(ChronoUnit.HOURS), 1);
+    }
+
+    @Scheduled(fixedDelayString = "${thecommerce.signup-stats.flush-interval:PT1M}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("signup stats flush failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 메모리에 모인 증가분을 rollup 테이블에 더합니다. 실패하면 증가분을 되돌려 다음 주기에 다시 반영합니다.
+     *
+     * @return 반영한 시간 수
+     */
+    public int flush() {
+        lock.writeLock().lock();
+        try {
+            Map<LocalDateTime, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> deltas.forEach(this::apply));
+            } catch (RuntimeException e) {
+                deltas.forEach(this::add);
+                throw e;
+            }
+            return deltas.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Users 테이블을 한 번 집계하여 기준 시각(cutoff)보다 이전의 rollup 행을 다시 만듭니다.
+     *
+     * 기준 시각은 rebuildLag 전 시각이 속한 시간의 시작(늦어도 직전 시간의 시작)으로 고정합니다.
+     * 기준 시각 이전에 생성된 회원만 집계하여 그 구간의 행을 바꾸고,
+     * 이 인스턴스의 그 구간 반영하지 않은 증가분은 집계 결과에 이미 포함되므로 버립니다.
+     * 다른 인스턴스의 증가분은 버릴 수 없으므로, 모든 인스턴스가 이미 반영했을 만큼 오래된 시간만 다시 만듭니다.
+     * 기준 시각 이후의 행과 증가분은 그대로 두므로, 집계하는 동안 커밋된 회원가입이 두 번 세어지지 않습니다.
+     *
+     * @return 집계된 시간 수
+     */
+    public int rebuild() {
+        lock.writeLock().lock();
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDateTime previousHour = now.truncatedTo(ChronoUnit.HOURS).minusHours(1);
+            LocalDateTime lagged = now.minus(rebuildLag).truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime cutoff = lagged.isBefore(previousHour) ? lagged : previousHour;
+            Map<LocalDateTime, Long> discarded = new TreeMap<>();
+            drain().forEach((hour, delta) -> {
+                if (hour.isBefore(cutoff)) {
+                    discarded.put(hour, delta);
+                } else {
+                    add(hour, delta);
+                }
+            });
+            try {
+                Integer hours = transactionTemplate.execute(status -> {
+                    List<Object[]> rows = signupHourlyCountRepository.countUsersByHourBefore(cutoff);
+                    signupHourlyCountRepository.deleteByBucketHourBefore(cutoff);
+                    List<SignupHourlyCount> counts = new ArrayList<>(rows.size());
+                    for (Object[] row : rows) {
+                        LocalDateTime hour = LocalDateTime.of(((Number) row[0]).intValue(),
+                                ((Number) row[1]).intValue(), ((Number) row[2]).intValue(),
+                                ((Number) row[3]).intValue(), 0);
+                        counts.add(new SignupHourlyCount(hour, ((Number) row[4]).longValue()));
+                    }
+                    signupHourlyCountRepository.saveAll(counts);
+                    return counts.size();
+                });
+                log.info("signup stats rebuilt: {} hours", hours);
+                return hours == null ? 0 : hours;
+            } catch (RuntimeException e) {
+                discarded.forEach(this::add);
+                throw e;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * [from, to) 구간의 회원가입 수를 granularity 단위로 조회합니다. 가입이 없는 구간은 0으로 채웁니다.
+     *
+     * @param granularity 집계 단위
+     * @param from        시작 시각, granularity 단위로 내림합니다.
+     * @param to          끝 시각(포함하지 않음), granularity 단위로 내림합니다.
+     * @return 구간 시작 시각 순으로 정렬된 가입 수 목록
+     */
+    public List<SignupBucketDTO> getSignups(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.truncate(from);
+        LocalDateTime end = granularity.truncate(to);
+
+        Map<LocalDateTime, Long> counts = new TreeMap<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = granularity.next(bucket)) {
+            counts.put(bucket, 0L);
+        }
+
+        lock.readLock().lock();
+        try {
+            for (SignupHourlyCount row : signupHourlyCountRepository
+                    .findByBucketHourGreaterThanEqualAndBucketHourLessThanOrderByBucketHourAsc(start, end)) {
+                counts.merge(granularity.truncate(row.getBucketHour()), row.getSignupCount(), Long::sum);
+            }
+            pendingCounts().forEach((hour, count) -> {
+                if (!hour.isBefore(start) && hour.isBefore(end)) {
+                    counts.merge(granularity.truncate(hour), count, Long::sum);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SignupBucketDTO> buckets = new ArrayList<>(counts.size());
+        counts.forEach((bucket, count) -> buckets.add(new SignupBucketDTO(bucket, count)));
+        return buckets;
+    }
+
+    /**
+     * @return 아직 rollup 테이블에 반영하지 않은 가입 수
+     */
+    public long getPendingSignups() {
+        lock.readLock().lock();
+        try {
+            return pendingCounts().values().stream().mapToLong(Long::longValue).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시간별 카운터에 더합니다. 더한 카운터를 drain이 그 사이 떼어 냈으면 되돌리고 현재 카운터에 다시 더합니다.
+     */
+    private void add(LocalDateTime hour, long delta) {
+        while (true) {
+            // Java 8의 computeIfAbsent는 키가 있어도 잠금을 잡으므로 먼저 get으로 찾습니다.
+            Counter counter = pending.get(hour);
+            if (counter == null) {
+                counter = pending.computeIfAbsent(hour, Counter::new);
+            }
+            counter.adder.add(delta);
+            if (!counter.detached) {
+                return;
+            }
+            counter.adder.add(-delta);
+        }
+    }
+
+    /**
+     * 반영하지 않은 증가분을 꺼냅니다. 읽기 또는 쓰기 잠금을 잡고 호출합니다.
+     */
+    private Map<LocalDateTime, Long> pendingCounts() {
+        Map<LocalDateTime, Long> counts = new TreeMap<>();
+        for (Counter counter : detached) {
+            long residue = counter.residue();
+            if (residue != 0) {
+                counts.merge(counter.hour, residue, Long::sum);
+            }
+        }
+        pending.forEach((hour, counter) -> counts.merge(hour, counter.adder.sum(), Long::sum));
+        return counts;
+    }
+
+    /**
+     * 증가분이 있는 카운터를 새 카운터로 바꾸고, 떼어 낸 카운터의 합을 꺼냅니다.
+     * 한 시간 이상 지난 카운터는 더 증가하지 않으므로 새 카운터 없이 맵에서 뺍니다.
+     *
+     * 떼어 낸 카운터에는 바꾸기 직전에 카운터를 찾은 record()가 더했다가 되돌리는 중일 수 있으므로,
+     * 다음 drain까지 보관했다가 그 사이 달라진 만큼(residue)을 함께 꺼냅니다.
+     * 쓰기 잠금을 잡고 호출합니다.
+     */
+    private Map<LocalDateTime, Long> drain() {
+        LocalDateTime previousHour = LocalDateTime.now(clock).truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        Map<LocalDateTime, Long> deltas = new TreeMap<>();
+        for (Counter counter : detached) {
+            long residue = counter.residue();
+            if (residue != 0) {
+                deltas.merge(counter.hour, residue, Long::sum);
+            }
+        }
+        detached.clear();
+        for (Counter counter : pending.values()) {
+            boolean expired = counter.hour.isBefore(previousHour);
+            if (!expired && counter.adder.sum() == 0) {
+                continue;
+            }
+            boolean removed = expired
+                    ? pending.remove(counter.hour, counter)
+                    : pending.replace(counter.hour, counter, new Counter(counter.hour));
+            if (!removed) {
+                continue;
+            }
+            counter.detached = true;
+            counter.drained = counter.adder.sum();
+            if (counter.drained != 0) {
+                deltas.merge(counter.hour, counter.drained, Long::sum);
+            }
+            detached.add(counter);
+        }
+        return deltas;
+    }
+
+    private void apply(LocalDateTime hour, long delta) {
+        if (signupHourlyCountRepository.increment(hour, delta) == 0) {
+            signupHourlyCountRepository.save(new SignupHourlyCount(hour, delta));
+        }
+    }
+
+    private static final class Counter {
+        private final LocalDateTime hour;
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean detached;
+        // drain이 떼어 낼 때 꺼낸 합, 쓰기 잠금을 잡고 씁니다.
+        private long drained;
+
+        private Counter(LocalDateTime hour) {
+            this.hour = hour;
+        }
+
+        private long residue() {
+            return adder.sum() - drained;
+        }
+    }
+}
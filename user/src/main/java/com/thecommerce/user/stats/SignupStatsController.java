@@ -0,0 +1,77 @@
+package com.thecommerce.user.stats;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.thecommerce.user.user.UserCounter;
+import com.thecommerce.user.user.userDTO.SignupBucketDTO;
+import com.thecommerce.user.user.userDTO.SignupStatsDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/user")
+public class SignupStatsController {
+    private final SignupStats signupStats;
+    private final UserCounter userCounter;
+    private final SignupStatsProperties properties;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * 시간별 또는 일별 회원가입 수와 합계를 조회합니다.
+     * 기간을 지정하지 않으면 시간별은 최근 24시간, 일별은 최근 30일(현재 구간 포함)을 조회합니다.
+     * ADMIN만 호출할 수 있습니다. (WebSecurityConfig)
+     *
+     * @param granularity 집계 단위 (hour 또는 day)
+     * @param from        시작 시각 (ISO-8601, 포함)
+     * @param to          끝 시각 (ISO-8601, 포함하지 않음)
+     * @return 구간별 가입 수, 기간 내 합계, 전체 회원 수,
+     *         집계 단위나 기간이 잘못된 경우 HttpStatus.BAD_REQUEST를 리턴합니다.
+     */
+    @Operation(summary = "회원가입 통계", description = "시간별 또는 일별 회원가입 수를 조회합니다")
+    @GetMapping("/stats/signups")
+    public ResponseEntity<?> getSignupStats(
+            @RequestParam(defaultValue = "hour") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            SignupStats.Granularity unit;
+            try {
+                unit = SignupStats.Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return new ResponseEntity<>("granularity error", HttpStatus.BAD_REQUEST);
+            }
+
+            LocalDateTime end = to != null ? to : unit.next(unit.truncate(LocalDateTime.now(clock)));
+            LocalDateTime start = from != null ? from
+                    : unit == SignupStats.Granularity.HOUR ? end.minusHours(24) : end.minusDays(30);
+            if (!start.isBefore(end) || Duration.between(start, end).compareTo(properties.getMaxRange()) > 0) {
+                return new ResponseEntity<>("range error", HttpStatus.BAD_REQUEST);
+            }
+
+            List<SignupBucketDTO> buckets = signupStats.getSignups(unit, start, end);
+            long total = buckets.stream().mapToLong(SignupBucketDTO::getCount).sum();
+            return ResponseEntity.ok(new SignupStatsDTO(unit.name().toLowerCase(Locale.ROOT), unit.truncate(start),
+                    unit.truncate(end), total, userCounter.get(), buckets));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+}
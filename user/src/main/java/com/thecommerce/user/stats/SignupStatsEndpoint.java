@@ -0,0 +1,32 @@
+package com.thecommerce.user.stats;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원가입 통계의 상태 조회와 rollup 테이블 재생성을 위한 Actuator 엔드포인트입니다.
+ * POST /actuator/signupstats 로 Users 테이블에서 rollup 테이블을 다시 만듭니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "signupstats")
+public class SignupStatsEndpoint {
+    private final SignupStats signupStats;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Collections.singletonMap("pendingSignups", signupStats.getPendingSignups());
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        return Collections.singletonMap("hours", signupStats.rebuild());
+    }
+}
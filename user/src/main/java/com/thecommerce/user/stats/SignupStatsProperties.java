@@ -0,0 +1,31 @@
+package com.thecommerce.user.stats;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.signup-stats")
+public class SignupStatsProperties {
+
+    /**
+     * 메모리에 모은 증가분을 rollup 테이블에 반영하는 주기
+     */
+    private Duration flushInterval = Duration.ofMinutes(1);
+
+    /**
+     * rebuild가 다시 만들지 않는 최근 기간
+     * 다른 인스턴스가 아직 반영하지 않은 증가분이 있는 시간을 다시 만들면 두 번 세어지므로,
+     * 모든 인스턴스가 증가분을 반영하는 데 걸리는 최대 시간(flush-interval과 재시도 포함)보다 길어야 합니다.
+     */
+    private Duration rebuildLag = Duration.ofHours(2);
+
+    /**
+     * 한 번에 조회할 수 있는 최대 기간
+     */
+    private Duration maxRange = Duration.ofDays(366);
+}
@@ -0,0 +1,31 @@
+package com.thecommerce.user.stream;
+
+import java.io.IOException;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class SseEmitterSink implements UserChangeStreamSink {
+    private final SseEmitter emitter;
+
+    @Override
+    public void send(UserChangeStreamEvent event) throws IOException {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.getName()).data(event.getData());
+        if (event.getId() != null) {
+            builder.id(event.getId());
+        }
+        emitter.send(builder);
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,285 @@
+package com.thecommerce.user.stream;
+
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.user.UserChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 회원 변경 이벤트를 SSE 구독자들에게 전달합니다.
+ *
+ * 이벤트는 한 번만 JSON으로 만들어 모든 구독자가 함께 읽는 링 버퍼에 넣고, 구독자마다 다음에 보낼 순번(cursor)만 따로 둡니다.
+ * 발행하는 스레드는 잠금 없이 순번을 증가시켜 버퍼에 쓰고 구독자에게 알리기만 하므로,
+ * 구독자의 전송이 느려도 회원가입, 수정 요청이 기다리지 않습니다.
+ * 실제 전송은 전송 스레드 풀에서 구독자별로 한 번에 하나씩만 실행합니다.
+ *
+ * 구독자가 bufferSize보다 많이 밀리면 가장 오래된 이벤트부터 버리고 버린 개수를 dropped 이벤트로 알립니다.
+ * 링 버퍼 크기는 bufferSize의 두 배 이상이므로 밀린 범위 안의 이벤트는 덮어써지지 않습니다.
+ *
+ * 이벤트 id는 "{epoch}-{순번}" 형식이며 epoch는 서버 시작 시각입니다. Last-Event-ID가 같은 epoch이고
+ * 버퍼 범위 안이면 그 다음 이벤트부터 이어서 보내고, 그렇지 않으면 reset 이벤트를 보낸 후 현재 시점부터 보냅니다.
+ * reset을 받은 클라이언트는 목록을 다시 조회해야 합니다.
+ *
+ * 각 서버는 자신이 커밋한 변경만 전달합니다. 여러 서버의 변경을 빠짐없이 받아야 하는 경우는 outbox를 사용합니다.
+ */
+@Slf4j
+public class UserChangeBroadcaster {
+    public static final String DROPPED = "dropped";
+    public static final String RESET = "reset";
+
+    /**
+     * 한 구독자가 전송 스레드를 연속으로 차지하지 않도록 한 번에 보내는 최대 이벤트 수
+     */
+    private static final int MAX_EVENTS_PER_DRAIN = 64;
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final String epoch = Long.toString(System.currentTimeMillis());
+    private final AtomicReferenceArray<Entry> ring;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final ExecutorService senders;
+    private volatile boolean closed;
+
+    public UserChangeBroadcaster(ObjectMapper objectMapper, int bufferSize, int maxSubscribers, int senderThreads) {
+        if (bufferSize < 1 || senderThreads < 1) {
+            throw new IllegalArgumentException("bufferSize and senderThreads must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize * 2) - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 구독자마다 대기 중인 작업은 최대 하나이므로 큐 길이는 maxSubscribers를 넘지 않습니다.
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "user-stream-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (closed) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event.getUser());
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize user change for stream: {}", e.getMessage());
+            return;
+        }
+        publish(event.getType().name().toLowerCase(Locale.ROOT), data);
+    }
+
+    public void publish(String name, String data) {
+        long sequence = head.getAndIncrement();
+        ring.set(index(sequence), new Entry(sequence, new UserChangeStreamEvent(epoch + "-" + sequence, name, data)));
+        for (Subscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    /**
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id, 처음 연결하면 null
+     * @return 구독, 구독자 수가 maxSubscribers에 도달했으면 null
+     */
+    public Subscription subscribe(String lastEventId, UserChangeStreamSink sink) {
+        int count;
+        do {
+            count = subscriberCount.get();
+            if (closed || count >= maxSubscribers) {
+                return null;
+            }
+        } while (!subscriberCount.compareAndSet(count, count + 1));
+
+        Subscription subscription = new Subscription(sink);
+        long current = head.get();
+        long resume = resumePosition(lastEventId, current);
+        subscription.cursor = resume >= 0 ? resume : current;
+        subscription.resetDue = lastEventId != null && resume < 0;
+        subscriptions.add(subscription);
+        // 등록 전에 발행된 이벤트는 알림을 받지 못했으므로 직접 한 번 전송을 시작합니다.
+        subscription.signal();
+        return subscription;
+    }
+
+    @Scheduled(fixedDelayString = "${thecommerce.user-stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            subscription.heartbeatDue = true;
+            subscription.signal();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public void close() {
+        closed = true;
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+            subscription.sink.complete();
+        }
+        senders.shutdownNow();
+    }
+
+    private long resumePosition(String lastEventId, long current) {
+        if (lastEventId == null) {
+            return -1;
+        }
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator <= 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        long sequence;
+        try {
+            sequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        long next = sequence + 1;
+        if (sequence < 0 || next > current || current - next > bufferSize) {
+            return -1;
+        }
+        return next;
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    /**
+     * 밀린 이벤트를 최대 MAX_EVENTS_PER_DRAIN개 보냅니다.
+     *
+     * @return 더 보낼 이벤트가 남아 있으면 true
+     */
+    private boolean drain(Subscription subscription) throws Exception {
+        UserChangeStreamSink sink = subscription.sink;
+        if (subscription.resetDue) {
+            subscription.resetDue = false;
+            sink.send(new UserChangeStreamEvent(null, RESET, epoch));
+        }
+        int sent = 0;
+        for (; sent < MAX_EVENTS_PER_DRAIN && !subscription.closed.get(); sent++) {
+            long current = head.get();
+            long lag = current - subscription.cursor;
+            if (lag > bufferSize) {
+                long skipped = lag - bufferSize;
+                subscription.cursor = current - bufferSize;
+                dropped.add(skipped);
+                sink.send(new UserChangeStreamEvent(null, DROPPED, Long.toString(skipped)));
+                continue;
+            }
+            if (lag <= 0) {
+                break;
+            }
+            Entry entry = ring.get(index(subscription.cursor));
+            if (entry == null || entry.sequence < subscription.cursor) {
+                // 순번은 받았지만 아직 버퍼에 쓰는 중입니다. 쓰기를 마친 발행 스레드가 다시 알립니다.
+                break;
+            }
+            if (entry.sequence > subscription.cursor) {
+                // 그 사이 덮어써졌으면 head가 bufferSize 이상 앞서 있으므로 다음 반복에서 건너뜁니다.
+                continue;
+            }
+            subscription.cursor++;
+            sink.send(entry.event);
+        }
+        if (subscription.heartbeatDue) {
+            subscription.heartbeatDue = false;
+            if (sent == 0) {
+                sink.heartbeat();
+            }
+        }
+        return sent == MAX_EVENTS_PER_DRAIN;
+    }
+
+    private static final class Entry {
+        private final long sequence;
+        private final UserChangeStreamEvent event;
+
+        private Entry(long sequence, UserChangeStreamEvent event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
+    }
+
+    public final class Subscription {
+        private final UserChangeStreamSink sink;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean pending;
+        private volatile boolean heartbeatDue;
+        // cursor, resetDue는 scheduled로 한 번에 하나의 전송 스레드에서만 접근합니다.
+        private long cursor;
+        private boolean resetDue;
+
+        private Subscription(UserChangeStreamSink sink) {
+            this.sink = sink;
+        }
+
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscriptions.remove(this);
+                subscriberCount.decrementAndGet();
+            }
+        }
+
+        private void signal() {
+            pending = true;
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::run);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void run() {
+            try {
+                pending = false;
+                if (drain(this)) {
+                    pending = true;
+                }
+            } catch (Exception e) {
+                log.debug("Closing user stream subscription: {}", e.getMessage());
+                close();
+                sink.complete();
+            } finally {
+                scheduled.set(false);
+            }
+            if (pending) {
+                signal();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.thecommerce.user.stream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/user")
+public class UserChangeStreamController {
+    private final UserChangeBroadcaster userChangeBroadcaster;
+    private final UserStreamProperties properties;
+
+    /**
+     * 커밋된 회원 생성, 수정, 비활성화, 삭제 이벤트를 Server-Sent Events로 보냅니다.
+     * 이벤트 이름은 created, updated, deactivated, deleted이고 data는 회원 정보 JSON입니다.
+     * 전송이 밀려 이벤트를 버리면 dropped(data는 버린 개수),
+     * Last-Event-ID로 이어받을 수 없으면 reset 이벤트를 보냅니다.
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 id (재연결 시 브라우저가 자동으로 보냅니다)
+     * @return 이벤트 스트림,
+     *         구독자 수가 최대치에 도달한 경우 HttpStatus.SERVICE_UNAVAILABLE을 리턴합니다.
+     */
+    @Operation(summary = "회원 변경 스트림", description = "커밋된 회원 변경 이벤트를 SSE로 받습니다")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        UserChangeBroadcaster.Subscription subscription =
+                userChangeBroadcaster.subscribe(lastEventId, new SseEmitterSink(emitter));
+        if (subscription == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return ResponseEntity.ok(emitter);
+    }
+
+}
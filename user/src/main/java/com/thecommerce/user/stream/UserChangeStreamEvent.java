@@ -0,0 +1,16 @@
+package com.thecommerce.user.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스트림으로 보내는 이벤트 하나입니다.
+ * 회원 변경 이벤트는 id가 있고, dropped, reset 같은 제어 이벤트는 이어받을 위치가 아니므로 id가 null입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangeStreamEvent {
+    private final String id;
+    private final String name;
+    private final String data;
+}
@@ -0,0 +1,19 @@
+package com.thecommerce.user.stream;
+
+import java.io.IOException;
+
+/**
+ * 구독자 한 명에게 이벤트를 쓰는 대상입니다. UserChangeBroadcaster의 전송 스레드에서만 호출됩니다.
+ * 예외를 던지면 구독을 종료합니다.
+ */
+public interface UserChangeStreamSink {
+
+    void send(UserChangeStreamEvent event) throws IOException;
+
+    /**
+     * 연결이 끊긴 구독자를 찾고 중간 프록시가 연결을 닫지 않도록 빈 메시지를 보냅니다.
+     */
+    void heartbeat() throws IOException;
+
+    void complete();
+}
@@ -0,0 +1,40 @@
+package com.thecommerce.user.stream;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.user-stream")
+public class UserStreamProperties {
+
+    /**
+     * 구독자별로 아직 보내지 못한 이벤트를 최대 몇 개까지 유지할지. 넘으면 오래된 이벤트부터 버립니다.
+     * Last-Event-ID로 이어받을 수 있는 범위도 이 값입니다.
+     */
+    private int bufferSize = 1000;
+
+    /**
+     * 동시에 연결할 수 있는 최대 구독자 수. 넘으면 HttpStatus.SERVICE_UNAVAILABLE을 리턴합니다.
+     */
+    private int maxSubscribers = 100;
+
+    /**
+     * 구독자에게 이벤트를 쓰는 스레드 수. 느린 구독자는 쓰는 동안 이 스레드 하나를 차지합니다.
+     */
+    private int senderThreads = 4;
+
+    /**
+     * 이벤트가 없을 때 연결 유지를 위해 보내는 heartbeat 주기
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * 연결 최대 유지 시간. 지나면 연결을 닫고, 클라이언트는 Last-Event-ID로 다시 연결합니다.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+}
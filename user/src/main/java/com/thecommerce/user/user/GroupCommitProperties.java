@@ -0,0 +1,40 @@
+package com.thecommerce.user.user;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.group-commit")
+public class GroupCommitProperties {
+    private boolean enabled = false;
+
+    /**
+     * 한 트랜잭션에 함께 저장할 최대 회원 수
+     */
+    private int maxBatchSize = 64;
+
+    /**
+     * 첫 요청이 도착한 뒤 다른 요청을 기다리는 최대 시간
+     */
+    private Duration maxWait = Duration.ofNanos(500_000);
+
+    /**
+     * 대기열 크기, 가득 차면 그룹 커밋 없이 바로 저장합니다.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 요청 스레드가 저장 결과를 기다리는 최대 시간
+     */
+    private Duration resultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 종료할 때 writer 스레드가 대기열을 비우기를 기다리는 최대 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -3,15 +3,22 @@ package com.thecommerce.user.user;
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.sun.istack.NotNull;
+import com.thecommerce.user.crypto.EncryptedStringConverter;
+import com.thecommerce.user.crypto.FieldEncryption;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -21,12 +28,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Table(name = "Users")
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User {
+    public static final String CACHE_REGION = "user";
 
     @Id
     @NotNull
@@ -41,14 +49,19 @@ public class User {
     @Column(name = "userName", unique = true)
     private String userName;
 
+    /**
+     * AES-GCM으로 암호화하여 저장합니다. 중복 검사, 조회는 emailHash(blind index)로 합니다.
+     */
     @NotNull
-    @Column(name = "email", unique = true)
+    @Convert(converter = EncryptedStringConverter.class)
+    @Column(name = "email", length = 1024)
     private String email;
 
     @NotNull
     @Column(name = "password")
     private String password;
 
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "phoneNumber")
     private String phoneNumber;
 
@@ -56,4 +69,51 @@ public class User {
     @Column(name = "createDate")
     private LocalDateTime createDate;
 
+    /**
+     * 비활성화된 시각입니다. 비활성화된 회원은 로그인, 정보 수정을 할 수 없지만 아이디, 닉네임, 이메일은 계속 사용 중으로 남습니다.
+     */
+    @Column(name = "deactivatedDate")
+    private LocalDateTime deactivatedDate;
+
+    @Column(name = "emailHash", unique = true, length = FieldEncryption.BLIND_INDEX_LENGTH)
+    private byte[] emailHash;
+
+    @Column(name = "normalizedUserName")
+    private String normalizedUserName;
+
+    @Column(name = "userNameHash", unique = true, length = UserLookupKeys.HASH_LENGTH)
+    private byte[] userNameHash;
+
+    /**
+     * email, phoneNumber를 암호화한 키 번호입니다. 현재 키와 다른 회원은 UserFieldReencryption이 다시 암호화합니다.
+     */
+    @Column(name = "encryptionKeyId")
+    private Integer encryptionKeyId;
+
+    public User(Long userIndex, String userId, String userName, String email, String password, String phoneNumber,
+            LocalDateTime createDate) {
+        this.userIndex = userIndex;
+        this.userId = userId;
+        this.userName = userName;
+        this.email = email;
+        this.password = password;
+        this.phoneNumber = phoneNumber;
+        this.createDate = createDate;
+    }
+
+    /**
+     * 이메일, 닉네임이 바뀔 때마다 대소문자를 구분하지 않는 조회용 정규화 값과 해시 값을 다시 계산합니다.
+     * 이메일은 평문 정규화 값을 저장하지 않고 blind index만 저장합니다.
+     * UserService.save, updateUser를 포함해 엔티티가 저장되는 모든 경로에서 호출되며,
+     * 저장 시 email, phoneNumber는 현재 키로 다시 암호화되므로 키 번호도 함께 갱신합니다.
+     */
+    @PrePersist
+    @PreUpdate
+    public void updateLookupKeys() {
+        emailHash = FieldEncryption.blindIndex(UserLookupKeys.normalize(email));
+        normalizedUserName = UserLookupKeys.normalize(userName);
+        userNameHash = UserLookupKeys.hash(normalizedUserName);
+        encryptionKeyId = FieldEncryption.activeKeyId();
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.thecommerce.user.user;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "thecommerce.cache.user")
+public class UserCacheProperties {
+    /**
+     * 회원 엔티티, 회원 조회 쿼리 결과 영역 각각의 최대 항목 수
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * 캐시 항목 유지 시간
+     * 캐시는 노드마다 따로 유지되므로, 다른 노드에서 수정된 회원 정보는 최대 이 시간만큼 늦게 반영됩니다.
+     */
+    private Duration timeToLive = Duration.ofSeconds(60);
+}
@@ -0,0 +1,25 @@
+package com.thecommerce.user.user;
+
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 정보가 생성, 수정, 비활성화, 삭제되었을 때 UserService가 발행하는 이벤트입니다.
+ * 비밀번호를 제외한 변경 후의 회원 정보를 담고 있습니다.
+ * 삭제된 경우에는 삭제된 개인정보가 outbox 등에 다시 남지 않도록 회원 번호와 회원 아이디만 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final Type type;
+    private final UserListDTO user;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DEACTIVATED,
+        DELETED
+    }
+}
@@ -1,10 +1,15 @@
 package com.thecommerce.user.user;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,9 +20,21 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-
+import org.springframework.transaction.TransactionException;
+
+import com.thecommerce.user.auth.AuthProperties;
+import com.thecommerce.user.auth.TokenService;
+import com.thecommerce.user.circuitbreaker.CircuitBreakerOpenException;
+import com.thecommerce.user.directory.UserDirectory;
+import com.thecommerce.user.profiling.JoinValidationEvent;
+import com.thecommerce.user.user.userDTO.LoginDTO;
+import com.thecommerce.user.user.userDTO.TokenDTO;
+import com.thecommerce.user.user.userDTO.UserBatchGetDTO;
+import com.thecommerce.user.user.userDTO.UserBatchGetResultDTO;
 import com.thecommerce.user.user.userDTO.UserDTO;
 import com.thecommerce.user.user.userDTO.UserListDTO;
+import com.thecommerce.user.user.userDTO.UserNameSuggestionDTO;
+import com.thecommerce.user.user.status.UserLoginStatus;
 import com.thecommerce.user.user.status.UserRegistrationStatus;
 import com.thecommerce.user.user.status.UserUpdateStatus;
 import com.thecommerce.user.user.userDTO.UpdateUserDTO;
@@ -31,7 +48,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @RequestMapping("/api/user")
 public class UserController {
+    private static final int BATCH_GET_MAX_SIZE = 5000;
+    private static final int USER_NAME_SUGGESTION_MAX_LIMIT = 10;
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
     private final UserService userService;
+    private final TokenService tokenService;
+    private final UserJoinBatcher userJoinBatcher;
+    private final UserSnapshotCache userSnapshotCache;
+    private final UserDirectory userDirectory;
+    private final AuthProperties authProperties;
 
     /**
      * 회원가입 : 유효성 검사 로직 수행 후 회원가입 로직을 수행합니다.
@@ -46,7 +72,11 @@ public class UserController {
         try {
             log.info("=============== user join start ===============");
 
+            JoinValidationEvent validationEvent = new JoinValidationEvent();
+            validationEvent.begin();
             ResponseEntity<?> validationResponse = validateUser(userDTO);
+            validationEvent.setResult(validationResponse.getStatusCode().name());
+            validationEvent.commit();
             if (validationResponse.getStatusCode() != HttpStatus.OK) {
                 return validationResponse;
             }
@@ -57,6 +87,8 @@ public class UserController {
             }
 
             return new ResponseEntity<>("SUCCESS", HttpStatus.CREATED);
+        } catch (CircuitBreakerOpenException e) {
+            return new ResponseEntity<>("SERVICE_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE);
         } catch (Exception e) {
             log.error(e.getMessage());
             return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -67,7 +99,7 @@ public class UserController {
      * 전달된 userDTO를 통해 email, nickname, password, phoneNumber가 유효한 값인지 확인합니다.
      * 
      * @param userDTO 회원 정보
-     * @return email 혹은 nickname이 중복인 경우 HttpStatus.CONFLICT,
+     * @return ADMIN 권한에 지정된 아이디이거나 email 혹은 nickname이 중복인 경우 HttpStatus.CONFLICT,
      *         email, nickname, password 길이가 맞지 않는 경우 HttpStatus.BAD_REQUEST
      *         비밀번호 조합이 맞지 않는 경우 HttpStatus.BAD_REQUEST를 리턴하고,
      *         모든 유효성이 통과한 경우 HttpStatus 200을 리턴합니다.
@@ -78,6 +110,11 @@ public class UserController {
             return new ResponseEntity<>("user Id length error", HttpStatus.BAD_REQUEST);
         }
 
+        // ADMIN 권한은 아이디로 부여되므로, 탈퇴했거나 아직 만들지 않은 관리자 아이디를 가입으로 선점할 수 없게 합니다.
+        if (authProperties.getAdminUserIds().contains(userId)) {
+            return new ResponseEntity<>("user Id exist", HttpStatus.CONFLICT);
+        }
+
         String userEmail = userDTO.getEmail();
         if (!Pattern.matches("^[a-zA-Z0-9+-\\_.]+@[a-zA-Z0-9-]+\\.[a-zA-Z0-9-.]+$", userEmail)) {
             return new ResponseEntity<>("email expression error", HttpStatus.BAD_REQUEST);
@@ -119,13 +156,16 @@ public class UserController {
 
     /**
      * userDTO를 입력받아 유저 정보를 database에 저장합니다.
+     * 그룹 커밋이 켜져 있으면 동시에 들어온 다른 회원가입과 함께 하나의 트랜잭션으로 저장합니다.
      * 
      * @param userDTO 회원 정보
      * @return 성공시 HttpStatus.CREATE, 서버 에러시 HttpStatus.INTERNAL_SERVER_ERROR를
      *         리턴합니다.
      */
     private ResponseEntity<?> saveUser(UserDTO userDTO) {
-        UserRegistrationStatus result = userService.save(userDTO);
+        UserRegistrationStatus result = userJoinBatcher.isEnabled()
+                ? userJoinBatcher.save(userDTO)
+                : userService.save(userDTO);
         if (result.equals(UserRegistrationStatus.OK)) {
             return new ResponseEntity<>("CREATED", HttpStatus.CREATED);
         } else {
@@ -133,8 +173,85 @@ public class UserController {
         }
     }
 
+    /**
+     * 원하는 닉네임이 사용 중인지 확인하고, 사용 가능한 닉네임을 한 번에 여러 개 추천합니다.
+     * 추천 후보는 닉네임 규칙(2~8자)을 만족하며, 후보 전체를 쿼리 한 번으로 확인합니다.
+     *
+     * @param userName 원하는 닉네임
+     * @param limit    최대 추천 수 (최대 10)
+     * @return 원하는 닉네임의 사용 가능 여부와 추천 닉네임 목록,
+     *         닉네임이 비어 있거나 limit이 범위를 벗어난 경우 HttpStatus.BAD_REQUEST를 리턴합니다.
+     */
+    @Operation(summary = "닉네임 추천", description = "사용 가능한 닉네임을 추천합니다")
+    @GetMapping("/username-suggestions")
+    public ResponseEntity<?> suggestUserNames(
+            @RequestParam String userName,
+            @RequestParam(defaultValue = "5") int limit) {
+        try {
+            if (userName.trim().isEmpty()) {
+                return new ResponseEntity<>("userName empty", HttpStatus.BAD_REQUEST);
+            }
+            if (limit < 1 || USER_NAME_SUGGESTION_MAX_LIMIT < limit) {
+                return new ResponseEntity<>("limit error", HttpStatus.BAD_REQUEST);
+            }
+
+            List<String> available = userService.suggestUserNames(userName, limit + 1);
+            String requested = userName.trim();
+            boolean requestedAvailable = !available.isEmpty() && available.get(0).equals(requested);
+            List<String> suggestions = new ArrayList<>(available);
+            suggestions.remove(requested);
+            if (suggestions.size() > limit) {
+                suggestions = suggestions.subList(0, limit);
+            }
+            return ResponseEntity.ok(new UserNameSuggestionDTO(requested, requestedAvailable, suggestions));
+        } catch (CircuitBreakerOpenException e) {
+            return new ResponseEntity<>("SERVICE_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 로그인 : 회원 아이디와 비밀번호를 확인한 뒤 서명된 토큰을 발급합니다.
+     * 발급된 토큰은 Authorization: Bearer 헤더로 전달하며, 회원 정보 수정 시 본인 확인에 사용됩니다.
+     *
+     * @param loginDTO 회원 아이디, 비밀번호
+     * @return 성공 시 HttpStatus.OK와 토큰, 아이디 또는 비밀번호가 틀린 경우 HttpStatus.UNAUTHORIZED,
+     *         서버 에러 시 HttpStatus.INTERNAL_SERVER_ERROR를 반환합니다.
+     */
+    @Operation(summary = "로그인", description = "로그인 메서드입니다")
+    @PostMapping(path = "/login")
+    public ResponseEntity<?> login(@RequestBody LoginDTO loginDTO) {
+        try {
+            if (loginDTO.getUserId() == null || loginDTO.getPassword() == null) {
+                return new ResponseEntity<>("user Id or password empty", HttpStatus.BAD_REQUEST);
+            }
+
+            UserLoginStatus loginStatus = userService.authenticate(loginDTO.getUserId(), loginDTO.getPassword());
+            if (loginStatus == UserLoginStatus.OK) {
+                // 토큰은 회원 번호에 묶이므로, 확인한 직후 탈퇴했다면 로그인 실패와 같이 처리합니다.
+                Optional<Long> userIndex = userService.getUserIndex(loginDTO.getUserId());
+                if (!userIndex.isPresent()) {
+                    return new ResponseEntity<>("Invalid user Id or password", HttpStatus.UNAUTHORIZED);
+                }
+                TokenDTO tokenDTO = new TokenDTO(tokenService.issue(userIndex.get(), loginDTO.getUserId()), "Bearer",
+                        tokenService.getTtlSeconds());
+                return new ResponseEntity<>(tokenDTO, HttpStatus.OK);
+            } else if (loginStatus == UserLoginStatus.INVALID_CREDENTIALS) {
+                return new ResponseEntity<>("Invalid user Id or password", HttpStatus.UNAUTHORIZED);
+            } else {
+                return new ResponseEntity<>("Server error", HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * 회원 아이디를 통해 userName, password, PhoneNumber를 수정합니다.
+     * 토큰의 회원 아이디와 loginId가 같은 경우(또는 ADMIN)에만 WebSecurityConfig에서 요청을 허용합니다.
      *
      * @param userDTO 회원 정보
      * @param loginId 회원 아이디
@@ -161,6 +278,8 @@ public class UserController {
             } else {
                 return new ResponseEntity<>("Server error", HttpStatus.INTERNAL_SERVER_ERROR);
             }
+        } catch (CircuitBreakerOpenException e) {
+            return new ResponseEntity<>("SERVICE_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE);
         } catch (Exception e) {
             log.error(e.getMessage());
             return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -207,11 +326,12 @@ public class UserController {
 
     /**
      * 입력된 회원들의 정보를 목록으로 조회합니다.
+     * 메모리 회원 디렉터리가 켜져 있으면 데이터베이스를 거치지 않고 디렉터리에서 조회합니다.
      * 
      * @param page     페이지 번호
      * @param pageSize 한 페이지에 표시될 수 있는 최대 회원 수
      * @param sort     정렬 방식 (가입일순 또는 이름순)
-     * @return 회원 목록 정보
+     * @return 회원 목록 정보, 데이터베이스를 사용할 수 없으면 마지막으로 조회한 같은 페이지를 Warning 헤더와 함께 리턴합니다.
      */
     @Operation(summary = "회원 목록 조회", description = "회원 목록 조회 메서드입니다")
     @GetMapping("/list")
@@ -235,12 +355,74 @@ public class UserController {
             }
 
             PageRequest pageable = PageRequest.of(page, pageSize, sort);
-            Page<UserListDTO> userList = userService.getUserList(pageable);
-            return ResponseEntity.ok(userList);
+            try {
+                Page<UserListDTO> userList = userDirectory.getUserList(pageable)
+                        .orElseGet(() -> userService.getUserList(pageable));
+                userSnapshotCache.putPage(pageable, userList);
+                return ResponseEntity.ok(userList);
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("user list query failed, falling back to snapshot: {}", e.getMessage());
+                return staleOrUnavailable(userSnapshotCache.getPage(pageable));
+            }
         } catch (Exception e) {
             log.error(e.getMessage());
             return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 여러 회원을 회원 아이디 또는 회원 번호로 한 번에 조회합니다.
+     * 메모리 회원 디렉터리가 켜져 있으면 데이터베이스를 거치지 않고 디렉터리에서 조회합니다.
+     *
+     * @param batchGetDTO 조회할 회원 아이디, 회원 번호 목록 (합계 최대 5000개)
+     * @return 입력 순서대로 정렬된 회원 목록과 찾지 못한 아이디, 회원 번호 목록,
+     *         목록이 비어 있거나 너무 많은 경우 HttpStatus.BAD_REQUEST를 리턴합니다.
+     *         데이터베이스를 사용할 수 없으면 요청한 회원이 모두 보관되어 있는 경우에만 Warning 헤더와 함께 리턴합니다.
+     */
+    @Operation(summary = "회원 일괄 조회", description = "회원 아이디 또는 회원 번호 목록으로 여러 회원을 한 번에 조회합니다")
+    @PostMapping("/batch-get")
+    public ResponseEntity<?> batchGet(@RequestBody UserBatchGetDTO batchGetDTO) {
+        try {
+            List<String> userIds = batchGetDTO.getUserIds() == null ? new ArrayList<>() : batchGetDTO.getUserIds();
+            List<Long> userIndexes = batchGetDTO.getUserIndexes() == null ? new ArrayList<>()
+                    : batchGetDTO.getUserIndexes();
+            int size = userIds.size() + userIndexes.size();
+            if (size == 0 || BATCH_GET_MAX_SIZE < size) {
+                return new ResponseEntity<>("batch size error", HttpStatus.BAD_REQUEST);
+            }
+            if (userIds.contains(null) || userIndexes.contains(null)) {
+                return new ResponseEntity<>("null id error", HttpStatus.BAD_REQUEST);
+            }
+
+            try {
+                UserBatchGetResultDTO result = userDirectory.getUsers(userIds, userIndexes)
+                        .orElseGet(() -> userService.getUsers(userIds, userIndexes));
+                userSnapshotCache.putUsers(result.getUsers());
+                return ResponseEntity.ok(result);
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("user batch get failed, falling back to snapshot: {}", e.getMessage());
+                return staleOrUnavailable(userSnapshotCache.getUsers(userIds, userIndexes));
+            }
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>("SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 데이터베이스를 사용할 수 없을 때 마지막으로 성공한 조회 결과를 Warning: 110(Response is Stale), Age 헤더와 함께 응답합니다.
+     *
+     * @param snapshot 보관된 조회 결과
+     * @return 보관된 결과가 있으면 HttpStatus.OK, 없으면 HttpStatus.SERVICE_UNAVAILABLE을 리턴합니다.
+     */
+    private ResponseEntity<?> staleOrUnavailable(Optional<? extends UserSnapshotCache.Snapshot<?>> snapshot) {
+        if (!snapshot.isPresent()) {
+            return new ResponseEntity<>("SERVICE_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.WARNING, STALE_WARNING)
+                .header(HttpHeaders.AGE, String.valueOf(userSnapshotCache.ageSeconds(snapshot.get())))
+                .body(snapshot.get().getValue());
+    }
+
 }
@@ -0,0 +1,84 @@
+package com.thecommerce.user.user;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 회원 수를 메모리에 유지합니다.
+ *
+ * 회원 목록 조회 때마다 count 쿼리를 실행하지 않도록 회원가입(및 탈퇴)이 커밋될 때 값을 갱신하고,
+ * 다른 노드에서 발생한 변경이나 누락된 이벤트로 생긴 오차는 주기적으로 실제 회원 수와 비교하여 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCounter {
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final AtomicLong count = new AtomicLong(-1L);
+
+    /**
+     * 현재 회원 수를 리턴합니다. 아직 한 번도 집계하지 않았다면 데이터베이스에서 집계합니다.
+     *
+     * @return 회원 수
+     */
+    public long get() {
+        long current = count.get();
+        if (current < 0) {
+            reconcile();
+            current = count.get();
+        }
+        return Math.max(0L, current);
+    }
+
+    /**
+     * 아직 집계 전이라면 증감하지 않습니다. 첫 집계 결과에 이미 포함되기 때문입니다.
+     */
+    public void increment() {
+        count.updateAndGet(current -> current < 0 ? current : current + 1);
+    }
+
+    public void decrement() {
+        count.updateAndGet(current -> current < 0 ? current : current - 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.CREATED) {
+            increment();
+        } else if (event.getType() == UserChangedEvent.Type.DELETED) {
+            decrement();
+        }
+    }
+
+    /**
+     * 실제 회원 수를 집계하여 값을 보정합니다.
+     * 집계하는 동안 증감이 반영되었으면 그 증감이 집계 결과에 포함되었는지 알 수 없으므로 값을 바꾸지 않고 다시 집계합니다.
+     * 계속 증감이 들어와 보정하지 못하면 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${thecommerce.user-count.reconcile-interval:PT5M}")
+    public void reconcile() {
+        try {
+            for (int attempt = 0; attempt < MAX_RECONCILE_ATTEMPTS; attempt++) {
+                long before = count.get();
+                long actual = userRepository.count();
+                if (count.compareAndSet(before, actual)) {
+                    if (before >= 0 && before != actual) {
+                        log.info("user count reconciled: {} -> {}", before, actual);
+                    }
+                    return;
+                }
+            }
+            log.debug("user count not reconciled: count changed during {} attempts", MAX_RECONCILE_ATTEMPTS);
+        } catch (Exception e) {
+            log.error("user count reconcile failed: {}", e.getMessage());
+        }
+    }
+}
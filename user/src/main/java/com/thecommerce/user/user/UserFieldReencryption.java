@@ -0,0 +1,99 @@
+package com.thecommerce.user.user;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thecommerce.user.crypto.FieldEncryption;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 키가 아닌 키로 암호화된 회원(암호화 도입 전에 평문으로 저장된 회원 포함)의 email, phoneNumber를
+ * 현재 키로 다시 암호화합니다.
+ *
+ * 키 번호를 바꾸면 엔티티가 변경된 것으로 처리되어 모든 컬럼이 UPDATE되고, 이때 AttributeConverter가 현재 키로 암호화합니다.
+ * 회원 번호 순으로 batchSize건씩 나누어 커밋하므로 한 트랜잭션이 오래 잠금을 잡지 않으며, 중단되어도 다음 실행에서 이어서 처리합니다.
+ * 묶음 저장이 실패하면(예: 다시 계산한 emailHash가 unique 제약에 걸림) 건별로 다시 저장하고,
+ * 실패한 회원은 로그로 남기고 건너뛰어 나머지 회원의 재암호화가 멈추지 않도록 합니다.
+ * 건너뛴 회원은 countPending에 남으며 다음 실행에서 다시 시도합니다.
+ */
+@Slf4j
+public class UserFieldReencryption {
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public UserFieldReencryption(UserRepository userRepository, TransactionTemplate transactionTemplate,
+            int batchSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reencrypt();
+        } catch (Exception e) {
+            log.error("user field re-encryption failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 다시 암호화한 회원 수
+     */
+    public synchronized int reencrypt() {
+        long start = System.currentTimeMillis();
+        int keyId = FieldEncryption.activeKeyId();
+        long lastUserIndex = 0;
+        int updated = 0;
+        List<User> chunk;
+        do {
+            chunk = userRepository.findByEncryptionKeyIdNot(keyId, lastUserIndex, PageRequest.of(0, batchSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            updated += reencryptChunk(chunk, keyId);
+            lastUserIndex = chunk.get(chunk.size() - 1).getUserIndex();
+        } while (chunk.size() == batchSize);
+        if (updated > 0) {
+            log.info("user fields re-encrypted with key {}: {} users in {}ms", keyId, updated,
+                    System.currentTimeMillis() - start);
+        }
+        return updated;
+    }
+
+    private int reencryptChunk(List<User> chunk, int keyId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(user -> user.setEncryptionKeyId(keyId));
+                userRepository.saveAll(chunk);
+            });
+            return chunk.size();
+        } catch (Exception e) {
+            int updated = 0;
+            for (User user : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        userRepository.findById(user.getUserIndex()).ifPresent(u -> u.setEncryptionKeyId(keyId));
+                    });
+                    updated++;
+                } catch (Exception failure) {
+                    log.warn("user {} fields not re-encrypted: {}", user.getUserIndex(), failure.getMessage());
+                }
+            }
+            return updated;
+        }
+    }
+
+    /**
+     * @return 현재 키로 다시 암호화해야 하는 회원 수
+     */
+    public long countPending() {
+        return userRepository.countByEncryptionKeyIdNot(FieldEncryption.activeKeyId());
+    }
+}
@@ -0,0 +1,196 @@
+package com.thecommerce.user.user;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.thecommerce.user.user.status.UserRegistrationStatus;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시에 들어온 회원가입 저장 요청을 모아 하나의 트랜잭션으로 커밋합니다. (그룹 커밋)
+ *
+ * BCrypt 암호화는 요청 스레드에서 끝낸 뒤 대기열에 넣고, 전용 writer 스레드가 첫 요청부터 maxWait 동안
+ * 최대 maxBatchSize 건을 모아 UserService.saveAll로 저장합니다.
+ * 묶음 저장이 제약 조건 위반 등으로 실패하면 같은 묶음을 건별 트랜잭션으로 다시 저장하여
+ * 문제가 된 요청만 FAIL을 받도록 합니다.
+ *
+ * writer 스레드가 처리하지 못한 요청은 요청 스레드나 종료하는 스레드가 대기열에서 꺼내 직접 저장하므로,
+ * 대기열에 들어간 요청이 결과를 받지 못한 채 남지 않습니다.
+ */
+@Slf4j
+public class UserJoinBatcher {
+    private final UserService userService;
+    private final GroupCommitProperties properties;
+    private final BlockingQueue<PendingJoin> queue;
+    private final DistributionSummary batchSizes;
+    private final Thread writer;
+    private volatile boolean running;
+
+    public UserJoinBatcher(UserService userService, GroupCommitProperties properties, MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSizes = DistributionSummary.builder("user.join.group-commit.batch-size")
+                .description("Users written per group-commit transaction")
+                .register(meterRegistry);
+        this.writer = new Thread(this::writeLoop, "user-join-group-commit");
+        this.writer.setDaemon(true);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public void start() {
+        if (properties.isEnabled()) {
+            running = true;
+            writer.start();
+        }
+    }
+
+    /**
+     * 대기열에 남은 요청을 모두 저장한 뒤 writer 스레드를 종료합니다.
+     * shutdownTimeout 안에 writer 스레드가 끝나지 않았거나 그 사이 대기열에 들어온 요청은 직접 저장합니다.
+     */
+    public void stop() throws InterruptedException {
+        if (running) {
+            running = false;
+            writer.interrupt();
+            writer.join(properties.getShutdownTimeout().toMillis());
+            if (writer.isAlive()) {
+                log.warn("group commit writer did not stop within {}", properties.getShutdownTimeout());
+            }
+            for (PendingJoin pending = queue.poll(); pending != null; pending = queue.poll()) {
+                pending.result.complete(saveOne(pending.user));
+            }
+        }
+    }
+
+    /**
+     * 회원을 그룹 커밋으로 저장합니다. 저장이 끝날 때까지 기다립니다.
+     * 호출한 스레드에 이미 트랜잭션이 있으면(예: 롤백되는 워밍업 트랜잭션) 그 트랜잭션 안에서 바로 저장합니다.
+     *
+     * @param userDTO 유효성 검사를 통과한 회원 정보
+     * @return UserService.save와 같은 의미의 UserRegistrationStatus
+     */
+    public UserRegistrationStatus save(UserDTO userDTO) {
+        User user = userService.newUser(userDTO);
+        PendingJoin pending = new PendingJoin(user);
+        if (!running || TransactionSynchronizationManager.isActualTransactionActive() || !queue.offer(pending)) {
+            return saveOne(user);
+        }
+        // offer 직전에 stop이 대기열을 비웠으면 꺼내 줄 스레드가 없으므로 직접 저장합니다.
+        if (!running && queue.remove(pending)) {
+            return saveOne(user);
+        }
+        return await(pending);
+    }
+
+    /**
+     * 저장 결과를 resultTimeout까지 기다립니다.
+     * 그때까지 writer 스레드가 꺼내지 않았으면 대기열에서 빼고 직접 저장하며, 저장 중이면 FAIL을 반환합니다.
+     */
+    private UserRegistrationStatus await(PendingJoin pending) {
+        try {
+            return pending.result.get(properties.getResultTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            return UserRegistrationStatus.FAIL;
+        } catch (ExecutionException | TimeoutException e) {
+            if (queue.remove(pending)) {
+                return saveOne(pending.user);
+            }
+            log.error("group commit result not received within {}", properties.getResultTimeout());
+            return UserRegistrationStatus.FAIL;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingJoin> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingJoin first = running ? queue.take() : queue.poll();
+                if (first == null) {
+                    break;
+                }
+                batch.add(first);
+                collect(batch);
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void collect(List<PendingJoin> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+        while (batch.size() < properties.getMaxBatchSize()) {
+            if (queue.drainTo(batch, properties.getMaxBatchSize() - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingJoin next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingJoin> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        List<User> users = new ArrayList<>(batch.size());
+        batch.forEach(pending -> users.add(pending.user));
+        try {
+            userService.saveAll(users);
+            batch.forEach(pending -> pending.result.complete(UserRegistrationStatus.OK));
+        } catch (Exception e) {
+            log.warn("group commit of {} users failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingJoin pending : batch) {
+                pending.user.setUserIndex(null);
+                pending.result.complete(saveOne(pending.user));
+            }
+        }
+    }
+
+    private UserRegistrationStatus saveOne(User user) {
+        try {
+            userService.saveOne(user);
+            return UserRegistrationStatus.OK;
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return UserRegistrationStatus.FAIL;
+        }
+    }
+
+    private static final class PendingJoin {
+        private final User user;
+        private final CompletableFuture<UserRegistrationStatus> result = new CompletableFuture<>();
+
+        private PendingJoin(User user) {
+            this.user = user;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.thecommerce.user.user;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회용 정규화 값, 해시 값 컬럼이 추가되기 전에 저장된 회원의 값을 채웁니다.
+ * 회원 번호 순으로 500건씩 나누어 커밋하며, 대소문자만 다른 이메일/닉네임이 이미 있어
+ * unique 제약에 걸리는 회원은 건너뛰고 로그로 남깁니다.
+ *
+ * 건너뛴 회원은 이메일/닉네임으로 조회되지 않고 같은 이메일로 다시 가입할 수 있으므로,
+ * 남아 있는 동안 UserLookupKeyHealthIndicator가 readiness를 DOWN으로 보고합니다.
+ * 운영자가 충돌하는 회원 중 하나의 이메일/닉네임을 고치거나 탈퇴 처리하면 주기적인 재시도 또는
+ * POST /actuator/userlookupkeys 로 값이 채워지고 readiness가 다시 UP이 됩니다.
+ */
+@Slf4j
+@Component
+public class UserLookupKeyBackfill {
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 마지막 실행 후 값이 채워지지 않은 회원 수, 아직 실행하지 않았으면 -1
+     */
+    private volatile long unresolvedCount = -1;
+
+    public UserLookupKeyBackfill(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long start = System.currentTimeMillis();
+            long lastUserIndex = 0;
+            int updated = 0;
+            List<User> chunk;
+            do {
+                chunk = userRepository.findByEmailHashIsNullAndUserIndexGreaterThanOrderByUserIndexAsc(lastUserIndex,
+                        PageRequest.of(0, CHUNK_SIZE));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                updated += updateChunk(chunk);
+                lastUserIndex = chunk.get(chunk.size() - 1).getUserIndex();
+            } while (chunk.size() == CHUNK_SIZE);
+            if (updated > 0) {
+                log.info("user lookup keys backfilled: {} users in {}ms", updated, System.currentTimeMillis() - start);
+            }
+            unresolvedCount = userRepository.countByEmailHashIsNull();
+            if (unresolvedCount > 0) {
+                log.error("{} users have lookup keys colliding with other users; fix their email or user name "
+                        + "and run POST /actuator/userlookupkeys", unresolvedCount);
+            }
+        } catch (Exception e) {
+            log.error("user lookup key backfill failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 충돌로 채우지 못한 회원이 남아 있으면 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${thecommerce.lookup-key-backfill.retry-interval:PT5M}")
+    public void retryUnresolved() {
+        if (unresolvedCount > 0) {
+            backfill();
+        }
+    }
+
+    /**
+     * @return 마지막 실행 후 값이 채워지지 않은 회원 수, 아직 실행하지 않았으면 -1
+     */
+    public long getUnresolvedCount() {
+        return unresolvedCount;
+    }
+
+    private int updateChunk(List<User> chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(User::updateLookupKeys);
+                userRepository.saveAll(chunk);
+            });
+            return chunk.size();
+        } catch (Exception e) {
+            int updated = 0;
+            for (User user : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        userRepository.findById(user.getUserIndex()).ifPresent(User::updateLookupKeys);
+                    });
+                    updated++;
+                } catch (Exception conflict) {
+                    log.warn("user {} lookup keys not backfilled: {}", user.getUserIndex(), conflict.getMessage());
+                }
+            }
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.thecommerce.user.user;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회용 해시 값 백필 상태 조회와 재실행을 위한 Actuator 엔드포인트입니다.
+ * 충돌하는 회원의 이메일/닉네임을 고친 뒤 POST /actuator/userlookupkeys 로 다시 채웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "userlookupkeys")
+public class UserLookupKeyEndpoint {
+    private final UserLookupKeyBackfill userLookupKeyBackfill;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Collections.singletonMap("unresolvedUsers", userLookupKeyBackfill.getUnresolvedCount());
+    }
+
+    @WriteOperation
+    public Map<String, Object> backfill() {
+        userLookupKeyBackfill.backfill();
+        return status();
+    }
+}
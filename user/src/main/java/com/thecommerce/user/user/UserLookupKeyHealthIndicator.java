@@ -0,0 +1,26 @@
+package com.thecommerce.user.user;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회용 해시 값을 채우지 못한 회원이 남아 있으면 DOWN을 리턴합니다. readiness 그룹에 포함되어
+ * 충돌이 해결될 때까지 트래픽을 받지 않도록 합니다. 데이터베이스를 조회하지 않고 마지막 백필 결과를 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLookupKeyHealthIndicator implements HealthIndicator {
+    private final UserLookupKeyBackfill userLookupKeyBackfill;
+
+    @Override
+    public Health health() {
+        long unresolved = userLookupKeyBackfill.getUnresolvedCount();
+        if (unresolved < 0) {
+            return Health.unknown().build();
+        }
+        return (unresolved == 0 ? Health.up() : Health.down()).withDetail("unresolvedUsers", unresolved).build();
+    }
+}
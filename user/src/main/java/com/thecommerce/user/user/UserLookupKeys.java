@@ -0,0 +1,53 @@
+package com.thecommerce.user.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 이메일, 닉네임의 대소문자를 구분하지 않는 조회를 위한 정규화 값과 해시 값을 만듭니다.
+ *
+ * 해시는 정규화 값의 SHA-256 앞 16바이트이며, 고정 길이 BINARY(16) 컬럼에 unique 인덱스로 저장됩니다.
+ * lower() 함수 조건처럼 전체 테이블을 읽지 않고, 가변 길이 문자열 인덱스보다 작은 인덱스로 조회합니다.
+ * 암호화하는 이메일은 키 없이 계산할 수 있는 이 해시 대신 FieldEncryption.blindIndex를 사용합니다.
+ */
+public final class UserLookupKeys {
+    public static final int HASH_LENGTH = 16;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private UserLookupKeys() {
+    }
+
+    /**
+     * @return 유니코드 NFKC 정규화, 앞뒤 공백 제거, 소문자 변환을 거친 값, 입력이 null이면 null
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param normalized normalize()로 정규화한 값
+     * @return 정규화 값의 해시, 입력이 null이면 null
+     */
+    public static byte[] hash(String normalized) {
+        if (normalized == null) {
+            return null;
+        }
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Arrays.copyOf(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)), HASH_LENGTH);
+    }
+}
@@ -1,13 +1,126 @@
 package com.thecommerce.user.user;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.SPEC_HINT_TIMEOUT;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.thecommerce.user.crypto.FieldEncryption;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findUserByEmail(String email);
+    String LOOKUP_CACHE_REGION = "user-lookup";
+
+    /**
+     * 회로 차단기의 호출 시간 예산: 요청 처리 중 실행되는 조회 쿼리의 실행 시간 제한(ms)
+     * 백필, 재암호화처럼 오래 걸릴 수 있는 일괄 작업의 조회와 쓰기에는 적용하지 않습니다.
+     */
+    String READ_TIMEOUT_MILLIS = "2000";
+
+    /**
+     * 아래 조회 결과(회원 번호)는 쿼리 캐시에, 회원 엔티티는 2차 캐시에 저장됩니다.
+     * Users 테이블이 수정되면 Hibernate가 해당 쿼리 결과를 무효화합니다.
+     */
+    @QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION),
+            @QueryHint(name = SPEC_HINT_TIMEOUT, value = READ_TIMEOUT_MILLIS) })
+    Optional<User> findUserByEmailHash(byte[] emailHash);
+
+    @QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION),
+            @QueryHint(name = SPEC_HINT_TIMEOUT, value = READ_TIMEOUT_MILLIS) })
     Optional<User> findUserByUserId(String userId);
-    Optional<User> findUserByUserName(String userName);
+
+    @QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION),
+            @QueryHint(name = SPEC_HINT_TIMEOUT, value = READ_TIMEOUT_MILLIS) })
+    Optional<User> findUserByUserNameHash(byte[] userNameHash);
+
+    /**
+     * 대소문자를 구분하지 않고 이메일로 회원을 조회합니다.
+     * 이메일은 암호화되어 있으므로 정규화한 이메일의 blind index 컬럼(unique 인덱스)으로 조회한 뒤
+     * 복호화한 이메일의 정규화 값이 같은지 확인합니다.
+     */
+    default Optional<User> findUserByEmail(String email) {
+        String normalized = UserLookupKeys.normalize(email);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+        return findUserByEmailHash(FieldEncryption.blindIndex(normalized))
+                .filter(user -> normalized.equals(UserLookupKeys.normalize(user.getEmail())));
+    }
+
+    /**
+     * 대소문자를 구분하지 않고 닉네임으로 회원을 조회합니다.
+     */
+    default Optional<User> findUserByUserName(String userName) {
+        String normalized = UserLookupKeys.normalize(userName);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+        return findUserByUserNameHash(UserLookupKeys.hash(normalized))
+                .filter(user -> normalized.equals(user.getNormalizedUserName()));
+    }
+
+    /**
+     * 주어진 닉네임 해시 중 이미 사용 중인 해시를 조회합니다. 닉네임 추천 후보를 한 번에 걸러 낼 때 사용합니다.
+     */
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = READ_TIMEOUT_MILLIS))
+    @Query("select u.userNameHash from User u where u.userNameHash in :userNameHashes")
+    List<byte[]> findUserNameHashesIn(@Param("userNameHashes") Collection<byte[]> userNameHashes);
+
+    /**
+     * 조회용 해시 값이 채워지지 않은(컬럼 추가 이전에 저장된) 회원을 회원 번호 순으로 조회합니다.
+     */
+    List<User> findByEmailHashIsNullAndUserIndexGreaterThanOrderByUserIndexAsc(Long userIndex, Pageable pageable);
+
+    long countByEmailHashIsNull();
+
+    /**
+     * 회원 번호가 주어진 값보다 큰 회원을 회원 번호 순으로 조회합니다. 전체 회원을 나누어 읽을 때 사용합니다.
+     */
+    List<User> findByUserIndexGreaterThanOrderByUserIndexAsc(Long userIndex, Pageable pageable);
+
+    /**
+     * 현재 키가 아닌 키로 암호화된(또는 암호화 전에 저장된) 회원을 회원 번호 순으로 조회합니다.
+     */
+    @Query("select u from User u where (u.encryptionKeyId is null or u.encryptionKeyId <> :keyId) "
+            + "and u.userIndex > :userIndex order by u.userIndex")
+    List<User> findByEncryptionKeyIdNot(@Param("keyId") int keyId, @Param("userIndex") Long userIndex,
+            Pageable pageable);
+
+    @Query("select count(u) from User u where u.encryptionKeyId is null or u.encryptionKeyId <> :keyId")
+    long countByEncryptionKeyIdNot(@Param("keyId") int keyId);
+
+    /**
+     * 회원 목록을 페이지 단위로 조회합니다. Page와 달리 전체 건수를 세는 count 쿼리를 실행하지 않습니다.
+     */
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = READ_TIMEOUT_MILLIS))
+    Slice<User> findAllBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = READ_TIMEOUT_MILLIS))
+    @Query("select new com.thecommerce.user.user.userDTO.UserListDTO("
+            + "u.userIndex, u.userId, u.userName, u.email, u.phoneNumber, u.createDate) "
+            + "from User u where u.userId in :userIds")
+    List<UserListDTO> findUserListByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = READ_TIMEOUT_MILLIS))
+    @Query("select new com.thecommerce.user.user.userDTO.UserListDTO("
+            + "u.userIndex, u.userId, u.userName, u.email, u.phoneNumber, u.createDate) "
+            + "from User u where u.userIndex in :userIndexes")
+    List<UserListDTO> findUserListByUserIndexIn(@Param("userIndexes") Collection<Long> userIndexes);
 }
@@ -1,16 +1,35 @@
 package com.thecommerce.user.user;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.thecommerce.user.circuitbreaker.CircuitBreakerOpenException;
+import com.thecommerce.user.concurrent.SingleFlight;
+import com.thecommerce.user.profiling.PasswordHashEvent;
+import com.thecommerce.user.user.userDTO.UserBatchGetResultDTO;
 import com.thecommerce.user.user.userDTO.UserDTO;
 import com.thecommerce.user.user.userDTO.UserListDTO;
+import com.thecommerce.user.user.status.UserLoginStatus;
 import com.thecommerce.user.user.status.UserRegistrationStatus;
 import com.thecommerce.user.user.status.UserUpdateStatus;
 import com.thecommerce.user.user.userDTO.UpdateUserDTO;
@@ -24,7 +43,21 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCounter userCounter;
     private static final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private static final String UNKNOWN_USER_PASSWORD_HASH = encoder.encode("unknown-user-password");
+    private static final int BATCH_GET_CHUNK_SIZE = 500;
+    private static final int USER_NAME_MIN_LENGTH = 2;
+    private static final int USER_NAME_MAX_LENGTH = 8;
+    private static final int RANDOM_SUFFIX_CANDIDATES = 10;
+
+    /**
+     * 회원가입이 몰릴 때 같은 이메일, 닉네임에 대한 동시 중복 검사를 하나의 쿼리로 합칩니다.
+     * 기다리는 호출이 커넥션을 잡고 있지 않도록 중복 검사는 트랜잭션을 새로 시작하지 않습니다(SUPPORTS).
+     */
+    private final SingleFlight<String, UserRegistrationStatus> emailLookups = new SingleFlight<>();
+    private final SingleFlight<String, UserRegistrationStatus> userNameLookups = new SingleFlight<>();
 
     /**
      * 사용자 정보를 저장하여 회원가입을 처리합니다.
@@ -37,14 +70,7 @@ public class UserService {
     @Transactional(rollbackFor = Exception.class)
     public UserRegistrationStatus save(UserDTO userDTO) {
         try {
-            User user = new User();
-            user.setUserId(userDTO.getUserId());
-            user.setPassword(encoder.encode(userDTO.getPassword()) + "");
-            user.setEmail(userDTO.getEmail());
-            user.setUserName(userDTO.getUserName());
-            user.setPhoneNumber(userDTO.getPhoneNumber());
-            user.setCreateDate(LocalDateTime.now());
-            userRepository.save(user);
+            insert(newUser(userDTO));
             return UserRegistrationStatus.OK;
         } catch (Exception e) {
             log.error(e.getMessage());
@@ -52,6 +78,70 @@ public class UserService {
         }
     }
 
+    /**
+     * 비밀번호를 BCrypt로 암호화하여 저장할 회원 엔티티를 만듭니다. 데이터베이스에는 접근하지 않습니다.
+     *
+     * @param userDTO 회원 정보
+     * @return 저장 전 회원 엔티티
+     */
+    public User newUser(UserDTO userDTO) {
+        User user = new User();
+        user.setUserId(userDTO.getUserId());
+        user.setPassword(encodePassword(userDTO.getPassword()));
+        user.setEmail(userDTO.getEmail());
+        user.setUserName(userDTO.getUserName());
+        user.setPhoneNumber(userDTO.getPhoneNumber());
+        user.setCreateDate(LocalDateTime.now());
+        return user;
+    }
+
+    /**
+     * newUser로 만든 회원들을 하나의 트랜잭션에서 저장합니다. (그룹 커밋)
+     * 한 건이라도 제약 조건에 걸리면 전체가 롤백되므로, 호출하는 쪽에서 건별 저장으로 다시 시도해야 합니다.
+     *
+     * @param users 저장할 회원 엔티티 목록
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void saveAll(List<User> users) {
+        for (User user : users) {
+            insert(user);
+        }
+        userRepository.flush();
+    }
+
+    /**
+     * newUser로 만든 회원 한 명을 별도의 트랜잭션에서 저장합니다.
+     *
+     * @param user 저장할 회원 엔티티
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void saveOne(User user) {
+        insert(user);
+    }
+
+    private static String encodePassword(String password) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        String encoded = encoder.encode(password);
+        event.setOperation("encode");
+        event.commit();
+        return encoded;
+    }
+
+    private static boolean matchesPassword(String password, String passwordHash) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        boolean matches = encoder.matches(password, passwordHash);
+        event.setOperation("matches");
+        event.commit();
+        return matches;
+    }
+
+    private void insert(User user) {
+        userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.CREATED, toUserListDTO(user)));
+    }
+
     /**
      * 회원가입을 위한 이메일 중복 검사를 수행합니다.
      *
@@ -60,16 +150,22 @@ public class UserService {
      *         - ALREADY_EXIST_EMAIL: 이미 등록된 이메일인 경우
      *         - OK: 사용 가능한 이메일인 경우
      *         - FAIL: 데이터베이스 조회 중 오류가 발생한 경우
+     * @throws CircuitBreakerOpenException 회로 차단기가 열려 있는 경우
      */
-    @Transactional(rollbackFor = Exception.class)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserRegistrationStatus checkDuplicateEmail(String email) {
-        try {
-            Optional<User> userOptional = userRepository.findUserByEmail(email);
-            return userOptional.isPresent() ? UserRegistrationStatus.ALREADY_EXIST_EMAIL : UserRegistrationStatus.OK;
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            return UserRegistrationStatus.FAIL;
-        }
+        return emailLookups.execute(email, () -> {
+            try {
+                Optional<User> userOptional = userRepository.findUserByEmail(email);
+                return userOptional.isPresent() ? UserRegistrationStatus.ALREADY_EXIST_EMAIL
+                        : UserRegistrationStatus.OK;
+            } catch (CircuitBreakerOpenException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error(e.getMessage());
+                return UserRegistrationStatus.FAIL;
+            }
+        });
     }
 
     /**
@@ -80,17 +176,85 @@ public class UserService {
      *         - ALREADY_EXIST_USER_NAME: 이미 존재하는 닉네임인 경우
      *         - OK: 사용 가능한 닉네임인 경우
      * @throws RuntimeException 데이터베이스 조회 중 오류가 발생한 경우
+     * @throws CircuitBreakerOpenException 회로 차단기가 열려 있는 경우
      */
-    @Transactional(rollbackFor = Exception.class)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserRegistrationStatus checkDuplicateUserName(String userName) {
-        try {
-            Optional<User> userOptional = userRepository.findUserByUserName(userName);
-            return userOptional.isPresent() ? UserRegistrationStatus.ALREADY_EXIST_USER_NAME
-                    : UserRegistrationStatus.OK;
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            throw new RuntimeException("SERVER_ERROR");
+        return userNameLookups.execute(userName, () -> {
+            try {
+                Optional<User> userOptional = userRepository.findUserByUserName(userName);
+                return userOptional.isPresent() ? UserRegistrationStatus.ALREADY_EXIST_USER_NAME
+                        : UserRegistrationStatus.OK;
+            } catch (CircuitBreakerOpenException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error(e.getMessage());
+                throw new RuntimeException("SERVER_ERROR");
+            }
+        });
+    }
+
+    /**
+     * 원하는 닉네임과 닉네임 규칙(2~8자)에 맞는 변형 후보들 중 사용 가능한 닉네임을 추천합니다.
+     * 후보마다 중복 검사를 하지 않고, 후보들의 조회용 해시로 IN 쿼리를 한 번 실행하여 사용 중인 후보를 걸러 냅니다.
+     *
+     * @param userName 원하는 닉네임
+     * @param limit    최대 추천 수
+     * @return 사용 가능한 닉네임 목록, 원하는 닉네임이 사용 가능하면 가장 앞에 옵니다.
+     * @throws CircuitBreakerOpenException 회로 차단기가 열려 있는 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> suggestUserNames(String userName, int limit) {
+        Map<ByteBuffer, String> candidates = new LinkedHashMap<>();
+        for (String candidate : userNameCandidates(userName.trim())) {
+            candidates.putIfAbsent(ByteBuffer.wrap(UserLookupKeys.hash(UserLookupKeys.normalize(candidate))),
+                    candidate);
+        }
+
+        List<byte[]> hashes = new ArrayList<>(candidates.size());
+        candidates.keySet().forEach(hash -> hashes.add(hash.array()));
+        for (byte[] taken : userRepository.findUserNameHashesIn(hashes)) {
+            candidates.remove(ByteBuffer.wrap(taken));
+        }
+
+        List<String> result = new ArrayList<>(limit);
+        for (String candidate : candidates.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(candidate);
         }
+        return result;
+    }
+
+    /**
+     * 원하는 닉네임, 한 자리 숫자(1~9), 임의의 두 자리, 세 자리 숫자를 붙인 후보를 만듭니다.
+     * 숫자를 붙여 8자를 넘는 경우 앞부분을 잘라 길이를 맞춥니다.
+     */
+    private static List<String> userNameCandidates(String userName) {
+        List<String> candidates = new ArrayList<>();
+        if (USER_NAME_MIN_LENGTH <= userName.length() && userName.length() <= USER_NAME_MAX_LENGTH) {
+            candidates.add(userName);
+        }
+        for (int i = 1; i <= 9; i++) {
+            candidates.add(truncate(userName, USER_NAME_MAX_LENGTH - 1) + i);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < RANDOM_SUFFIX_CANDIDATES; i++) {
+            candidates.add(truncate(userName, USER_NAME_MAX_LENGTH - 2) + random.nextInt(10, 100));
+            candidates.add(truncate(userName, USER_NAME_MAX_LENGTH - 3) + random.nextInt(100, 1000));
+        }
+        candidates.removeIf(candidate -> candidate.length() < USER_NAME_MIN_LENGTH
+                || USER_NAME_MAX_LENGTH < candidate.length());
+        return candidates;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        int end = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return value.substring(0, end);
     }
 
     /**
@@ -105,14 +269,14 @@ public class UserService {
     @Transactional(rollbackFor = Exception.class)
     public UserUpdateStatus updateUser(UpdateUserDTO userDTO, String userId) {
         Optional<User> optionalUser = userRepository.findUserByUserId(userId);
-        if (!optionalUser.isPresent()) {
+        if (!optionalUser.isPresent() || optionalUser.get().getDeactivatedDate() != null) {
             return UserUpdateStatus.INVALID_USER;
         }
 
         User user = optionalUser.get();
 
         if (userDTO.getPassword() != null) {
-            user.setPassword(encoder.encode(userDTO.getPassword()));
+            user.setPassword(encodePassword(userDTO.getPassword()));
         }
 
         if (userDTO.getUserName() != null) {
@@ -125,6 +289,7 @@ public class UserService {
 
         try {
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.UPDATED, toUserListDTO(user)));
             return UserUpdateStatus.OK;
         } catch (Exception e) {
             log.info(e.getMessage());
@@ -132,22 +297,164 @@ public class UserService {
         }
     }
 
+    /**
+     * 회원 번호로 조회한 회원들을 비활성화합니다. 이미 비활성화된 회원과 없는 회원은 건너뜁니다.
+     * 호출한 쪽의 트랜잭션에 참여하므로 UserBulkJobRunner는 작업 진행 상황과 함께 커밋합니다.
+     *
+     * @param userIndexes 비활성화할 회원 번호 목록
+     * @return 비활성화한 회원 수
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int deactivateUsers(Collection<Long> userIndexes) {
+        LocalDateTime now = LocalDateTime.now();
+        int deactivated = 0;
+        for (User user : userRepository.findAllById(userIndexes)) {
+            if (user.getDeactivatedDate() != null) {
+                continue;
+            }
+            user.setDeactivatedDate(now);
+            eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DEACTIVATED, toUserListDTO(user)));
+            deactivated++;
+        }
+        userRepository.flush();
+        return deactivated;
+    }
+
+    /**
+     * 회원 번호로 조회한 회원들을 삭제합니다. 없는 회원은 건너뜁니다.
+     * 엔티티 단위로 삭제하므로 2차 캐시에서는 삭제된 회원만 제거되고, 조회용 쿼리 캐시는 Hibernate가 무효화합니다.
+     * 삭제 문은 JDBC batch로 묶여 실행됩니다.
+     *
+     * @param userIndexes 삭제할 회원 번호 목록
+     * @return 삭제한 회원 수
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int deleteUsers(Collection<Long> userIndexes) {
+        List<User> users = userRepository.findAllById(userIndexes);
+        for (User user : users) {
+            userRepository.delete(user);
+            eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED,
+                    new UserListDTO(user.getUserIndex(), user.getUserId(), null, null, null, null)));
+        }
+        userRepository.flush();
+        return users.size();
+    }
+
+    /**
+     * 회원 아이디와 비밀번호를 확인합니다.
+     * 존재하지 않는 회원 아이디도 같은 비용의 BCrypt 비교를 수행하여 응답 시간으로 회원 존재 여부를 알 수 없도록 합니다.
+     * 비활성화된 회원도 같은 이유로 회원이 없는 경우와 같은 결과를 리턴합니다.
+     *
+     * @param userId   회원 아이디
+     * @param password 비밀번호
+     * @return 일치하면 UserLoginStatus.OK, 회원이 없거나 비활성화되었거나 비밀번호가 다르면 UserLoginStatus.INVALID_CREDENTIALS,
+     *         데이터베이스 조회 중 오류가 발생한 경우 UserLoginStatus.SERVER_ERROR를 반환합니다.
+     */
+    public UserLoginStatus authenticate(String userId, String password) {
+        try {
+            Optional<User> userOptional = userRepository.findUserByUserId(userId);
+            String passwordHash = userOptional.map(User::getPassword).orElse(UNKNOWN_USER_PASSWORD_HASH);
+            boolean matches = matchesPassword(password, passwordHash);
+            boolean active = userOptional.isPresent() && userOptional.get().getDeactivatedDate() == null;
+            return active && matches ? UserLoginStatus.OK : UserLoginStatus.INVALID_CREDENTIALS;
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return UserLoginStatus.SERVER_ERROR;
+        }
+    }
+
+    /**
+     * 토큰의 회원이 아직 유효한지 확인합니다. 회원 번호로 조회하므로 2차 캐시를 사용합니다.
+     *
+     * @return 회원 번호의 회원이 있고 아이디가 같고 비활성화되지 않았으면 true
+     */
+    public boolean isActiveUser(long userIndex, String userId) {
+        return userRepository.findById(userIndex)
+                .filter(user -> user.getUserId().equals(userId) && user.getDeactivatedDate() == null)
+                .isPresent();
+    }
+
+    /**
+     * @return 회원 아이디의 회원 번호, 회원이 없으면 비어 있음
+     */
+    public Optional<Long> getUserIndex(String userId) {
+        return userRepository.findUserByUserId(userId).map(User::getUserIndex);
+    }
+
     /**
      * 입력된 페이지 및 정렬 조건에 따라 회원 목록을 조회합니다.
+     * 전체 회원 수는 count 쿼리 대신 UserCounter가 유지하는 값을 사용합니다.
      * 
      * @param pageable 페이지 및 정렬 정보
      * @return 회원 목록 페이지
      */
     public Page<UserListDTO> getUserList(Pageable pageable) {
-        Page<User> result = userRepository.findAll(pageable);
-        return result.map(user -> {
-            return new UserListDTO(
-                    user.getUserIndex(),
-                    user.getUserId(),
-                    user.getUserName(),
-                    user.getEmail(),
-                    user.getPhoneNumber(),
-                    user.getCreateDate());
-        });
+        Slice<User> result = userRepository.findAllBy(pageable);
+        return new PageImpl<>(result.map(UserService::toUserListDTO).getContent(), pageable, userCounter.get());
+    }
+
+    /**
+     * 여러 회원을 회원 아이디 또는 회원 번호로 한 번에 조회합니다.
+     * 중복을 제거한 뒤 IN 쿼리를 500건 단위로 나누어 실행합니다.
+     *
+     * @param userIds     조회할 회원 아이디 목록
+     * @param userIndexes 조회할 회원 번호 목록
+     * @return 입력 순서(회원 아이디 목록, 회원 번호 목록 순)대로 정렬된 회원 목록과 찾지 못한 아이디, 회원 번호 목록
+     */
+    public UserBatchGetResultDTO getUsers(List<String> userIds, List<Long> userIndexes) {
+        Map<String, UserListDTO> byUserId = findInChunks(userIds,
+                userRepository::findUserListByUserIdIn, UserListDTO::getUserId);
+        Map<Long, UserListDTO> byUserIndex = findInChunks(userIndexes,
+                userRepository::findUserListByUserIndexIn, UserListDTO::getUserIndex);
+
+        List<UserListDTO> users = new ArrayList<>(userIds.size() + userIndexes.size());
+        List<String> notFoundUserIds = new ArrayList<>();
+        List<Long> notFoundUserIndexes = new ArrayList<>();
+        for (String userId : userIds) {
+            UserListDTO user = byUserId.get(userId);
+            if (user != null) {
+                users.add(user);
+            } else {
+                notFoundUserIds.add(userId);
+            }
+        }
+        for (Long userIndex : userIndexes) {
+            UserListDTO user = byUserIndex.get(userIndex);
+            if (user != null) {
+                users.add(user);
+            } else {
+                notFoundUserIndexes.add(userIndex);
+            }
+        }
+        return new UserBatchGetResultDTO(users, notFoundUserIds, notFoundUserIndexes);
+    }
+
+    private static <K> Map<K, UserListDTO> findInChunks(List<K> keys, Function<List<K>, List<UserListDTO>> query,
+            Function<UserListDTO, K> keyOf) {
+        List<K> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        Map<K, UserListDTO> result = new HashMap<>();
+        for (int from = 0; from < distinctKeys.size(); from += BATCH_GET_CHUNK_SIZE) {
+            List<K> chunk = distinctKeys.subList(from, Math.min(from + BATCH_GET_CHUNK_SIZE, distinctKeys.size()));
+            for (UserListDTO user : query.apply(chunk)) {
+                result.put(keyOf.apply(user), user);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 회원 엔티티를 비밀번호를 제외한 UserListDTO로 변환합니다.
+     *
+     * @param user 회원 엔티티
+     * @return 회원 목록 조회용 DTO
+     */
+    public static UserListDTO toUserListDTO(User user) {
+        return new UserListDTO(
+                user.getUserIndex(),
+                user.getUserId(),
+                user.getUserName(),
+                user.getEmail(),
+                user.getPhoneNumber(),
+                user.getCreateDate());
     }
 }
@@ -0,0 +1,138 @@
+package com.thecommerce.user.user;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thecommerce.user.user.userDTO.UserBatchGetResultDTO;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 마지막으로 성공한 회원 목록, 회원 조회 결과를 보관합니다.
+ * 데이터베이스를 사용할 수 없을 때(회로 차단기가 열린 경우 등) 목록, 일괄 조회 응답을 이 값으로 대신합니다.
+ */
+public class UserSnapshotCache {
+    private final Clock clock;
+    private final Cache<Pageable, Snapshot<Page<UserListDTO>>> pages;
+    private final Cache<String, Snapshot<UserListDTO>> byUserId;
+    private final Cache<Long, Snapshot<UserListDTO>> byUserIndex;
+    private final LongAdder staleResponses = new LongAdder();
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot<T> {
+        private final T value;
+        private final Instant capturedAt;
+    }
+
+    public UserSnapshotCache(long maxEntries, Duration maxAge, Clock clock) {
+        this.clock = clock;
+        this.pages = newCache(maxEntries, maxAge);
+        this.byUserId = newCache(maxEntries, maxAge);
+        this.byUserIndex = newCache(maxEntries, maxAge);
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maxEntries, Duration maxAge) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(maxAge.toNanos(), TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    public void putPage(Pageable pageable, Page<UserListDTO> page) {
+        Instant now = clock.instant();
+        pages.put(pageable, new Snapshot<>(page, now));
+        putUsers(page.getContent(), now);
+    }
+
+    public void putUsers(List<UserListDTO> users) {
+        putUsers(users, clock.instant());
+    }
+
+    private void putUsers(List<UserListDTO> users, Instant now) {
+        for (UserListDTO user : users) {
+            Snapshot<UserListDTO> snapshot = new Snapshot<>(user, now);
+            byUserId.put(user.getUserId(), snapshot);
+            byUserIndex.put(user.getUserIndex(), snapshot);
+        }
+    }
+
+    /**
+     * 삭제된 회원을 보관된 조회 결과에서 지웁니다. 삭제된 회원이 포함되었을 수 있는 목록 페이지도 모두 지웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            byUserId.invalidate(event.getUser().getUserId());
+            byUserIndex.invalidate(event.getUser().getUserIndex());
+            pages.invalidateAll();
+        }
+    }
+
+    public Optional<Snapshot<Page<UserListDTO>>> getPage(Pageable pageable) {
+        return served(Optional.ofNullable(pages.getIfPresent(pageable)));
+    }
+
+    /**
+     * 요청한 회원이 모두 보관되어 있을 때만 일괄 조회 결과를 만듭니다.
+     * 보관되지 않은 회원은 존재하지 않는 회원과 구분할 수 없기 때문입니다.
+     *
+     * @return 입력 순서대로 정렬된 회원 목록, 가장 오래된 회원의 저장 시각
+     */
+    public Optional<Snapshot<UserBatchGetResultDTO>> getUsers(List<String> userIds, List<Long> userIndexes) {
+        List<UserListDTO> users = new ArrayList<>(userIds.size() + userIndexes.size());
+        Instant capturedAt = clock.instant();
+        for (String userId : userIds) {
+            Snapshot<UserListDTO> snapshot = byUserId.getIfPresent(userId);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            users.add(snapshot.getValue());
+            capturedAt = min(capturedAt, snapshot.getCapturedAt());
+        }
+        for (Long userIndex : userIndexes) {
+            Snapshot<UserListDTO> snapshot = byUserIndex.getIfPresent(userIndex);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            users.add(snapshot.getValue());
+            capturedAt = min(capturedAt, snapshot.getCapturedAt());
+        }
+        UserBatchGetResultDTO result = new UserBatchGetResultDTO(users, new ArrayList<>(), new ArrayList<>());
+        return served(Optional.of(new Snapshot<>(result, capturedAt)));
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private <T> Optional<Snapshot<T>> served(Optional<Snapshot<T>> snapshot) {
+        snapshot.ifPresent(s -> staleResponses.increment());
+        return snapshot;
+    }
+
+    /**
+     * @return 저장 시각부터 지금까지 지난 시간(초)
+     */
+    public long ageSeconds(Snapshot<?> snapshot) {
+        return Math.max(0L, Duration.between(snapshot.getCapturedAt(), clock.instant()).getSeconds());
+    }
+
+    public long getStaleResponses() {
+        return staleResponses.sum();
+    }
+}
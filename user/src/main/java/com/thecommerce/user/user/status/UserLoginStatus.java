@@ -0,0 +1,17 @@
+package com.thecommerce.user.user.status;
+
+public enum UserLoginStatus {
+    OK("OK"),
+    INVALID_CREDENTIALS("INVALID_CREDENTIALS"),
+    SERVER_ERROR("SERVER_ERROR");
+
+    private final String value;
+
+    UserLoginStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,15 @@
+package com.thecommerce.user.user.userDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginDTO {
+    private String userId;
+    private String password;
+}
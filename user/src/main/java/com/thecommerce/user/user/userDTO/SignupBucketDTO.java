@@ -0,0 +1,15 @@
+package com.thecommerce.user.user.userDTO;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignupBucketDTO {
+    private LocalDateTime start;
+    private long count;
+}
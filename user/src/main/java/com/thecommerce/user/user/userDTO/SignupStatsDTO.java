@@ -0,0 +1,20 @@
+package com.thecommerce.user.user.userDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignupStatsDTO {
+    private String granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long total;
+    private long totalUsers;
+    private List<SignupBucketDTO> buckets;
+}
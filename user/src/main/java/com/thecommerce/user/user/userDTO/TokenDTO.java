@@ -0,0 +1,16 @@
+package com.thecommerce.user.user.userDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenDTO {
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+}
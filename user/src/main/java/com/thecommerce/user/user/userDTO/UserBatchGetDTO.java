@@ -0,0 +1,18 @@
+package com.thecommerce.user.user.userDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchGetDTO {
+    private List<String> userIds = new ArrayList<>();
+    private List<Long> userIndexes = new ArrayList<>();
+}
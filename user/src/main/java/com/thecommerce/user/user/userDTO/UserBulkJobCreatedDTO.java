@@ -0,0 +1,16 @@
+package com.thecommerce.user.user.userDTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkJobCreatedDTO {
+    private UserBulkJobDTO job;
+    private List<String> notFoundUserIds;
+    private List<Long> notFoundUserIndexes;
+}
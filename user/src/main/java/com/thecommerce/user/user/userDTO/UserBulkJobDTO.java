@@ -0,0 +1,23 @@
+package com.thecommerce.user.user.userDTO;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkJobDTO {
+    private Long jobId;
+    private String action;
+    private String status;
+    private int totalCount;
+    private int processedCount;
+    private int changedCount;
+    private String lastError;
+    private LocalDateTime createDate;
+    private LocalDateTime updateDate;
+    private LocalDateTime completeDate;
+}
@@ -0,0 +1,16 @@
+package com.thecommerce.user.user.userDTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserNameSuggestionDTO {
+    private String userName;
+    private boolean available;
+    private List<String> suggestions;
+}
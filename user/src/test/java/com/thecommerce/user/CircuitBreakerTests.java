@@ -0,0 +1,131 @@
+package com.thecommerce.user;
+
+import static org.hibernate.jpa.QueryHints.SPEC_HINT_TIMEOUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.QueryHint;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.thecommerce.user.circuitbreaker.CircuitBreaker;
+import com.thecommerce.user.user.UserRepository;
+
+class CircuitBreakerTests {
+    private static final long SLOW_CALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static CircuitBreaker newCircuitBreaker() {
+        return new CircuitBreaker("test", 4, 4, 50, SLOW_CALL_NANOS, OPEN_NANOS, 2);
+    }
+
+    private static void call(CircuitBreaker circuitBreaker, long durationNanos, boolean failed, long nowNanos) {
+        assertTrue(circuitBreaker.tryAcquirePermission(nowNanos));
+        circuitBreaker.onResult(durationNanos, failed, nowNanos);
+    }
+
+    @Test
+    void testOpensWhenFailureRateReachesThreshold() {
+        CircuitBreaker circuitBreaker = newCircuitBreaker();
+
+        call(circuitBreaker, 0L, false, 0L);
+        call(circuitBreaker, 0L, true, 0L);
+        call(circuitBreaker, 0L, false, 0L);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        call(circuitBreaker, 0L, true, 0L);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission(1L));
+        assertFalse(circuitBreaker.isCallPermitted());
+        assertEquals(2, circuitBreaker.getNotPermittedCalls());
+    }
+
+    @Test
+    void testSlowCallsCountAsFailures() {
+        CircuitBreaker circuitBreaker = newCircuitBreaker();
+
+        for (int i = 0; i < 4; i++) {
+            call(circuitBreaker, SLOW_CALL_NANOS + 1, false, 0L);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void testOldResultsLeaveTheWindow() {
+        CircuitBreaker circuitBreaker = newCircuitBreaker();
+
+        call(circuitBreaker, 0L, true, 0L);
+        for (int i = 0; i < 10; i++) {
+            call(circuitBreaker, 0L, false, 0L);
+        }
+        call(circuitBreaker, 0L, true, 0L);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testHalfOpenClosesAfterTrialCallsSucceed() {
+        CircuitBreaker circuitBreaker = newCircuitBreaker();
+        for (int i = 0; i < 4; i++) {
+            call(circuitBreaker, 0L, true, 0L);
+        }
+
+        assertFalse(circuitBreaker.tryAcquirePermission(OPEN_NANOS - 1));
+        assertTrue(circuitBreaker.tryAcquirePermission(OPEN_NANOS));
+        assertTrue(circuitBreaker.tryAcquirePermission(OPEN_NANOS));
+        assertFalse(circuitBreaker.tryAcquirePermission(OPEN_NANOS));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.isCallPermitted());
+
+        circuitBreaker.onResult(0L, false, OPEN_NANOS);
+        circuitBreaker.onResult(0L, false, OPEN_NANOS);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.isCallPermitted());
+    }
+
+    @Test
+    void testHalfOpenReopensOnFailure() {
+        CircuitBreaker circuitBreaker = newCircuitBreaker();
+        for (int i = 0; i < 4; i++) {
+            call(circuitBreaker, 0L, true, 0L);
+        }
+
+        call(circuitBreaker, 0L, true, OPEN_NANOS);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission(2 * OPEN_NANOS - 1));
+        assertTrue(circuitBreaker.tryAcquirePermission(2 * OPEN_NANOS));
+    }
+
+    @Test
+    void testQueryTimeoutOnlyAppliesToRequestReads() throws Exception {
+        assertEquals(UserRepository.READ_TIMEOUT_MILLIS, queryTimeout("findUserByUserId", String.class));
+        assertEquals(UserRepository.READ_TIMEOUT_MILLIS, queryTimeout("findAllBy", Pageable.class));
+        assertEquals(UserRepository.READ_TIMEOUT_MILLIS, queryTimeout("findUserListByUserIndexIn", Collection.class));
+        assertNull(queryTimeout("findByEncryptionKeyIdNot", int.class, Long.class, Pageable.class));
+        assertNull(queryTimeout("findByEmailHashIsNullAndUserIndexGreaterThanOrderByUserIndexAsc", Long.class,
+                Pageable.class));
+    }
+
+    private static String queryTimeout(String methodName, Class<?>... parameterTypes) throws Exception {
+        QueryHints hints = UserRepository.class.getMethod(methodName, parameterTypes).getAnnotation(QueryHints.class);
+        if (hints == null) {
+            return null;
+        }
+        return Arrays.stream(hints.value())
+                .filter(hint -> SPEC_HINT_TIMEOUT.equals(hint.name()))
+                .map(QueryHint::value)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,210 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.FilterChain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.thecommerce.user.concurrencylimit.ConcurrencyLimitFilter;
+import com.thecommerce.user.concurrencylimit.ConcurrencyLimitProperties;
+import com.thecommerce.user.concurrencylimit.GradientConcurrencyLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimitFilterTests {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @BeforeEach
+    public void setup() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(2);
+        properties.setMinLimit(1);
+        properties.setTolerance(1.0);
+        properties.setLongWindow(1000);
+        properties.setWindow(Duration.ofMillis(20));
+        properties.setMinWindowSamples(1);
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimitFilter = new ConcurrencyLimitFilter(properties, meterRegistry);
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        concurrencyLimitFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static FilterChain sleeping(long millis) {
+        return (request, response) -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    /**
+     * heldMethod heldUri 요청 held개를 처리하는 동안 보낸 method uri 요청의 응답을 리턴합니다.
+     */
+    private MockHttpServletResponse performWhileHeld(String heldMethod, String heldUri, int held, String method,
+            String uri) throws Exception {
+        if (held == 0) {
+            return perform(method, uri, new MockFilterChain());
+        }
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        perform(heldMethod, heldUri, (request, response) -> {
+            try {
+                nested.set(performWhileHeld(heldMethod, heldUri, held - 1, method, uri));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return nested.get();
+    }
+
+    @Test
+    void limiterGrowsWhileLatencyIsStableAndShrinksWhenItInflates() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 1, 100, 1.0, 1.5, 10, 0, 10, 0L);
+        long now = 0L;
+        for (int i = 0; i < 10; i++) {
+            now = runWindow(limiter, 10, MILLIS, now);
+        }
+        int stableLimit = limiter.getLimit();
+        assertTrue(stableLimit > 10);
+
+        now = runWindow(limiter, 10, 20 * MILLIS, now);
+
+        assertTrue(limiter.getLimit() < stableLimit);
+        assertTrue(limiter.getGradient(now, MILLIS) < 1.0);
+        assertEquals(1.0, limiter.getGradient(now + 2 * MILLIS, MILLIS));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * concurrency개 요청을 동시에 처리하고 모두 rttNanos 만에 끝난 것으로 반영합니다.
+     */
+    private static long runWindow(GradientConcurrencyLimiter limiter, int concurrency, long rttNanos, long now) {
+        int acquired = 0;
+        while (acquired < concurrency && limiter.tryAcquire(1.0) > 0) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos, acquired, now += MILLIS);
+        }
+        return now;
+    }
+
+    @Test
+    void limiterDoesNotGrowWhenUnderutilized() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 1, 100, 1.0, 1.5, 10, 0, 1, 0L);
+
+        for (int i = 1; i <= 100; i++) {
+            int inFlight = limiter.tryAcquire(1.0);
+            limiter.release(MILLIS, inFlight, i * MILLIS);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void limiterAdmitsOnlyShareOfLimit() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(4, 1, 100, 0.2, 1.5, 10, 0, 1, 0L);
+
+        assertEquals(1, limiter.tryAcquire(0.5));
+        assertEquals(2, limiter.tryAcquire(0.5));
+        assertEquals(0, limiter.tryAcquire(0.5));
+        assertEquals(3, limiter.tryAcquire(1.0));
+    }
+
+    @Test
+    void testRequestOverLimitIsShedWithRetryAfter() throws Exception {
+        MockHttpServletResponse shed = performWhileHeld("POST", "/api/user/join", 2, "POST", "/api/user/join");
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), shed.getStatus());
+        assertEquals("1", shed.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get("user.concurrency-limit.rejected")
+                .tag("endpoint", "join").counter().count());
+        assertEquals(0.0, meterRegistry.get("user.concurrency-limit.in-flight")
+                .tag("endpoint", "join").gauge().value());
+        assertEquals(HttpStatus.OK.value(), perform("POST", "/api/user/join", new MockFilterChain()).getStatus());
+    }
+
+    @Test
+    void testEndpointsHaveSeparateLimits() throws Exception {
+        MockHttpServletResponse list = performWhileHeld("POST", "/api/user/join", 2, "GET", "/api/user/list");
+
+        assertEquals(HttpStatus.OK.value(), list.getStatus());
+    }
+
+    @Test
+    void testWritesAreShedFirstWhenReadLatencyInflates() throws Exception {
+        assertEquals(HttpStatus.OK.value(),
+                performWhileHeld("PUT", "/api/user/target", 1, "PUT", "/api/user/target").getStatus());
+
+        perform("GET", "/api/user/list", sleeping(25));
+        perform("GET", "/api/user/list", (request, response) -> {
+            try {
+                perform("GET", "/api/user/list", sleeping(120));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                performWhileHeld("PUT", "/api/user/target", 1, "PUT", "/api/user/target").getStatus());
+        assertEquals(HttpStatus.OK.value(), perform("GET", "/api/user/list", new MockFilterChain()).getStatus());
+    }
+
+    @Test
+    void testPathVariantsShareTheEndpointLimit() throws Exception {
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                performWhileHeld("POST", "/api/user/join/", 2, "POST", "/api/user/join;a=b").getStatus());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                performWhileHeld("GET", "/api/user/list;a=b", 2, "GET", "/api/user/list/").getStatus());
+        assertEquals(1.0, meterRegistry.get("user.concurrency-limit.rejected")
+                .tag("endpoint", "join").counter().count());
+        assertEquals(1.0, meterRegistry.get("user.concurrency-limit.rejected")
+                .tag("endpoint", "list").counter().count());
+    }
+
+    @Test
+    void testRemainingEndpointsAreLimited() throws Exception {
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                performWhileHeld("GET", "/api/user/search", 2, "GET", "/api/user/search/full-text").getStatus());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), performWhileHeld("GET",
+                "/api/user/username-suggestions", 2, "GET", "/api/user/username-suggestions/").getStatus());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                performWhileHeld("GET", "/api/user/stats/signups", 2, "GET", "/api/user/stats/signups").getStatus());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                performWhileHeld("DELETE", "/api/user/target", 2, "DELETE", "/api/user/other").getStatus());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                performWhileHeld("POST", "/api/user/bulk-jobs", 2, "GET", "/api/user/bulk-jobs/1").getStatus());
+        assertEquals(1.0, meterRegistry.get("user.concurrency-limit.rejected")
+                .tag("endpoint", "other").counter().count());
+    }
+
+    @Test
+    void testStreamAndOtherPathsAreNotLimited() throws Exception {
+        assertEquals(HttpStatus.OK.value(),
+                performWhileHeld("GET", "/api/user/stream", 3, "GET", "/api/user/stream").getStatus());
+        assertEquals(HttpStatus.OK.value(),
+                performWhileHeld("GET", "/actuator/health", 3, "GET", "/actuator/health").getStatus());
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.thecommerce.user;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.thecommerce.user.crypto.FieldEncryption;
+
+/**
+ * 회원 한 건을 저장, 조회할 때 추가되는 컬럼 암호화, 복호화, blind index 비용과
+ * 스레드별 Cipher 재사용과 호출마다 Cipher.getInstance 하는 경우의 차이를 측정합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class FieldEncryptionBenchmarkTests {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+    private static final String EMAIL = "benchmark.user@example.com";
+    private static final String PHONE_NUMBER = "010-1234-5678";
+
+    @Test
+    void benchmarkPerRowOverhead() {
+        String email = FieldEncryption.encrypt(EMAIL);
+        String phoneNumber = FieldEncryption.encrypt(PHONE_NUMBER);
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += FieldEncryption.encrypt(EMAIL).length() + FieldEncryption.decrypt(email).length()
+                    + FieldEncryption.blindIndex(EMAIL).length;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += FieldEncryption.encrypt(EMAIL).length() + FieldEncryption.encrypt(PHONE_NUMBER).length();
+        }
+        long encryptNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += FieldEncryption.decrypt(email).length() + FieldEncryption.decrypt(phoneNumber).length();
+        }
+        long decryptNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += FieldEncryption.blindIndex(EMAIL).length;
+        }
+        long blindIndexNanos = System.nanoTime() - start;
+
+        System.out.printf("[field-encryption] per row: encrypt %d ns, decrypt %d ns, blind index %d ns (%d)%n",
+                encryptNanos / ITERATIONS, decryptNanos / ITERATIONS, blindIndexNanos / ITERATIONS, sink);
+    }
+
+    @Test
+    void benchmarkCipherReuse() throws Exception {
+        SecretKeySpec key = new SecretKeySpec(new byte[32], "AES");
+        byte[] input = EMAIL.getBytes();
+        byte[] iv = new byte[12];
+        Cipher cached = Cipher.getInstance("AES/GCM/NoPadding");
+        long sink = 0;
+        long counter = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            nextIv(iv, counter++);
+            cached.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+            sink += cached.doFinal(input).length;
+            nextIv(iv, counter++);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+            sink += cipher.doFinal(input).length;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            nextIv(iv, counter++);
+            cached.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+            sink += cached.doFinal(input).length;
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            nextIv(iv, counter++);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+            sink += cipher.doFinal(input).length;
+        }
+        long getInstanceNanos = System.nanoTime() - start;
+
+        System.out.printf("[field-encryption] cached cipher %d ns/op, getInstance per call %d ns/op (%d)%n",
+                cachedNanos / ITERATIONS, getInstanceNanos / ITERATIONS, sink);
+    }
+
+    // GCM은 같은 키로 IV를 재사용하면 init에서 거부하므로 매번 다른 IV를 만듭니다.
+    private static void nextIv(byte[] iv, long counter) {
+        for (int i = 0; i < 8; i++) {
+            iv[i] = (byte) (counter >>> (8 * i));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thecommerce.user.config.EncryptionConfig;
+import com.thecommerce.user.crypto.EncryptionProperties;
+import com.thecommerce.user.crypto.FieldEncryption;
+import com.thecommerce.user.outbox.UserOutboxRepository;
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserFieldReencryption;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.status.UserRegistrationStatus;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+@SpringBootTest
+class FieldEncryptionTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserFieldReencryption userFieldReencryption;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserOutboxRepository userOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        user = new User(null, "cryptoUser", "Crypto", "Crypto.User@Example.com", "Password!123", "010-2345-6789",
+                LocalDateTime.now());
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    void testEncryptDecrypt() {
+        String encrypted = FieldEncryption.encrypt("user@example.com");
+
+        assertTrue(encrypted.startsWith("E1." + FieldEncryption.activeKeyId() + "."));
+        assertEquals("user@example.com", FieldEncryption.decrypt(encrypted));
+        // 같은 값이라도 IV가 달라 암호문이 다릅니다.
+        assertNotEquals(encrypted, FieldEncryption.encrypt("user@example.com"));
+        assertNull(FieldEncryption.encrypt(null));
+        assertNull(FieldEncryption.decrypt(null));
+    }
+
+    @Test
+    void testPlaintextPassesThrough() {
+        assertEquals("legacy@example.com", FieldEncryption.decrypt("legacy@example.com"));
+        assertEquals(-1, FieldEncryption.keyIdOf("010-1234-5678"));
+    }
+
+    @Test
+    void testTamperedCiphertextIsRejected() {
+        String encrypted = FieldEncryption.encrypt("user@example.com");
+        char last = encrypted.charAt(encrypted.length() - 3);
+        String tampered = encrypted.substring(0, encrypted.length() - 3) + (last == 'A' ? 'B' : 'A')
+                + encrypted.substring(encrypted.length() - 2);
+
+        assertThrows(IllegalStateException.class, () -> FieldEncryption.decrypt(tampered));
+        assertThrows(IllegalStateException.class, () -> FieldEncryption.decrypt("E1.9999.AAAA"));
+    }
+
+    @Test
+    void testBlindIndexIsDeterministic() {
+        assertEquals(FieldEncryption.BLIND_INDEX_LENGTH, FieldEncryption.blindIndex("user@example.com").length);
+        assertArrayEquals(FieldEncryption.blindIndex("user@example.com"),
+                FieldEncryption.blindIndex("user@example.com"));
+        assertFalse(Arrays.equals(FieldEncryption.blindIndex("user@example.com"),
+                FieldEncryption.blindIndex("other@example.com")));
+    }
+
+    @Test
+    void testColumnsAreStoredEncrypted() {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select email, phone_number, encryption_key_id from users where user_id = ?", "cryptoUser");
+
+        assertTrue(((String) row.get("email")).startsWith("E1."));
+        assertTrue(((String) row.get("phone_number")).startsWith("E1."));
+        assertEquals(FieldEncryption.activeKeyId(), ((Number) row.get("encryption_key_id")).intValue());
+
+        entityManagerFactory.getCache().evictAll();
+        User found = userRepository.findUserByEmail("crypto.user@example.com").orElseThrow(AssertionError::new);
+        assertEquals("Crypto.User@Example.com", found.getEmail());
+        assertEquals("010-2345-6789", found.getPhoneNumber());
+    }
+
+    @Test
+    void testGeneratedKeysOnlyAllowedInDevAndTestProfiles() {
+        MockEnvironment prod = new MockEnvironment();
+        prod.setActiveProfiles("prod");
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new EncryptionConfig(new EncryptionProperties(), prod).configureFieldEncryption());
+        assertTrue(e.getMessage().contains("thecommerce.encryption"));
+
+        MockEnvironment test = new MockEnvironment();
+        test.setActiveProfiles("test");
+        new EncryptionConfig(new EncryptionProperties(), test).configureFieldEncryption();
+    }
+
+    @Test
+    void testOutboxPayloadIsStoredEncrypted() {
+        // relay가 먼저 전달, 삭제하지 않도록 커밋하지 않은 트랜잭션 안에서 확인하고 롤백합니다.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, "cryptoOutbox", "cryptoOutbox",
+                    "crypto.outbox@example.com", "Password!123", "010-3456-7890", null)));
+            userOutboxRepository.flush();
+            Long userIndex = userRepository.findUserByUserId("cryptoOutbox").get().getUserIndex();
+
+            String payload = jdbcTemplate.queryForObject(
+                    "select payload from user_outbox where user_index = ?", String.class, userIndex);
+            assertTrue(payload.startsWith("E1."));
+            assertFalse(payload.contains("crypto.outbox@example.com"));
+            assertTrue(FieldEncryption.decrypt(payload).contains("crypto.outbox@example.com"));
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    void testKeyRotationReencryptsRows() {
+        int previousKeyId = FieldEncryption.activeKeyId();
+        int newKeyId = previousKeyId + 1;
+        byte[] newKey = new byte[32];
+        new SecureRandom().nextBytes(newKey);
+        FieldEncryption.configure(Collections.singletonMap(newKeyId, newKey), newKeyId, null);
+        try {
+            assertTrue(userFieldReencryption.countPending() >= 1);
+
+            assertTrue(userFieldReencryption.reencrypt() >= 1);
+
+            assertEquals(0, userFieldReencryption.countPending());
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "select email, encryption_key_id from users where user_id = ?", "cryptoUser");
+            assertTrue(((String) row.get("email")).startsWith("E1." + newKeyId + "."));
+            assertEquals(newKeyId, ((Number) row.get("encryption_key_id")).intValue());
+            entityManagerFactory.getCache().evictAll();
+            assertTrue(userRepository.findUserByEmail("CRYPTO.USER@example.com").isPresent());
+        } finally {
+            FieldEncryption.configure(Collections.emptyMap(), previousKeyId, null);
+        }
+    }
+
+    @Test
+    void testKeyRotationSkipsRowThatCannotBeSaved() {
+        User poisoned = userRepository.save(new User(null, "cryptoPoisoned", "Poisoned", "poisoned@example.com",
+                "Password!123", "010-2345-6789", LocalDateTime.now()));
+        User other = userRepository.save(new User(null, "cryptoOther", "Other", "other@example.com",
+                "Password!123", "010-2345-6789", LocalDateTime.now()));
+        // 이메일 컬럼만 다른 회원의 값으로 바뀐 행은 다시 저장할 때 emailHash가 unique 제약에 걸립니다.
+        jdbcTemplate.update("update users set email = (select email from users where user_id = ?) where user_id = ?",
+                "cryptoUser", "cryptoPoisoned");
+        entityManagerFactory.getCache().evictAll();
+
+        int previousKeyId = FieldEncryption.activeKeyId();
+        int newKeyId = previousKeyId + 1;
+        byte[] newKey = new byte[32];
+        new SecureRandom().nextBytes(newKey);
+        FieldEncryption.configure(Collections.singletonMap(newKeyId, newKey), newKeyId, null);
+        try {
+            userFieldReencryption.reencrypt();
+
+            assertEquals(1, userFieldReencryption.countPending());
+            assertEquals(previousKeyId, jdbcTemplate.queryForObject(
+                    "select encryption_key_id from users where user_id = ?", Integer.class, "cryptoPoisoned"));
+            assertEquals(newKeyId, jdbcTemplate.queryForObject(
+                    "select encryption_key_id from users where user_id = ?", Integer.class, "cryptoOther"));
+            assertEquals(newKeyId, jdbcTemplate.queryForObject(
+                    "select encryption_key_id from users where user_id = ?", Integer.class, "cryptoUser"));
+        } finally {
+            FieldEncryption.configure(Collections.emptyMap(), previousKeyId, null);
+            userRepository.delete(poisoned);
+            userRepository.delete(other);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.thecommerce.user.outbox.FileUserChangeEventSink;
+import com.thecommerce.user.outbox.UserChangeMessage;
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+class FileUserChangeEventSinkTests {
+
+    @TempDir
+    Path directory;
+
+    private static List<UserChangeMessage> message(long id) {
+        return Collections.singletonList(new UserChangeMessage(id, UserChangedEvent.Type.CREATED, id,
+                LocalDateTime.of(2024, 1, 1, 0, 0), new UserListDTO(id, "sinkUser" + id, "sink" + id,
+                        "sinkUser" + id + "@example.com", "010-1234-5678", LocalDateTime.of(2024, 1, 1, 0, 0))));
+    }
+
+    @Test
+    void testEmailAndPhoneNumberAreNotWritten() throws Exception {
+        Path file = directory.resolve("events.jsonl");
+        FileUserChangeEventSink sink = new FileUserChangeEventSink(file,
+                new ObjectMapper().registerModule(new JavaTimeModule()), 1024 * 1024, 2);
+
+        sink.publish(message(1));
+
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(content.contains("\"userId\":\"sinkUser1\""), content);
+        assertFalse(content.contains("@example.com"), content);
+        assertFalse(content.contains("010-1234-5678"), content);
+    }
+
+    @Test
+    void testRotatesBySizeAndKeepsOnlyMaxFiles() throws Exception {
+        Path file = directory.resolve("events.jsonl");
+        FileUserChangeEventSink sink = new FileUserChangeEventSink(file,
+                new ObjectMapper().registerModule(new JavaTimeModule()), 1, 2);
+
+        for (long id = 1; id <= 4; id++) {
+            sink.publish(message(id));
+        }
+
+        assertTrue(readLine(file).contains("sinkUser4"));
+        assertTrue(readLine(directory.resolve("events.jsonl.1")).contains("sinkUser3"));
+        assertTrue(readLine(directory.resolve("events.jsonl.2")).contains("sinkUser2"));
+        assertFalse(Files.exists(directory.resolve("events.jsonl.3")));
+        assertEquals(3, Files.list(directory).count());
+    }
+
+    private static String readLine(Path file) throws Exception {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        return lines.get(0);
+    }
+}
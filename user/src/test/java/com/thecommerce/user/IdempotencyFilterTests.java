@@ -0,0 +1,183 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import com.thecommerce.user.idempotency.IdempotencyFilter;
+import com.thecommerce.user.idempotency.IdempotencyProperties;
+import com.thecommerce.user.idempotency.IdempotencyStore;
+
+class IdempotencyFilterTests {
+
+    private IdempotencyFilter idempotencyFilter;
+    private AtomicInteger executions;
+    private int nextStatus;
+    private CountDownLatch release;
+
+    @BeforeEach
+    public void setup() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        idempotencyFilter = new IdempotencyFilter(new IdempotencyStore(properties), properties);
+        executions = new AtomicInteger();
+        nextStatus = HttpStatus.CREATED.value();
+        release = new CountDownLatch(0);
+    }
+
+    private MockHttpServletResponse join(String key, String body) throws Exception {
+        return join(new MockHttpServletRequest("POST", "/api/user/join"), key, body);
+    }
+
+    private MockHttpServletResponse join(MockHttpServletRequest request, String key, String body) throws Exception {
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(request, response, (req, res) -> {
+            executions.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) res).setStatus(nextStatus);
+            res.getWriter().write("SUCCESS");
+        });
+        return response;
+    }
+
+    @Test
+    void testRetryReplaysFirstOutcome() throws Exception {
+        MockHttpServletResponse first = join("key-1", "{\"userId\":\"userId\"}");
+        MockHttpServletResponse retry = join("key-1", "{\"userId\":\"userId\"}");
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED.value(), retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void testKeyReusedWithDifferentBody() throws Exception {
+        join("key-2", "{\"userId\":\"userId\"}");
+        MockHttpServletResponse reused = join("key-2", "{\"userId\":\"other\"}");
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), reused.getStatus());
+    }
+
+    @Test
+    void testServerErrorIsNotStored() throws Exception {
+        nextStatus = HttpStatus.INTERNAL_SERVER_ERROR.value();
+        join("key-3", "{}");
+        nextStatus = HttpStatus.CREATED.value();
+        MockHttpServletResponse retry = join("key-3", "{}");
+
+        assertEquals(2, executions.get());
+        assertEquals(HttpStatus.CREATED.value(), retry.getStatus());
+    }
+
+    @Test
+    void testConcurrentDuplicatesWaitForFirstExecution() throws Exception {
+        release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> join("key-4", "{}"));
+            while (executions.get() == 0) {
+                Thread.sleep(1);
+            }
+            Future<MockHttpServletResponse> second = executor.submit(() -> join("key-4", "{}"));
+            Future<MockHttpServletResponse> third = executor.submit(() -> join("key-4", "{}"));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals(HttpStatus.CREATED.value(), first.get().getStatus());
+            assertEquals(HttpStatus.CREATED.value(), second.get().getStatus());
+            assertEquals(HttpStatus.CREATED.value(), third.get().getStatus());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPathVariantsAreReplayed() throws Exception {
+        join("key-5", "{}");
+        MockHttpServletResponse trailingSlash = join(new MockHttpServletRequest("POST", "/api/user/join/"), "key-5",
+                "{}");
+        MockHttpServletResponse matrixParameter = join(new MockHttpServletRequest("POST", "/api/user/join;x=1"),
+                "key-5", "{}");
+
+        assertEquals(1, executions.get());
+        assertEquals("true", trailingSlash.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("true", matrixParameter.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void testBodyAboveLimitIsRejected() throws Exception {
+        char[] body = new char[(int) new IdempotencyProperties().getMaxBodySize().toBytes() + 1];
+        Arrays.fill(body, 'a');
+        MockHttpServletResponse withLength = join("key-6", new String(body));
+
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/user/join") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        MockHttpServletResponse withoutLength = join(chunked, "key-7", new String(body));
+
+        assertEquals(0, executions.get());
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), withLength.getStatus());
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), withoutLength.getStatus());
+    }
+
+    @Test
+    void testReadListenerIsNotifiedOfCachedBody() throws Exception {
+        List<String> calls = new ArrayList<>();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/join");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-8");
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+        idempotencyFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream input = req.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    calls.add("available:" + StreamUtils.copyToString(input, StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    calls.add("allRead");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    calls.add("error");
+                }
+            });
+        });
+
+        assertEquals(Arrays.asList("available:{}", "allRead"), calls);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.thecommerce.user.profiling.JfrEndpoint;
+import com.thecommerce.user.user.UserController;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@SpringBootTest(properties = { "thecommerce.jfr.enabled=true",
+        "thecommerce.jfr.dump-directory=${java.io.tmpdir}/thecommerce-jfr-test", "thecommerce.jfr.max-dumps=2" })
+class JfrRecordingTests {
+
+    @Autowired
+    private JfrEndpoint jfrEndpoint;
+
+    @Autowired
+    private UserController userController;
+
+    @Test
+    void testDumpContainsCustomEvents() throws Exception {
+        assertEquals(true, jfrEndpoint.status().get("recording"));
+        userController.join(new UserDTO(null, "jfrUser", "jfrUser", "jfrUser@example.com", "Password!123",
+                "010-1234-5678", null));
+
+        Map<String, Object> result = jfrEndpoint.dump(1);
+
+        Set<String> eventNames = RecordingFile.readAllEvents(Paths.get((String) result.get("file"))).stream()
+                .map(RecordedEvent::getEventType)
+                .map(eventType -> eventType.getName())
+                .collect(Collectors.toSet());
+        assertTrue(eventNames.contains("com.thecommerce.user.JoinValidation"));
+        assertTrue(eventNames.contains("com.thecommerce.user.PasswordHash"));
+        assertTrue(eventNames.contains("com.thecommerce.user.RepositoryCall"));
+    }
+
+    @Test
+    void testRepeatedDumpsGetDistinctFilesAndOnlyRecentOnesAreKept() throws Exception {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            files.add(Paths.get((String) jfrEndpoint.dump(1).get("file")));
+        }
+
+        assertEquals(3, new HashSet<>(files).size());
+        assertFalse(Files.exists(files.get(0)));
+        assertTrue(Files.exists(files.get(1)));
+        assertTrue(Files.exists(files.get(2)));
+        try (Stream<Path> dumps = Files.list(files.get(2).getParent())) {
+            assertEquals(2, dumps.count());
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.thecommerce.user.outbox.UserOutboxRepository;
+import com.thecommerce.user.startup.JitWarmupRunner;
+import com.thecommerce.user.user.UserRepository;
+
+@SpringBootTest(properties = { "thecommerce.warmup.enabled=true", "thecommerce.warmup.iterations=20" })
+class JitWarmupTests {
+
+    @Autowired
+    private JitWarmupRunner jitWarmupRunner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserOutboxRepository userOutboxRepository;
+
+    @Test
+    void testWarmupRunsEveryOperationAndLeavesNoData() {
+        Map<String, Map<String, Object>> report = jitWarmupRunner.getReport().toMap();
+        assertEquals(3, report.size());
+        long calls = report.values().stream().mapToLong(values -> (Long) values.get("calls")).sum();
+        assertEquals(20, calls);
+        assertTrue(report.containsKey("join"));
+
+        assertFalse(userRepository.findUserByUserId("warmup0").isPresent());
+        assertEquals(0, userOutboxRepository.count());
+    }
+
+}
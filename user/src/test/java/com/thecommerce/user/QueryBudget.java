@@ -0,0 +1,30 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.thecommerce.user.querycount.QueryCountFilter;
+
+/**
+ * MockMvc 응답의 X-Query-Count 헤더로 엔드포인트가 선언한 SQL 실행 수를 넘지 않았는지 확인합니다.
+ *
+ * mockMvc.perform(...).andExpect(QueryBudget.atMost(3));
+ */
+final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    static ResultMatcher atMost(int statements) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryCountFilter.QUERY_COUNT_HEADER);
+            assertNotNull(header, "missing " + QueryCountFilter.QUERY_COUNT_HEADER + " header");
+            int actual = Integer.parseInt(header);
+            assertTrue(actual <= statements, () -> result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI() + " executed " + actual
+                    + " SQL statements, over its budget of " + statements);
+        };
+    }
+}
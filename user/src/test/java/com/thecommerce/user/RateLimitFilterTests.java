@@ -0,0 +1,108 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.thecommerce.user.ratelimit.RateLimitFilter;
+import com.thecommerce.user.ratelimit.RateLimitProperties;
+import com.thecommerce.user.ratelimit.TokenBucket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    public void setup() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setClientIp(new RateLimitProperties.Bucket(3, 0.001));
+        properties.setLoginId(new RateLimitProperties.Bucket(2, 0.001));
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitFilter = new RateLimitFilter(properties, meterRegistry);
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String clientIp) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(clientIp);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void tokenBucketAllowsBurstThenRefills() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0L);
+
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertTrue(bucket.tryAcquire(0L) > 0);
+        assertEquals(0L, bucket.tryAcquire(1_000_000_000L));
+    }
+
+    @Test
+    void testJoinRejectedPerClientIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HttpStatus.OK.value(), perform("POST", "/api/user/join", "10.0.0.1").getStatus());
+        }
+
+        MockHttpServletResponse rejected = perform("POST", "/api/user/join", "10.0.0.1");
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        assertNotNull(rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.OK.value(), perform("POST", "/api/user/join", "10.0.0.2").getStatus());
+        assertEquals(1.0, meterRegistry.get("user.rate-limit.rejected")
+                .tag("endpoint", "join").tag("limit", "clientIp").counter().count());
+    }
+
+    @Test
+    void testUpdateRejectedPerLoginId() throws Exception {
+        assertEquals(HttpStatus.OK.value(), perform("PUT", "/api/user/target", "10.0.0.1").getStatus());
+        assertEquals(HttpStatus.OK.value(), perform("PUT", "/api/user/target", "10.0.0.2").getStatus());
+
+        MockHttpServletResponse rejected = perform("PUT", "/api/user/target", "10.0.0.3");
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        assertEquals(1.0, meterRegistry.get("user.rate-limit.rejected")
+                .tag("endpoint", "update").tag("limit", "loginId").counter().count());
+    }
+
+    @Test
+    void testLoginPathVariantsShareTheLimit() throws Exception {
+        // Spring MVC는 끝의 '/'와 ';' 뒤의 매개변수를 무시하고 같은 핸들러로 매핑합니다.
+        assertEquals(HttpStatus.OK.value(), perform("POST", "/api/user/login", "10.0.0.1").getStatus());
+        assertEquals(HttpStatus.OK.value(), perform("POST", "/api/user/login/", "10.0.0.1").getStatus());
+        assertEquals(HttpStatus.OK.value(), perform("POST", "/api/user/login;x=1", "10.0.0.1").getStatus());
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                perform("POST", "/api/user/login;jsessionid=1/", "10.0.0.1").getStatus());
+        assertEquals(1.0, meterRegistry.get("user.rate-limit.rejected")
+                .tag("endpoint", "login").tag("limit", "clientIp").counter().count());
+    }
+
+    @Test
+    void testUpdatePathVariantsShareTheLoginIdLimit() throws Exception {
+        assertEquals(HttpStatus.OK.value(), perform("PUT", "/api/user/target/", "10.0.0.1").getStatus());
+        assertEquals(HttpStatus.OK.value(), perform("PUT", "/api/user/target;x=1", "10.0.0.2").getStatus());
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), perform("PUT", "/api/user/target", "10.0.0.3").getStatus());
+    }
+
+    @Test
+    void testListIsNotRateLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(HttpStatus.OK.value(), perform("GET", "/api/user/list", "10.0.0.1").getStatus());
+        }
+    }
+
+}
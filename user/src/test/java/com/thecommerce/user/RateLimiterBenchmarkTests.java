@@ -0,0 +1,70 @@
+package com.thecommerce.user;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.thecommerce.user.ratelimit.KeyedRateLimiter;
+
+/**
+ * 여러 스레드가 동시에 같은 키 / 서로 다른 키로 토큰을 획득할 때의 처리량을 측정합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class RateLimiterBenchmarkTests {
+    private static final int THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final long DURATION_MILLIS = 2_000;
+
+    @Test
+    void benchmarkSingleHotKey() throws Exception {
+        KeyedRateLimiter limiter = new KeyedRateLimiter(1_000_000, 1_000_000, 100_000);
+        run("single hot key", limiter, 1);
+    }
+
+    @Test
+    void benchmarkManyKeys() throws Exception {
+        KeyedRateLimiter limiter = new KeyedRateLimiter(1_000_000, 1_000_000, 100_000);
+        run("10k keys", limiter, 10_000);
+    }
+
+    private void run(String name, KeyedRateLimiter limiter, int keyCount) throws Exception {
+        String[] keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+        LongAdder operations = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        for (int t = 0; t < THREADS; t++) {
+            final int seed = t;
+            executor.execute(() -> {
+                int i = seed;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline) {
+                    if (limiter.tryAcquire(keys[i++ % keyCount]) > 0) {
+                        rejected.increment();
+                    }
+                    operations.increment();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(DURATION_MILLIS * 2, TimeUnit.MILLISECONDS);
+
+        System.out.printf("[rate-limiter] %s: %d threads, %.0f ops/s, %d rejected%n",
+                name, THREADS, operations.sum() * 1000.0 / DURATION_MILLIS, rejected.sum());
+    }
+
+}
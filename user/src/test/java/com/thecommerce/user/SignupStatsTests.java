@@ -0,0 +1,251 @@
+package com.thecommerce.user;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thecommerce.user.auth.TokenService;
+import com.thecommerce.user.stats.SignupHourlyCountRepository;
+import com.thecommerce.user.stats.SignupStats;
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.status.UserRegistrationStatus;
+import com.thecommerce.user.user.userDTO.SignupBucketDTO;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+@SpringBootTest(properties = "thecommerce.auth.admin-user-ids=statsAdmin")
+@AutoConfigureMockMvc
+class SignupStatsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SignupStats signupStats;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SignupHourlyCountRepository signupHourlyCountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @BeforeEach
+    public void setup() {
+        assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, "statsAdmin", "statsAdmin",
+                "statsAdmin@example.com", "Password!123", "010-1234-5678", null)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.findUserByUserId("statsAdmin").ifPresent(userRepository::delete);
+    }
+
+    private String bearer(String userId) {
+        return "Bearer " + tokenService.issue(userRepository.findUserByUserId(userId).get().getUserIndex(), userId);
+    }
+
+    private long recentSignups() {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        return signups(hour.minusHours(1), hour.plusHours(2));
+    }
+
+    private long signups(LocalDateTime from, LocalDateTime to) {
+        return signupStats.getSignups(SignupStats.Granularity.HOUR, from, to).stream()
+                .mapToLong(SignupBucketDTO::getCount)
+                .sum();
+    }
+
+    @Test
+    void testCountsCommittedSignupsOnceAcrossFlushes() {
+        long before = recentSignups();
+
+        for (int i = 0; i < 3; i++) {
+            UserDTO userDTO = new UserDTO(null, "statsUser" + i, "stats" + i, "statsUser" + i + "@example.com",
+                    "Password!123", "010-1234-5678", null);
+            assertEquals(UserRegistrationStatus.OK, userService.save(userDTO));
+        }
+        assertEquals(before + 3, recentSignups());
+
+        signupStats.flush();
+        assertEquals(before + 3, recentSignups());
+        signupStats.flush();
+        assertEquals(before + 3, recentSignups());
+
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getUserId().startsWith("statsUser"))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testConcurrentRecordsAreCountedExactlyAcrossFlushes() throws InterruptedException {
+        LocalDateTime expiredHour = LocalDateTime.of(2019, 6, 1, 10, 0);
+        long recentBefore = recentSignups();
+        long expiredBefore = signups(expiredHour, expiredHour.plusHours(1));
+
+        int threads = 4;
+        int perThread = 5000;
+        List<Thread> recorders = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread recorder = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    // 한 시간 이상 지난 시간은 drain마다 맵에서 빠지므로 늦게 도착한 가입도 함께 확인합니다.
+                    signupStats.record(i % 2 == 0 ? LocalDateTime.now() : expiredHour.plusMinutes(30));
+                }
+            });
+            recorders.add(recorder);
+            recorder.start();
+        }
+        while (recorders.stream().anyMatch(Thread::isAlive)) {
+            signupStats.flush();
+        }
+        for (Thread recorder : recorders) {
+            recorder.join();
+        }
+        signupStats.flush();
+        signupStats.flush();
+
+        assertEquals(recentBefore + threads * perThread / 2, recentSignups());
+        assertEquals(expiredBefore + threads * perThread / 2, signups(expiredHour, expiredHour.plusHours(1)));
+    }
+
+    @Test
+    void testRebuildKeepsRecentPendingSignups() {
+        long before = recentSignups();
+        signupStats.record(LocalDateTime.now());
+        signupStats.record(LocalDateTime.now());
+        assertEquals(before + 2, recentSignups());
+
+        // 직전 시간 이후의 증가분은 집계 대상이 아니므로 rebuild 후에도 남아 있어야 합니다.
+        signupStats.rebuild();
+        assertEquals(before + 2, recentSignups());
+        signupStats.flush();
+        assertEquals(before + 2, recentSignups());
+    }
+
+    @Test
+    void testRebuildLeavesHoursOtherNodesMayNotHaveFlushed() {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
+        SignupStats otherNode = new SignupStats(signupHourlyCountRepository,
+                new TransactionTemplate(transactionManager), Clock.systemDefaultZone(), Duration.ofHours(2));
+        long before = signups(hour, hour.plusHours(1));
+
+        User user = new User();
+        user.setUserId("laggingUser");
+        user.setUserName("lagging");
+        user.setEmail("laggingUser@example.com");
+        user.setPassword("Password!123");
+        user.setPhoneNumber("010-1234-5678");
+        user.setCreateDate(hour.plusMinutes(30));
+        userRepository.save(user);
+        otherNode.record(user.getCreateDate());
+
+        // 다른 인스턴스가 아직 반영하지 않은 시간은 다시 만들지 않으므로 나중에 반영해도 한 번만 세어집니다.
+        signupStats.rebuild();
+        otherNode.flush();
+        assertEquals(before + 1, signups(hour, hour.plusHours(1)));
+
+        userRepository.delete(user);
+    }
+
+    @Test
+    void testStatsRequireAdmin() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stats/signups"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stats/signups/"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+        assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, "statsUser", "statsU",
+                "statsUser@example.com", "Password!123", "010-1234-5678", null)));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stats/signups")
+                .header(HttpHeaders.AUTHORIZATION, bearer("statsUser")))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        userRepository.delete(userRepository.findUserByUserId("statsUser").get());
+    }
+
+    @Test
+    void testRebuildFromUsersTableAndServeDailyBuckets() throws Exception {
+        String admin = bearer("statsAdmin");
+        User user = new User();
+        user.setUserId("historicUser");
+        user.setUserName("historic");
+        user.setEmail("historicUser@example.com");
+        user.setPassword("Password!123");
+        user.setPhoneNumber("010-1234-5678");
+        userRepository.save(user);
+        user.setCreateDate(LocalDateTime.of(2020, 1, 1, 10, 15));
+        userRepository.save(user);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stats/signups")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .param("granularity", "day")
+                .param("from", "2020-01-01T00:00:00")
+                .param("to", "2020-01-03T00:00:00"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", is(0)));
+
+        signupStats.rebuild();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stats/signups")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .param("granularity", "day")
+                .param("from", "2020-01-01T00:00:00")
+                .param("to", "2020-01-03T00:00:00"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.buckets", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.buckets[0].count", is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.buckets[1].count", is(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", is(1)));
+
+        userRepository.delete(user);
+    }
+
+    @Test
+    void testRejectsInvalidGranularityAndRange() throws Exception {
+        String admin = bearer("statsAdmin");
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stats/signups")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .param("granularity", "week"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stats/signups")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .param("from", "2020-01-02T00:00:00")
+                .param("to", "2020-01-01T00:00:00"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stats/signups")
+                .header(HttpHeaders.AUTHORIZATION, admin))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.buckets", hasSize(24)));
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserCounter;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+
+/**
+ * 회원가입이 몰릴 때처럼 소수의 인기 닉네임에 요청이 집중되는(Zipf 분포) 상황에서
+ * 닉네임 중복 검사가 실행하는 쿼리 수를 single-flight 적용 전후로 비교합니다.
+ * 쿼리는 1ms가 걸리는 가짜 저장소로 대신합니다. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class SingleFlightBenchmarkTests {
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightBenchmarkTests.class);
+    private static final int THREADS = 64;
+    private static final int CALLS_PER_THREAD = 500;
+    private static final int KEYS = 1_000;
+    private static final double ZIPF_EXPONENT = 1.2;
+
+    @Test
+    void benchmarkSkewedDuplicateUserNameChecks() throws Exception {
+        LongAdder queries = new LongAdder();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findUserByUserName(anyString())).thenAnswer(invocation -> {
+            queries.increment();
+            Thread.sleep(1);
+            return Optional.<User>empty();
+        });
+        UserService userService = new UserService(userRepository, mock(ApplicationEventPublisher.class),
+                mock(UserCounter.class));
+        String[] keys = zipfKeys(THREADS * CALLS_PER_THREAD);
+
+        long direct = run("direct", keys, key -> userRepository.findUserByUserName(key), queries);
+        long coalesced = run("single-flight", keys, userService::checkDuplicateUserName, queries);
+
+        assertTrue(coalesced < direct, "single-flight should issue fewer queries");
+    }
+
+    private long run(String name, String[] keys, Consumer<String> call, LongAdder queries) throws Exception {
+        queries.reset();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            final int offset = t * CALLS_PER_THREAD;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                    call.accept(keys[offset + i]);
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        log.info("{} calls={} queries={} elapsed={}ms", name, keys.length, queries.sum(), elapsedMillis);
+        return queries.sum();
+    }
+
+    private static String[] zipfKeys(int count) {
+        double[] cumulative = new double[KEYS];
+        double sum = 0;
+        for (int k = 0; k < KEYS; k++) {
+            sum += 1 / Math.pow(k + 1, ZIPF_EXPONENT);
+            cumulative[k] = sum;
+        }
+        Random random = new Random(42);
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            double r = random.nextDouble() * sum;
+            int k = 0;
+            while (cumulative[k] < r) {
+                k++;
+            }
+            keys[i] = "name" + k;
+        }
+        return keys;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.thecommerce.user.concurrent.SingleFlight;
+
+class SingleFlightTests {
+    private static final int CALLERS = 8;
+
+    @Test
+    void testConcurrentCallsForSameKeyShareOneLoad() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch arrived = new CountDownLatch(CALLERS);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> callers = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    callers.add(Thread.currentThread());
+                    arrived.countDown();
+                    return singleFlight.execute("hot", () -> {
+                        loads.incrementAndGet();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return "value";
+                    });
+                }));
+            }
+            assertTrue(arrived.await(5, TimeUnit.SECONDS));
+            // 모든 호출자가 execute에 들어와 대기(먼저 온 호출은 release, 나머지는 그 결과)할 때까지 기다린 뒤 조회를 끝냅니다.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!callers.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)
+                    && System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailureIsSharedAndKeyIsReleased() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("SERVER_ERROR");
+        }));
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals("retried", singleFlight.execute("key", () -> "retried"));
+    }
+
+}
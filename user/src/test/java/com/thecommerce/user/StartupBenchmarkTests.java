@@ -0,0 +1,94 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 새 JVM에서 애플리케이션을 시작하여 첫 번째 /api/user/list 요청이 성공할 때까지 걸리는 시간을 측정합니다.
+ * 기본 프로필과 prod 프로필을 비교합니다. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class StartupBenchmarkTests {
+    private static final long TIMEOUT_MILLIS = 120_000;
+
+    @Test
+    void benchmarkDefaultProfile() throws Exception {
+        report("default", measure(null));
+    }
+
+    @Test
+    void benchmarkProdProfile() throws Exception {
+        report("prod", measure("prod"));
+    }
+
+    private static void report(String profile, long millis) {
+        System.out.printf("[startup] %s profile: first successful /api/user/list after %d ms%n", profile, millis);
+    }
+
+    private static String randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private long measure(String profile) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(UserApplication.class.getName());
+        command.add("--server.port=" + port);
+        if (profile != null) {
+            command.add("--spring.profiles.active=" + profile);
+            // dev, test 외의 프로필은 암호화 키 없이 시작하지 않습니다.
+            command.add("--thecommerce.encryption.keys.1=" + randomKey());
+            command.add("--thecommerce.encryption.blind-index-key=" + randomKey());
+        }
+
+        File log = File.createTempFile("startup-benchmark", ".log");
+        log.deleteOnExit();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            URL url = new URL("http://localhost:" + port + "/api/user/list");
+            while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS)) {
+                assertTrue(process.isAlive(), "application exited before serving a request");
+                try {
+                    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                    int status = connection.getResponseCode();
+                    connection.disconnect();
+                    if (status == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (Exception e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("application did not respond within " + TIMEOUT_MILLIS + "ms");
+        } finally {
+            process.destroy();
+            process.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+}
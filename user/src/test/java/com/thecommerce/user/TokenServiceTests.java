@@ -0,0 +1,73 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import com.thecommerce.user.auth.AuthProperties;
+import com.thecommerce.user.auth.SigningKeyHolder;
+import com.thecommerce.user.auth.TokenService;
+
+class TokenServiceTests {
+
+    private final SigningKeyHolder keyHolder = new SigningKeyHolder();
+
+    private TokenService tokenService(Clock clock) {
+        AuthProperties properties = new AuthProperties();
+        properties.setTokenTtl(Duration.ofMinutes(30));
+        return new TokenService(keyHolder, properties, clock);
+    }
+
+    @Test
+    void testIssuedTokenVerifiesRepeatedly() {
+        TokenService tokenService = tokenService(Clock.systemUTC());
+        String token = tokenService.issue(7L, "user:with:colons");
+
+        assertEquals("user:with:colons", tokenService.verify(token).getUserId());
+        assertEquals("user:with:colons", tokenService.verify(token).getUserId());
+        assertEquals(7L, tokenService.verify(token).getUserIndex());
+    }
+
+    @Test
+    void testTamperedTokenIsRejected() {
+        TokenService tokenService = tokenService(Clock.systemUTC());
+        String token = tokenService.issue(1L, "userId");
+        String other = tokenService.issue(2L, "adminId");
+        String forged = other.substring(0, other.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertNull(tokenService.verify(forged));
+        assertNull(tokenService.verify("not-a-token"));
+        assertNull(tokenService.verify("a.b.c"));
+    }
+
+    @Test
+    void testExpiredTokenIsRejected() {
+        Instant issuedAt = Instant.parse("2024-01-01T00:00:00Z");
+        String token = tokenService(Clock.fixed(issuedAt, ZoneOffset.UTC)).issue(1L, "userId");
+
+        TokenService later = tokenService(Clock.fixed(issuedAt.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+        assertNull(later.verify(token));
+    }
+
+    @Test
+    void testTokenSurvivesOneRotationButNotTwo() {
+        TokenService tokenService = tokenService(Clock.systemUTC());
+        String token = tokenService.issue(1L, "userId");
+        assertNotNull(tokenService.verify(token));
+
+        keyHolder.rotate();
+        assertNotNull(tokenService.verify(token));
+        assertNotNull(tokenService.verify(tokenService.issue(1L, "userId")));
+
+        keyHolder.rotate();
+        assertNull(tokenService.verify(token));
+    }
+
+}
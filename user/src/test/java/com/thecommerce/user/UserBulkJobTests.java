@@ -0,0 +1,325 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.auth.TokenService;
+import com.thecommerce.user.job.BulkJobProperties;
+import com.thecommerce.user.job.UserBulkJob;
+import com.thecommerce.user.job.UserBulkJobRepository;
+import com.thecommerce.user.job.UserBulkJobRunner;
+import com.thecommerce.user.job.UserBulkJobService;
+import com.thecommerce.user.job.UserBulkJobTarget;
+import com.thecommerce.user.job.UserBulkJobTargetRepository;
+import com.thecommerce.user.outbox.InMemoryUserChangeEventSink;
+import com.thecommerce.user.outbox.UserChangeEventSink;
+import com.thecommerce.user.outbox.UserChangeMessage;
+import com.thecommerce.user.outbox.UserOutboxRelay;
+import com.thecommerce.user.search.UserPrefixIndex;
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.UserCounter;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.status.UserLoginStatus;
+import com.thecommerce.user.user.status.UserRegistrationStatus;
+import com.thecommerce.user.user.userDTO.UserBulkJobCreatedDTO;
+import com.thecommerce.user.user.userDTO.UserBulkJobDTO;
+import com.thecommerce.user.user.userDTO.UserBulkJobRequestDTO;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+@SpringBootTest(properties = {
+        "thecommerce.bulk-job.chunk-size=2",
+        "thecommerce.bulk-job.throttle=PT0S",
+        "thecommerce.bulk-job.poll-interval=PT1H",
+        "thecommerce.auth.admin-user-ids=bulkAdmin" })
+@AutoConfigureMockMvc
+class UserBulkJobTests {
+    private static final String PASSWORD = "Password!123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserBulkJobService userBulkJobService;
+
+    @Autowired
+    private UserBulkJobRunner userBulkJobRunner;
+
+    @Autowired
+    private UserCounter userCounter;
+
+    @Autowired
+    private UserPrefixIndex userPrefixIndex;
+
+    @Autowired
+    private UserOutboxRelay userOutboxRelay;
+
+    @Autowired
+    private UserChangeEventSink userChangeEventSink;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserBulkJobRepository userBulkJobRepository;
+
+    @Autowired
+    private UserBulkJobTargetRepository userBulkJobTargetRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> userIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        for (int i = 1; i <= 5; i++) {
+            String userId = "bulk" + i;
+            assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, userId, userId,
+                    userId + "@example.com", PASSWORD, "010-1234-5678", null)));
+            userIds.add(userId);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        for (String userId : userIds) {
+            userRepository.findUserByUserId(userId).ifPresent(userRepository::delete);
+        }
+        userRepository.findUserByUserId("bulkAdmin").ifPresent(userRepository::delete);
+    }
+
+    private String bearer(String userId) {
+        return "Bearer " + tokenService.issue(userRepository.findUserByUserId(userId).get().getUserIndex(), userId);
+    }
+
+    private UserBulkJobDTO run(UserBulkJobCreatedDTO created) {
+        userBulkJobRunner.runPending();
+        return userBulkJobService.getJob(created.getJob().getJobId()).get();
+    }
+
+    @Test
+    void testDeleteJobRemovesUsersInChunksAndUpdatesDerivedState() {
+        long countBefore = userCounter.get();
+        List<Long> userIndexes = userIds.stream()
+                .map(userId -> userRepository.findUserByUserId(userId).get().getUserIndex())
+                .collect(Collectors.toList());
+
+        UserBulkJobCreatedDTO created = userBulkJobService.enqueue(UserBulkJob.Action.DELETE, userIds,
+                Collections.singletonList(Long.MAX_VALUE), "bulkAdmin");
+        assertEquals(5, created.getJob().getTotalCount());
+        assertEquals(Collections.singletonList(Long.MAX_VALUE), created.getNotFoundUserIndexes());
+
+        UserBulkJobDTO job = run(created);
+
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(5, job.getProcessedCount());
+        assertEquals(5, job.getChangedCount());
+        assertNotNull(job.getCompleteDate());
+        for (String userId : userIds) {
+            assertFalse(userRepository.findUserByUserId(userId).isPresent());
+        }
+        assertEquals(countBefore - 5, userCounter.get());
+        assertTrue(userPrefixIndex.search("bulk", 100).stream()
+                .noneMatch(user -> userIndexes.contains(user.getUserIndex())));
+
+        userOutboxRelay.relay();
+        List<UserChangeMessage> deleted = ((InMemoryUserChangeEventSink) userChangeEventSink).getMessages()
+                .stream()
+                .filter(message -> message.getType() == UserChangedEvent.Type.DELETED
+                        && userIndexes.contains(message.getUserIndex()))
+                .collect(Collectors.toList());
+        assertEquals(5, deleted.size());
+        assertEquals(null, deleted.get(0).getUser().getEmail());
+
+        // 삭제된 회원의 아이디, 닉네임, 이메일은 다시 사용할 수 있습니다.
+        assertEquals(UserRegistrationStatus.OK, userService.checkDuplicateEmail("BULK1@example.com"));
+        assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, "bulk1", "bulk1",
+                "bulk1@example.com", PASSWORD, "010-1234-5678", null)));
+    }
+
+    @Test
+    void testDeactivateJobBlocksLoginButKeepsIdentifiers() {
+        UserBulkJobCreatedDTO created = userBulkJobService.enqueue(UserBulkJob.Action.DEACTIVATE,
+                Arrays.asList("bulk1", "bulk2", "unknown"), Collections.emptyList(), "bulkAdmin");
+        assertEquals(Collections.singletonList("unknown"), created.getNotFoundUserIds());
+
+        UserBulkJobDTO job = run(created);
+
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(2, job.getChangedCount());
+        assertNotNull(userRepository.findUserByUserId("bulk1").get().getDeactivatedDate());
+        assertEquals(UserLoginStatus.INVALID_CREDENTIALS, userService.authenticate("bulk1", PASSWORD));
+        assertEquals(UserLoginStatus.OK, userService.authenticate("bulk3", PASSWORD));
+        assertEquals(UserRegistrationStatus.ALREADY_EXIST_EMAIL, userService.checkDuplicateEmail("bulk1@example.com"));
+
+        // 이미 비활성화된 회원은 다시 변경하지 않습니다.
+        UserBulkJobDTO again = run(userBulkJobService.enqueue(UserBulkJob.Action.DEACTIVATE,
+                Collections.singletonList("bulk1"), Collections.emptyList(), "bulkAdmin"));
+        assertEquals(1, again.getProcessedCount());
+        assertEquals(0, again.getChangedCount());
+    }
+
+    @Test
+    void testCancelledJobLeavesUsersUntouched() {
+        UserBulkJobCreatedDTO created = userBulkJobService.enqueue(UserBulkJob.Action.DELETE, userIds,
+                Collections.emptyList(), "bulkAdmin");
+
+        assertEquals("CANCELLED", userBulkJobService.cancel(created.getJob().getJobId()).get().getStatus());
+        UserBulkJobDTO job = run(created);
+
+        assertEquals("CANCELLED", job.getStatus());
+        assertEquals(0, job.getProcessedCount());
+        assertTrue(userRepository.findUserByUserId("bulk1").isPresent());
+    }
+
+    @Test
+    void testRunningJobResumesFromRemainingTargetsAfterRestart() {
+        // 첫 묶음(chunk-size=2)을 커밋한 직후 프로세스가 종료된 상태를 만듭니다.
+        Long jobId = new TransactionTemplate(transactionManager).execute(status -> {
+            Long id = userBulkJobService.enqueue(UserBulkJob.Action.DELETE, userIds, Collections.emptyList(),
+                    "bulkAdmin").getJob().getJobId();
+            List<UserBulkJobTarget> firstChunk = userBulkJobTargetRepository.findByJobIdOrderByUserIndexAsc(id,
+                    PageRequest.of(0, 2));
+            userService.deleteUsers(firstChunk.stream().map(UserBulkJobTarget::getUserIndex)
+                    .collect(Collectors.toList()));
+            userBulkJobTargetRepository.deleteAllInBatch(firstChunk);
+            UserBulkJob job = userBulkJobRepository.findById(id).get();
+            job.setStatus(UserBulkJob.Status.RUNNING);
+            job.setProcessedCount(2);
+            job.setChangedCount(2);
+            return id;
+        });
+        assertEquals(3, userBulkJobTargetRepository.findByJobIdOrderByUserIndexAsc(jobId, PageRequest.of(0, 10))
+                .size());
+
+        assertEquals(1, userBulkJobRunner.runPending());
+
+        UserBulkJobDTO job = userBulkJobService.getJob(jobId).get();
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(5, job.getTotalCount());
+        assertEquals(5, job.getProcessedCount());
+        assertEquals(5, job.getChangedCount());
+        assertTrue(userBulkJobTargetRepository.findByJobIdOrderByUserIndexAsc(jobId, PageRequest.of(0, 10))
+                .isEmpty());
+        for (String userId : userIds) {
+            assertFalse(userRepository.findUserByUserId(userId).isPresent());
+        }
+    }
+
+    @Test
+    void testJobFailsAfterMaxAttempts() {
+        BulkJobProperties properties = new BulkJobProperties();
+        properties.setChunkSize(2);
+        properties.setThrottle(Duration.ZERO);
+        properties.setMaxAttempts(2);
+        UserService failingUserService = mock(UserService.class);
+        when(failingUserService.deactivateUsers(anyList())).thenThrow(new IllegalStateException("database is down"));
+        UserBulkJobRunner runner = new UserBulkJobRunner(userBulkJobRepository, userBulkJobTargetRepository,
+                failingUserService, new TransactionTemplate(transactionManager), properties);
+
+        Long jobId = userBulkJobService.enqueue(UserBulkJob.Action.DEACTIVATE, userIds, Collections.emptyList(),
+                "bulkAdmin").getJob().getJobId();
+
+        // 첫 실패는 다음 확인 주기에 다시 시도합니다.
+        assertEquals(0, runner.runPending());
+        UserBulkJob retrying = userBulkJobRepository.findById(jobId).get();
+        assertEquals(UserBulkJob.Status.RUNNING, retrying.getStatus());
+        assertEquals(1, retrying.getFailureCount());
+        assertEquals("database is down", retrying.getLastError());
+
+        assertEquals(1, runner.runPending());
+        UserBulkJob failed = userBulkJobRepository.findById(jobId).get();
+        assertEquals(UserBulkJob.Status.FAILED, failed.getStatus());
+        assertEquals(2, failed.getFailureCount());
+        assertEquals(0, failed.getProcessedCount());
+        assertNotNull(failed.getCompleteDate());
+        assertEquals(5, userBulkJobTargetRepository.findByJobIdOrderByUserIndexAsc(jobId, PageRequest.of(0, 10))
+                .size());
+        assertNull(userRepository.findUserByUserId("bulk1").get().getDeactivatedDate());
+    }
+
+    @Test
+    void testBulkJobApiRequiresAdminAndUsersCanDeleteThemselves() throws Exception {
+        assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, "bulkAdmin", "bulkAdmin",
+                "bulkAdmin@example.com", PASSWORD, "010-1234-5678", null)));
+        UserBulkJobRequestDTO requestDTO = new UserBulkJobRequestDTO("delete", Collections.singletonList("bulk1"),
+                Collections.emptyList());
+        String body = new ObjectMapper().writeValueAsString(requestDTO);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/bulk-jobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer("bulk2"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/bulk-jobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer("bulkAdmin"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.replace("delete", "purge")))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/bulk-jobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer("bulkAdmin"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.job.totalCount").value(1));
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/user/bulk3")
+                .header(HttpHeaders.AUTHORIZATION, bearer("bulk2")))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/user/bulk3/")
+                .header(HttpHeaders.AUTHORIZATION, bearer("bulk2")))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/bulk-jobs/")
+                .header(HttpHeaders.AUTHORIZATION, bearer("bulk2"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/user/bulk3")
+                .header(HttpHeaders.AUTHORIZATION, bearer("bulk3")))
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.job.action").value("DELETE"));
+
+        userBulkJobRunner.runPending();
+        assertFalse(userRepository.findUserByUserId("bulk1").isPresent());
+        assertFalse(userRepository.findUserByUserId("bulk3").isPresent());
+        assertTrue(userRepository.findUserByUserId("bulk2").isPresent());
+    }
+
+}
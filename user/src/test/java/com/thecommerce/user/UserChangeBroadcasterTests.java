@@ -0,0 +1,202 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.stream.UserChangeBroadcaster;
+import com.thecommerce.user.stream.UserChangeStreamEvent;
+import com.thecommerce.user.stream.UserChangeStreamSink;
+
+class UserChangeBroadcasterTests {
+    private static final int BUFFER_SIZE = 8;
+
+    private UserChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    public void setup() {
+        broadcaster = new UserChangeBroadcaster(new ObjectMapper(), BUFFER_SIZE, 2, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        broadcaster.close();
+    }
+
+    private static class RecordingSink implements UserChangeStreamSink {
+        private final BlockingQueue<UserChangeStreamEvent> events = new LinkedBlockingQueue<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(UserChangeStreamEvent event) throws IOException {
+            events.add(event);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        UserChangeStreamEvent next() throws InterruptedException {
+            UserChangeStreamEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "no event within 5 seconds");
+            return event;
+        }
+
+        List<String> nextData(int count) throws InterruptedException {
+            List<String> data = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                data.add(next().getData());
+            }
+            return data;
+        }
+    }
+
+    private void publish(int from, int to) {
+        for (int i = from; i < to; i++) {
+            broadcaster.publish("created", "e" + i);
+        }
+    }
+
+    private static List<String> data(int from, int to) {
+        List<String> data = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            data.add("e" + i);
+        }
+        return data;
+    }
+
+    @Test
+    void testEventsAreFannedOutToEverySubscriberInOrder() throws InterruptedException {
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        broadcaster.subscribe(null, first);
+        broadcaster.subscribe(null, second);
+
+        publish(0, 5);
+
+        assertEquals(data(0, 5), first.nextData(5));
+        assertEquals(data(0, 5), second.nextData(5));
+        assertTrue(first.events.isEmpty());
+    }
+
+    @Test
+    void testSlowSubscriberDropsOldestEventsWithoutBlockingOthers() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink() {
+            @Override
+            public void send(UserChangeStreamEvent event) throws IOException {
+                super.send(event);
+                if ("e0".equals(event.getData())) {
+                    sending.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        RecordingSink fast = new RecordingSink();
+        broadcaster.subscribe(null, slow);
+        broadcaster.subscribe(null, fast);
+
+        publish(0, 1);
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        publish(1, 1 + BUFFER_SIZE + 5);
+        // 느린 구독자가 전송 중이어도 발행과 다른 구독자의 전송은 기다리지 않습니다.
+        // 빠른 구독자도 발행 속도를 따라가지 못하면 버릴 수 있으므로 마지막 이벤트까지 받는지만 확인합니다.
+        long fastDropped = 0;
+        for (UserChangeStreamEvent event = fast.next(); !("e" + (BUFFER_SIZE + 5)).equals(event.getData());
+                event = fast.next()) {
+            if (UserChangeBroadcaster.DROPPED.equals(event.getName())) {
+                fastDropped += Long.parseLong(event.getData());
+            }
+        }
+        release.countDown();
+
+        assertEquals("e0", slow.next().getData());
+        UserChangeStreamEvent dropped = slow.next();
+        assertEquals(UserChangeBroadcaster.DROPPED, dropped.getName());
+        assertNull(dropped.getId());
+        assertEquals("5", dropped.getData());
+        assertEquals(data(6, 1 + BUFFER_SIZE + 5), slow.nextData(BUFFER_SIZE));
+        assertEquals(5 + fastDropped, broadcaster.droppedCount());
+    }
+
+    @Test
+    void testResumesAfterLastEventId() throws InterruptedException {
+        RecordingSink first = new RecordingSink();
+        broadcaster.subscribe(null, first);
+        publish(0, 5);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(first.next().getId());
+        }
+
+        RecordingSink resumed = new RecordingSink();
+        broadcaster.subscribe(ids.get(1), resumed);
+
+        assertEquals(data(2, 5), resumed.nextData(3));
+        publish(5, 6);
+        UserChangeStreamEvent next = resumed.next();
+        assertEquals("e5", next.getData());
+        assertEquals("created", next.getName());
+    }
+
+    @Test
+    void testUnknownLastEventIdSendsResetAndStartsFromNow() throws InterruptedException {
+        publish(0, 3);
+
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe("0-1", sink);
+
+        assertEquals(UserChangeBroadcaster.RESET, sink.next().getName());
+        publish(3, 4);
+        assertEquals("e3", sink.next().getData());
+    }
+
+    @Test
+    void testSubscriberLimitAndFailedSinkReleasesSlot() throws InterruptedException {
+        RecordingSink first = new RecordingSink();
+        RecordingSink failing = new RecordingSink() {
+            @Override
+            public void send(UserChangeStreamEvent event) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        assertNotNull(broadcaster.subscribe(null, first));
+        assertNotNull(broadcaster.subscribe(null, failing));
+        assertNull(broadcaster.subscribe(null, new RecordingSink()));
+
+        publish(0, 1);
+        assertEquals("e0", first.next().getData());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (broadcaster.subscriberCount() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, broadcaster.subscriberCount());
+        assertTrue(failing.completed);
+        assertNotNull(broadcaster.subscribe(null, new RecordingSink()));
+    }
+}
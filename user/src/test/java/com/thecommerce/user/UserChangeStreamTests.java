@@ -0,0 +1,100 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.thecommerce.user.auth.TokenService;
+import com.thecommerce.user.stream.UserChangeBroadcaster;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.status.UserRegistrationStatus;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+@SpringBootTest(properties = "thecommerce.auth.admin-user-ids=streamAdmin")
+@AutoConfigureMockMvc
+class UserChangeStreamTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserChangeBroadcaster userChangeBroadcaster;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @BeforeEach
+    public void setup() {
+        assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, "streamAdmin", "streamAdmin",
+                "streamAdmin@example.com", "Password!123", "010-1234-5678", null)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.findUserByUserId("streamUser").ifPresent(userRepository::delete);
+        userRepository.findUserByUserId("streamAdmin").ifPresent(userRepository::delete);
+    }
+
+    private String bearer(String userId) {
+        return "Bearer " + tokenService.issue(userRepository.findUserByUserId(userId).get().getUserIndex(), userId);
+    }
+
+    @Test
+    void testAdminReceivesCommittedSignup() throws Exception {
+        int subscribers = userChangeBroadcaster.subscriberCount();
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stream")
+                .header(HttpHeaders.AUTHORIZATION, bearer("streamAdmin")))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        assertEquals(subscribers + 1, userChangeBroadcaster.subscriberCount());
+
+        assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, "streamUser", "streamUser",
+                "streamUser@example.com", "Password!123", "010-1234-5678", null)));
+
+        MockHttpServletResponse response = result.getResponse();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!response.getContentAsString().contains("\"userId\":\"streamUser\"")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        String content = response.getContentAsString();
+        assertTrue(content.contains("event:created"), content);
+        assertTrue(content.contains("\"userId\":\"streamUser\""), content);
+        assertTrue(content.matches("(?s).*id:\\d+-\\d+.*"), content);
+
+        result.getRequest().getAsyncContext().complete();
+        assertEquals(subscribers, userChangeBroadcaster.subscriberCount());
+    }
+
+    @Test
+    void testStreamRequiresAdmin() throws Exception {
+        assertEquals(UserRegistrationStatus.OK, userService.save(new UserDTO(null, "streamUser", "streamUser",
+                "streamUser@example.com", "Password!123", "010-1234-5678", null)));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stream"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stream/"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/stream")
+                .header(HttpHeaders.AUTHORIZATION, bearer("streamUser")))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+}
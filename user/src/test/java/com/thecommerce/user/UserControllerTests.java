@@ -1,12 +1,18 @@
 package com.thecommerce.user;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.contains;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +26,7 @@ import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,11 +38,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.auth.AuthProperties;
+import com.thecommerce.user.auth.TokenService;
 import com.thecommerce.user.user.User;
 import com.thecommerce.user.user.UserController;
 import com.thecommerce.user.user.UserService;
 import com.thecommerce.user.user.status.UserRegistrationStatus;
 import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.userDTO.LoginDTO;
+import com.thecommerce.user.user.userDTO.UserBatchGetDTO;
 import com.thecommerce.user.user.userDTO.UserDTO;
 import com.thecommerce.user.user.userDTO.UserListDTO;
 import com.thecommerce.user.user.userDTO.UpdateUserDTO;
@@ -50,14 +61,22 @@ class UserControllerTests {
     @Mock
     private UserService userService;
 
+    @Mock
+    private AuthProperties authProperties;
+
     @InjectMocks
     private UserController userController;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TokenService tokenService;
+
     private User user;
 
+    private User otherUser;
+
     @BeforeEach
     public void setup() {
         user = new User();
@@ -67,11 +86,24 @@ class UserControllerTests {
         user.setPassword("Password!123");
         user.setPhoneNumber("010-1234-5678");
         userRepository.save(user);
+
+        otherUser = new User();
+        otherUser.setUserId("otherUserId");
+        otherUser.setUserName("other");
+        otherUser.setEmail("otherUser@example.com");
+        otherUser.setPassword("Password!123");
+        otherUser.setPhoneNumber("010-1234-5678");
+        userRepository.save(otherUser);
     }
 
     @AfterEach
     public void tearDown() {
         userRepository.delete(user);
+        userRepository.delete(otherUser);
+    }
+
+    private String bearer(String userId) {
+        return "Bearer " + tokenService.issue(userRepository.findUserByUserId(userId).get().getUserIndex(), userId);
     }
 
     @Test
@@ -84,7 +116,8 @@ class UserControllerTests {
         mockMvc.perform(MockMvcRequestBuilders.post("/api/user/join")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(userDTOJson))
-                .andExpect(MockMvcResultMatchers.status().isCreated());
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(QueryBudget.atMost(6));
     }
 
     @Test
@@ -97,7 +130,8 @@ class UserControllerTests {
         mockMvc.perform(MockMvcRequestBuilders.post("/api/user/join")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(userDTOJson))
-                .andExpect(MockMvcResultMatchers.status().isConflict());
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(QueryBudget.atMost(2));
     }
 
     @Test
@@ -110,7 +144,8 @@ class UserControllerTests {
         mockMvc.perform(MockMvcRequestBuilders.post("/api/user/join")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(userDTOJson))
-                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(QueryBudget.atMost(0));
     }
 
     @Test
@@ -220,6 +255,19 @@ class UserControllerTests {
         assertEquals("email exist", response.getBody());
     }
 
+    @Test
+    void testJoinWithAdminUserIdIsRejected() {
+        UserDTO userDTO = new UserDTO(null, "adminUser", "admin", "admin@example.com", "Password!123",
+                "010-1234-5678", null);
+        when(authProperties.getAdminUserIds()).thenReturn(Arrays.asList("adminUser"));
+
+        ResponseEntity<?> response = userController.join(userDTO);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("user Id exist", response.getBody());
+        verify(userService, never()).save(userDTO);
+    }
+
     @Test
     void testUpdateUserInfoSuccess() throws Exception {
         UpdateUserDTO updateUserDTO = new UpdateUserDTO();
@@ -230,9 +278,11 @@ class UserControllerTests {
         String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId")
+                .header(HttpHeaders.AUTHORIZATION, bearer("initialUserId"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(updateUserDTOJson))
-                .andExpect(MockMvcResultMatchers.status().isOk());
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.atMost(5));
     }
 
     @ParameterizedTest
@@ -244,6 +294,7 @@ class UserControllerTests {
         String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId")
+                .header(HttpHeaders.AUTHORIZATION, bearer("initialUserId"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(updateUserDTOJson))
                 .andExpect(MockMvcResultMatchers.status().isBadRequest());
@@ -257,6 +308,7 @@ class UserControllerTests {
         String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId")
+                .header(HttpHeaders.AUTHORIZATION, bearer("initialUserId"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(updateUserDTOJson))
                 .andExpect(MockMvcResultMatchers.status().isConflict());
@@ -271,6 +323,7 @@ class UserControllerTests {
         String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId")
+                .header(HttpHeaders.AUTHORIZATION, bearer("initialUserId"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(updateUserDTOJson))
                 .andExpect(MockMvcResultMatchers.status().isBadRequest());
@@ -284,6 +337,7 @@ class UserControllerTests {
         String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId")
+                .header(HttpHeaders.AUTHORIZATION, bearer("initialUserId"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(updateUserDTOJson))
                 .andExpect(MockMvcResultMatchers.status().isBadRequest());
@@ -296,10 +350,12 @@ class UserControllerTests {
         ObjectMapper objectMapper = new ObjectMapper();
         String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
 
+        // 없는 회원의 토큰은 회원 번호와 아이디가 맞지 않으므로 인증되지 않습니다.
         mockMvc.perform(MockMvcRequestBuilders.put("/api/user/invalidUserId")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(user.getUserIndex(), "invalidUserId"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(updateUserDTOJson))
-                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
     }
 
     @Test
@@ -322,7 +378,8 @@ class UserControllerTests {
         mockMvc.perform(MockMvcRequestBuilders.get("/api/user/list")
                 .param("page", "1")
                 .param("size", "10"))
-                .andExpect(MockMvcResultMatchers.status().isOk());
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.atMost(1));
     }
 
     @Test
@@ -425,4 +482,244 @@ class UserControllerTests {
                 .andExpect(MockMvcResultMatchers.status().isInternalServerError());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testBatchGetPreservesOrderAndReportsNotFound() throws Exception {
+        UserBatchGetDTO batchGetDTO = new UserBatchGetDTO(
+                Arrays.asList("missingUserId", "initialUserId"),
+                Arrays.asList(user.getUserIndex(), -1L));
+        ObjectMapper objectMapper = new ObjectMapper();
+        String batchGetDTOJson = objectMapper.writeValueAsString(batchGetDTO);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchGetDTOJson))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.atMost(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.users", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.users[0].userId", is("initialUserId")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.users[1].userId", is("initialUserId")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.notFoundUserIds[0]", is("missingUserId")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.notFoundUserIndexes[0]", is(-1)));
+    }
+
+    @Test
+    void testBatchGetTooManyIds() throws Exception {
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i <= 5000; i++) {
+            userIds.add("user" + i);
+        }
+        UserBatchGetDTO batchGetDTO = new UserBatchGetDTO(userIds, new ArrayList<>());
+        ObjectMapper objectMapper = new ObjectMapper();
+        String batchGetDTOJson = objectMapper.writeValueAsString(batchGetDTO);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchGetDTOJson))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    void testLoginIssuesTokenThatAuthorizesOwnUpdate() throws Exception {
+        UserDTO userDTO = new UserDTO(null, "loginUser", "loginU", "loginUser@example.com", "Password!123",
+                "010-1234-5678", null);
+        ObjectMapper objectMapper = new ObjectMapper();
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/join")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userDTO)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.post("/api/user/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginDTO("loginUser", "Password!123"))))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.tokenType", is("Bearer")))
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = objectMapper.readTree(response).get("accessToken").asText();
+
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setPhoneNumber("010-1111-2222");
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/loginUser")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateUserDTO)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void testLoginWithWrongPassword() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginDTO("initialUserId", "Wrong!1234"))))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+    }
+
+    @Test
+    void testUpdateUserInfoRequiresToken() throws Exception {
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setPhoneNumber("010-1234-1234");
+        ObjectMapper objectMapper = new ObjectMapper();
+        String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(updateUserDTOJson))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId")
+                .header(HttpHeaders.AUTHORIZATION, bearer("otherUserId"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(updateUserDTOJson))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    @Test
+    void testUpdateUserInfoWithTrailingSlashRequiresOwner() throws Exception {
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setPhoneNumber("010-1234-1234");
+        ObjectMapper objectMapper = new ObjectMapper();
+        String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId/")
+                .header(HttpHeaders.AUTHORIZATION, bearer("otherUserId"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(updateUserDTOJson))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        assertEquals("010-1234-5678", userRepository.findUserByUserId("initialUserId").get().getPhoneNumber());
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId/")
+                .header(HttpHeaders.AUTHORIZATION, bearer("initialUserId"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(updateUserDTOJson))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void testTokenOfDeletedUserIsRejectedAfterUserIdIsReused() throws Exception {
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setPhoneNumber("010-1234-1234");
+        ObjectMapper objectMapper = new ObjectMapper();
+        String updateUserDTOJson = objectMapper.writeValueAsString(updateUserDTO);
+        String oldToken = bearer("otherUserId");
+
+        userRepository.delete(otherUser);
+        otherUser = new User();
+        otherUser.setUserId("otherUserId");
+        otherUser.setUserName("reused");
+        otherUser.setEmail("reusedUser@example.com");
+        otherUser.setPassword("Password!123");
+        otherUser.setPhoneNumber("010-1234-5678");
+        userRepository.save(otherUser);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/otherUserId")
+                .header(HttpHeaders.AUTHORIZATION, oldToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(updateUserDTOJson))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+        assertEquals("010-1234-5678", userRepository.findUserByUserId("otherUserId").get().getPhoneNumber());
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/otherUserId")
+                .header(HttpHeaders.AUTHORIZATION, bearer("otherUserId"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(updateUserDTOJson))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void testTokenOfDeactivatedUserIsRejected() throws Exception {
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setPhoneNumber("010-1234-1234");
+        ObjectMapper objectMapper = new ObjectMapper();
+        String token = bearer("initialUserId");
+
+        user.setDeactivatedDate(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/initialUserId")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateUserDTO)))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+    }
+
+    @Test
+    void testJoinWithEmailDifferingOnlyInCase() throws Exception {
+        UserDTO userDTO = new UserDTO(null, "caseUser", "caseU", "INITIALUSER@example.com", "Password!123",
+                "010-1234-5678", null);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/join")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userDTO)))
+                .andExpect(MockMvcResultMatchers.status().isConflict());
+    }
+
+    @Test
+    void testFullTextSearchLoadsUsersByIndex() throws Exception {
+        UserDTO userDTO = new UserDTO(null, "fullTextUser", "fullText", "full.text@searchdomain.kr", "Password!123",
+                "010-4321-8765", null);
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/join")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(userDTO)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+        try {
+            // 인덱스 검색기는 max-stale 이내에 갱신됩니다.
+            long deadline = System.currentTimeMillis() + 5000;
+            String content;
+            do {
+                content = mockMvc.perform(MockMvcRequestBuilders.get("/api/user/search/full-text")
+                        .param("q", "searchdomain.kr"))
+                        .andExpect(MockMvcResultMatchers.status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+            } while (!content.contains("fullTextUser") && System.currentTimeMillis() < deadline);
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/user/search/full-text")
+                    .param("q", "searchdomain.kr"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].userId", is("fullTextUser")))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].email", is("full.text@searchdomain.kr")))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].phoneNumber", is("010-4321-8765")));
+        } finally {
+            userRepository.findUserByUserId("fullTextUser").ifPresent(userRepository::delete);
+        }
+    }
+
+    @Test
+    void testUserNameSuggestionsSkipTakenNamesInOneQuery() throws Exception {
+        User taken = new User();
+        taken.setUserId("takenUserId");
+        taken.setUserName("name1");
+        taken.setEmail("taken@example.com");
+        taken.setPassword("Password!123");
+        taken.setPhoneNumber("010-1234-5678");
+        userRepository.save(taken);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/username-suggestions")
+                .param("userName", "NAME")
+                .param("limit", "3"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.atMost(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.available", is(false)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.suggestions", contains("NAME2", "NAME3", "NAME4")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/username-suggestions")
+                .param("userName", "freshnick"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.available", is(false)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.suggestions", hasSize(5)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.suggestions", hasItem("freshni1")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/username-suggestions")
+                .param("userName", "free"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.available", is(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.suggestions", not(hasItem("free"))));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/username-suggestions")
+                .param("userName", " ")
+                .param("limit", "3"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        userRepository.delete(taken);
+    }
+
+}
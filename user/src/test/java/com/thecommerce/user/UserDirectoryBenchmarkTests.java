@@ -0,0 +1,94 @@
+package com.thecommerce.user;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.thecommerce.user.directory.UserDirectory;
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+/**
+ * 같은 회원 수를 User 엔티티로 들고 있을 때와 UserDirectory에 넣었을 때의 회원당 힙 사용량,
+ * 디렉터리의 목록, 일괄 조회 처리량을 측정합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class UserDirectoryBenchmarkTests {
+    private static final int USERS = 200_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static User entity(int i) {
+        User user = new User();
+        user.setUserIndex((long) i + 1);
+        user.setUserId("user" + i);
+        user.setUserName("name" + i % 50_000);
+        user.setEmail("user" + i + "@example.com");
+        // BCrypt 해시와 같은 길이(60자)
+        user.setPassword("$2a$10$" + String.format("%053d", i));
+        user.setPhoneNumber("010-" + (1000 + i % 9000) + "-" + (1000 + i % 7919));
+        user.setCreateDate(BASE.plusSeconds(i));
+        return user;
+    }
+
+    private static UserListDTO dto(User user) {
+        return new UserListDTO(user.getUserIndex(), user.getUserId(), user.getUserName(), user.getEmail(),
+                user.getPhoneNumber(), user.getCreateDate());
+    }
+
+    @Test
+    void benchmarkBytesPerUser() {
+        long before = usedHeap();
+        List<User> entities = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            entities.add(entity(i));
+        }
+        long entityBytes = usedHeap() - before;
+
+        before = usedHeap();
+        UserDirectory userDirectory = new UserDirectory(USERS);
+        for (User user : entities) {
+            userDirectory.putIfAbsent(dto(user));
+        }
+        userDirectory.finishLoad();
+        long directoryBytes = usedHeap() - before;
+
+        System.out.printf("%,d users: entities %,d bytes/user, directory %,d bytes/user (arrays %,d bytes/user)%n",
+                USERS, entityBytes / USERS, directoryBytes / USERS, userDirectory.estimatedBytes() / USERS);
+
+        long start = System.nanoTime();
+        int pages = 0;
+        for (int page = 0; page < 20_000; page++) {
+            pages += userDirectory.getUserList(PageRequest.of(page % 1000, 10, Sort.by(Sort.Order.desc("createDate"))))
+                    .get().getNumberOfElements() > 0 ? 1 : 0;
+        }
+        System.out.printf("list page: %,d ns/op (%d pages)%n", (System.nanoTime() - start) / 20_000, pages);
+
+        start = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            int n = ThreadLocalRandom.current().nextInt(USERS);
+            userDirectory.getUsers(Arrays.asList("user" + n), Arrays.asList((long) n + 1)).get();
+        }
+        System.out.printf("batch get (2 keys): %,d ns/op%n", (System.nanoTime() - start) / 100_000);
+
+        // 측정이 끝날 때까지 두 표현이 GC 되지 않도록 유지합니다.
+        System.out.println(entities.size() + userDirectory.size());
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
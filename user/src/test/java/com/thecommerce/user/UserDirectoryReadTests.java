@@ -0,0 +1,80 @@
+package com.thecommerce.user;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.auth.TokenService;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.userDTO.UpdateUserDTO;
+import com.thecommerce.user.user.userDTO.UserBatchGetDTO;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+/**
+ * 메모리 회원 디렉터리를 켜면 목록, 일괄 조회가 SQL 없이 처리되고 회원가입, 정보 수정 내용이 바로 반영되는지 확인합니다.
+ */
+@SpringBootTest(properties = "thecommerce.directory.enabled=true")
+@AutoConfigureMockMvc
+class UserDirectoryReadTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testReadsServedFromDirectoryWithoutSql() throws Exception {
+        UserDTO userDTO = new UserDTO(null, "directoryUser", "dirName", "directoryUser@example.com", "Password!123",
+                "010-1234-5678", null);
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/join")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userDTO)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/list").param("pageSize", "1000"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.atMost(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[*].userId", hasItem("directoryUser")));
+
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setUserName("renamed");
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/directoryUser")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(
+                        userRepository.findUserByUserId("directoryUser").get().getUserIndex(), "directoryUser"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateUserDTO)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new UserBatchGetDTO(Arrays.asList("directoryUser", "unknownUser"), Collections.emptyList()))))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.atMost(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.users", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.users[0].userName", is("renamed")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.users[0].password").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.notFoundUserIds[0]", is("unknownUser")));
+    }
+
+}
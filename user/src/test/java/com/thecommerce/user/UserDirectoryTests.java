@@ -0,0 +1,195 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.thecommerce.user.directory.LongIntHashMap;
+import com.thecommerce.user.directory.UserDirectory;
+import com.thecommerce.user.user.userDTO.UserBatchGetResultDTO;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+class UserDirectoryTests {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0, 0, 123_456_789);
+
+    private UserDirectory userDirectory;
+
+    @BeforeEach
+    public void setup() {
+        userDirectory = new UserDirectory(4);
+        userDirectory.putIfAbsent(user(1L, "carol", BASE));
+        userDirectory.putIfAbsent(user(2L, "alice", BASE.plusDays(1)));
+        userDirectory.putIfAbsent(user(3L, "bob", BASE.plusDays(1)));
+    }
+
+    private static UserListDTO user(Long userIndex, String userName, LocalDateTime createDate) {
+        return new UserListDTO(userIndex, "id" + userIndex, userName, userName + "@example.com", "010-1234-5678",
+                createDate);
+    }
+
+    private static List<String> userNames(Page<UserListDTO> page) {
+        return page.getContent().stream().map(UserListDTO::getUserName).collect(Collectors.toList());
+    }
+
+    private Page<UserListDTO> list(int page, int size, Sort sort) {
+        return userDirectory.getUserList(PageRequest.of(page, size, sort)).get();
+    }
+
+    @Test
+    void testNotServedUntilLoadFinishes() {
+        assertFalse(userDirectory.getUserList(PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createDate"))))
+                .isPresent());
+        assertFalse(userDirectory.getUsers(Collections.singletonList("id1"), Collections.emptyList()).isPresent());
+
+        userDirectory.finishLoad();
+
+        assertTrue(userDirectory.isReady());
+        assertEquals(3, userDirectory.size());
+    }
+
+    @Test
+    void testListPagesInControllerSortOrders() {
+        userDirectory.finishLoad();
+
+        Page<UserListDTO> byCreateDate = list(0, 2, Sort.by(Sort.Order.desc("createDate"), Sort.Order.asc("userName")));
+        assertEquals(Arrays.asList("alice", "bob"), userNames(byCreateDate));
+        assertEquals(3, byCreateDate.getTotalElements());
+        assertEquals(Collections.singletonList("carol"),
+                userNames(list(1, 2, Sort.by(Sort.Order.desc("createDate")))));
+        assertEquals(Arrays.asList("alice", "bob", "carol"), userNames(list(0, 10, Sort.by("userName"))));
+        assertTrue(list(5, 10, Sort.by("userName")).getContent().isEmpty());
+
+        assertFalse(userDirectory.getUserList(PageRequest.of(0, 10, Sort.by("email"))).isPresent());
+    }
+
+    @Test
+    void testRoundTripsAllFields() {
+        userDirectory.put(new UserListDTO(4L, "id4", "한글이름", null, "010-0000-0000", null));
+        userDirectory.finishLoad();
+
+        UserListDTO first = list(0, 1, Sort.by(Sort.Order.desc("createDate"))).getContent().get(0);
+        assertEquals(2L, first.getUserIndex());
+        assertEquals(BASE.plusDays(1), first.getCreateDate());
+        assertEquals("alice@example.com", first.getEmail());
+
+        UserListDTO korean = userDirectory.getUsers(Collections.emptyList(), Collections.singletonList(4L)).get()
+                .getUsers().get(0);
+        assertEquals("한글이름", korean.getUserName());
+        assertNull(korean.getEmail());
+        assertNull(korean.getCreateDate());
+    }
+
+    @Test
+    void testUpdateKeepsSortedOrder() {
+        userDirectory.finishLoad();
+
+        userDirectory.put(user(2L, "zed", BASE.minusDays(1)));
+        userDirectory.put(user(5L, "dave", BASE.plusDays(2)));
+        userDirectory.putIfAbsent(user(5L, "stale", BASE));
+
+        assertEquals(Arrays.asList("bob", "carol", "dave", "zed"), userNames(list(0, 10, Sort.by("userName"))));
+        assertEquals(Arrays.asList("dave", "bob", "carol", "zed"),
+                userNames(list(0, 10, Sort.by(Sort.Order.desc("createDate")))));
+    }
+
+    @Test
+    void testRemoveMovesLastRecordAndKeepsSortedOrder() {
+        userDirectory.finishLoad();
+
+        userDirectory.remove(1L);
+        userDirectory.remove(99L);
+
+        assertEquals(2, userDirectory.size());
+        assertEquals(Arrays.asList("alice", "bob"), userNames(list(0, 10, Sort.by("userName"))));
+        assertEquals(Arrays.asList("alice", "bob"), userNames(list(0, 10, Sort.by(Sort.Order.desc("createDate")))));
+        UserBatchGetResultDTO result = userDirectory.getUsers(Arrays.asList("id1", "id3"), Arrays.asList(1L, 3L))
+                .get();
+        assertEquals(Arrays.asList("bob", "bob"),
+                result.getUsers().stream().map(UserListDTO::getUserName).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList("id1"), result.getNotFoundUserIds());
+        assertEquals(Collections.singletonList(1L), result.getNotFoundUserIndexes());
+
+        userDirectory.put(user(1L, "carol", BASE));
+        assertEquals(Arrays.asList("alice", "bob", "carol"), userNames(list(0, 10, Sort.by("userName"))));
+    }
+
+    @Test
+    void testUserRemovedDuringLoadIsNotResurrected() {
+        userDirectory.remove(4L);
+        userDirectory.putIfAbsent(user(4L, "dave", BASE));
+        userDirectory.remove(3L);
+        userDirectory.putIfAbsent(user(3L, "bob", BASE.plusDays(1)));
+        userDirectory.finishLoad();
+
+        assertEquals(Arrays.asList("alice", "carol"), userNames(list(0, 10, Sort.by("userName"))));
+        assertEquals(Arrays.asList(3L, 4L),
+                userDirectory.getUsers(Collections.emptyList(), Arrays.asList(3L, 4L)).get().getNotFoundUserIndexes());
+    }
+
+    @Test
+    void testBatchGetKeepsInputOrderAndReportsMissing() {
+        userDirectory.finishLoad();
+
+        UserBatchGetResultDTO result = userDirectory.getUsers(Arrays.asList("id3", "unknown", "id1"),
+                Arrays.asList(2L, 99L)).get();
+
+        assertEquals(Arrays.asList("bob", "carol", "alice"),
+                result.getUsers().stream().map(UserListDTO::getUserName).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList("unknown"), result.getNotFoundUserIds());
+        assertEquals(Collections.singletonList(99L), result.getNotFoundUserIndexes());
+    }
+
+    @Test
+    void testRepeatedUpdatesCompactStringPool() {
+        userDirectory.finishLoad();
+
+        for (int i = 0; i < 5_000; i++) {
+            userDirectory.put(new UserListDTO(1L, "id1", "n" + i, "carol@example.com", "010-1234-" + (1000 + i % 9000),
+                    BASE));
+        }
+
+        assertEquals("n4999", userDirectory.getUsers(Collections.singletonList("id1"), Collections.emptyList())
+                .get().getUsers().get(0).getUserName());
+        assertTrue(userDirectory.estimatedBytes() < 64 * 1024, () -> "bytes " + userDirectory.estimatedBytes());
+    }
+
+    @Test
+    void testLongIntHashMapMatchesHashMap() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING).intValue(), map.get(key));
+        }
+        assertEquals(LongIntHashMap.MISSING, map.get(Long.MIN_VALUE));
+    }
+
+}
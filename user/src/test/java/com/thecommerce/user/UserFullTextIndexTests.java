@@ -0,0 +1,125 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.FSDirectory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.thecommerce.user.search.FullTextSearchProperties;
+import com.thecommerce.user.search.UserFullTextIndex;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+class UserFullTextIndexTests {
+
+    private UserFullTextIndex userFullTextIndex;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        FullTextSearchProperties properties = new FullTextSearchProperties();
+        properties.setMaxStale(Duration.ofMillis(20));
+        userFullTextIndex = new UserFullTextIndex(properties);
+        userFullTextIndex.rebuild(consumer -> {
+            consumer.accept(user(1L, "alice", "alice@example.com", "010-1234-5678"));
+            consumer.accept(user(2L, "bob", "bob@shop.co.kr", "02-555-0101"));
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        userFullTextIndex.close();
+    }
+
+    private static UserListDTO user(Long userIndex, String userName, String email, String phoneNumber) {
+        return new UserListDTO(userIndex, "id" + userIndex, userName, email, phoneNumber,
+                LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @Test
+    void testSearchReturnsUserIndexes() throws Exception {
+        List<Long> result = userFullTextIndex.search("alice", 10);
+
+        assertEquals(Collections.singletonList(1L), result);
+        assertTrue(userFullTextIndex.isCurrentFormat());
+    }
+
+    @Test
+    void testSearchToleratesTypos() throws Exception {
+        assertEquals(1L, userFullTextIndex.search("alcie", 10).get(0));
+    }
+
+    @Test
+    void testSearchByEmailDomainAndPhoneNumber() throws Exception {
+        assertEquals(2L, userFullTextIndex.search("shop.co.kr", 10).get(0));
+        assertEquals(1L, userFullTextIndex.search("01012345678", 10).get(0));
+    }
+
+    @Test
+    void testOnlyUserIndexIsStoredOnDisk(@TempDir Path directory) throws Exception {
+        FullTextSearchProperties properties = new FullTextSearchProperties();
+        properties.setDirectory(directory.toString());
+        try (UserFullTextIndex onDisk = new UserFullTextIndex(properties)) {
+            assertFalse(onDisk.isCurrentFormat());
+            onDisk.rebuild(consumer -> consumer.accept(user(1L, "alice", "alice@example.com", "010-1234-5678")));
+        }
+
+        try (DirectoryReader reader = DirectoryReader.open(FSDirectory.open(directory))) {
+            Document document = reader.document(0);
+            assertEquals("1", document.get("id"));
+            assertEquals(1, document.getFields().size());
+        }
+    }
+
+    @Test
+    void testUpdateBecomesVisible() throws Exception {
+        userFullTextIndex.index(user(2L, "carol", "bob@shop.co.kr", "02-555-0101"));
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (userFullTextIndex.search("carol", 10).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Collections.singletonList(2L), userFullTextIndex.search("carol", 10));
+        // 이메일(bob@shop.co.kr)은 그대로이므로 교체된 문서 하나만 검색됩니다.
+        assertEquals(Collections.singletonList(2L), userFullTextIndex.search("bob", 10));
+        assertEquals(2, userFullTextIndex.numDocs());
+    }
+
+    @Test
+    void testRebuildKeepsSearchableUntilStaleUsersAreRemoved() throws Exception {
+        userFullTextIndex.rebuild(consumer -> {
+            consumer.accept(user(3L, "carol", "carol@example.com", "010-9999-0000"));
+            try {
+                long deadline = System.currentTimeMillis() + 2000;
+                while (userFullTextIndex.search("carol", 10).isEmpty() && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                // 검색기가 재생성 도중의 인덱스로 갱신된 뒤에도 아직 색인하지 않은 회원이 검색됩니다.
+                assertEquals(Collections.singletonList(3L), userFullTextIndex.search("carol", 10));
+                assertEquals(Collections.singletonList(1L), userFullTextIndex.search("alice", 10));
+                assertEquals(Collections.singletonList(2L), userFullTextIndex.search("bob", 10));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            consumer.accept(user(1L, "alice", "alice@example.com", "010-1234-5678"));
+        });
+
+        // 재생성에서 빠진 (삭제된) 회원의 문서는 지워집니다.
+        assertTrue(userFullTextIndex.search("bob", 10).isEmpty());
+        assertEquals(Collections.singletonList(1L), userFullTextIndex.search("alice", 10));
+        assertEquals(2, userFullTextIndex.numDocs());
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.thecommerce.user.user.GroupCommitProperties;
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserJoinBatcher;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.status.UserRegistrationStatus;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(properties = { "thecommerce.group-commit.enabled=true", "thecommerce.group-commit.max-wait=PT0.2S" })
+class UserJoinBatcherTests {
+    private static final int CALLERS = 8;
+
+    @Autowired
+    private UserJoinBatcher userJoinBatcher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testConcurrentJoinsShareTransactionAndIsolateConstraintViolations() throws Exception {
+        assertEquals(UserRegistrationStatus.OK, userJoinBatcher.save(userDTO("batchTaken", "batchT")));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<UserRegistrationStatus>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                UserDTO userDTO = i == 0 ? userDTO("batchTaken2", "batchT") : userDTO("batchUser" + i, "batchU" + i);
+                if (i == 0) {
+                    userDTO.setEmail("batchTaken@example.com");
+                }
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return userJoinBatcher.save(userDTO);
+                }));
+            }
+            start.countDown();
+
+            assertEquals(UserRegistrationStatus.FAIL, results.get(0).get(10, TimeUnit.SECONDS));
+            for (int i = 1; i < CALLERS; i++) {
+                assertEquals(UserRegistrationStatus.OK, results.get(i).get(10, TimeUnit.SECONDS));
+                assertTrue(userRepository.findUserByUserId("batchUser" + i).isPresent());
+            }
+            assertFalse(userRepository.findUserByUserId("batchTaken2").isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        DistributionSummary batchSizes = meterRegistry.find("user.join.group-commit.batch-size").summary();
+        assertTrue(batchSizes.max() > 1, "concurrent joins should be committed together");
+    }
+
+    @Test
+    void testStopSavesQueuedJoinsWhenWriterIsStuck() throws Exception {
+        GroupCommitProperties properties = new GroupCommitProperties();
+        properties.setEnabled(true);
+        properties.setMaxWait(Duration.ZERO);
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        UserService userService = mock(UserService.class);
+        User stuckUser = new User();
+        User queuedUser = new User();
+        when(userService.newUser(any())).thenReturn(stuckUser, queuedUser);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(userService).saveAll(anyList());
+
+        UserJoinBatcher batcher = new UserJoinBatcher(userService, properties, new SimpleMeterRegistry());
+        batcher.start();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<UserRegistrationStatus> stuck = executor.submit(() -> batcher.save(userDTO("stuckUser", "stuck")));
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            Future<UserRegistrationStatus> queued = executor.submit(() -> batcher.save(userDTO("queuedUser", "queued")));
+
+            // writer 스레드가 저장 중에 멈춰 있어도 대기열의 요청은 종료할 때 직접 저장되어 결과를 받습니다.
+            batcher.stop();
+            assertEquals(UserRegistrationStatus.OK, queued.get(5, TimeUnit.SECONDS));
+            verify(userService).saveOne(queuedUser);
+
+            release.countDown();
+            assertEquals(UserRegistrationStatus.OK, stuck.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static UserDTO userDTO(String userId, String userName) {
+        return new UserDTO(null, userId, userName, userId + "@example.com", "Password!123", "010-1234-5678", null);
+    }
+
+}
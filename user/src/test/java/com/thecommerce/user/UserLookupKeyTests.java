@@ -0,0 +1,118 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserLookupKeyBackfill;
+import com.thecommerce.user.user.UserLookupKeyHealthIndicator;
+import com.thecommerce.user.user.UserLookupKeys;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.status.UserRegistrationStatus;
+
+@SpringBootTest
+class UserLookupKeyTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserLookupKeyBackfill userLookupKeyBackfill;
+
+    @Autowired
+    private UserLookupKeyHealthIndicator userLookupKeyHealthIndicator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        user = new User(null, "lookupUser", "Lookup", "Lookup.User@Example.com", "Password!123", "010-1234-5678",
+                LocalDateTime.now());
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    void testNormalizeAndHash() {
+        assertEquals("foo@x.com", UserLookupKeys.normalize(" Foo@X.com "));
+        assertEquals(UserLookupKeys.HASH_LENGTH, UserLookupKeys.hash("foo@x.com").length);
+        assertArrayEquals(UserLookupKeys.hash(UserLookupKeys.normalize("FOO@x.com")),
+                UserLookupKeys.hash(UserLookupKeys.normalize("foo@X.COM")));
+    }
+
+    @Test
+    void testDuplicateChecksIgnoreCase() {
+        assertEquals(UserRegistrationStatus.ALREADY_EXIST_EMAIL,
+                userService.checkDuplicateEmail("lookup.user@example.com"));
+        assertEquals(UserRegistrationStatus.ALREADY_EXIST_USER_NAME, userService.checkDuplicateUserName("LOOKUP"));
+        assertEquals(UserRegistrationStatus.OK, userService.checkDuplicateEmail("other.user@example.com"));
+    }
+
+    @Test
+    void testBackfillFillsMissingLookupKeys() {
+        jdbcTemplate.update("update users set email_hash = null, "
+                + "normalized_user_name = null, user_name_hash = null where user_id = ?", "lookupUser");
+        entityManagerFactory.getCache().evictAll();
+        assertFalse(userRepository.findUserByEmail("lookup.user@example.com").isPresent());
+
+        userLookupKeyBackfill.backfill();
+
+        assertTrue(userRepository.findUserByEmail("LOOKUP.USER@example.com").isPresent());
+        assertTrue(userRepository.findUserByUserName("lookup").isPresent());
+    }
+
+    @Test
+    void testCollidingUserFailsReadinessUntilResolved() {
+        User twin = new User(null, "lookupTwin", "LookupTwin", "lookup.twin@example.com", "Password!123",
+                "010-1234-5678", LocalDateTime.now());
+        userRepository.save(twin);
+        byte[] emailHash = jdbcTemplate.queryForObject("select email_hash from users where user_id = ?",
+                byte[].class, "lookupUser");
+        jdbcTemplate.update("update users set email_hash = null where user_id = ?", "lookupUser");
+        jdbcTemplate.update("update users set email_hash = ? where user_id = ?", emailHash, "lookupTwin");
+        entityManagerFactory.getCache().evictAll();
+
+        userLookupKeyBackfill.backfill();
+
+        assertEquals(1, userLookupKeyBackfill.getUnresolvedCount());
+        assertEquals(Status.DOWN, userLookupKeyHealthIndicator.health().getStatus());
+        assertNull(userRepository.findUserByUserId("lookupUser").get().getEmailHash());
+
+        userRepository.delete(twin);
+        userLookupKeyBackfill.retryUnresolved();
+
+        assertEquals(0, userLookupKeyBackfill.getUnresolvedCount());
+        assertEquals(Status.UP, userLookupKeyHealthIndicator.health().getStatus());
+        assertTrue(userRepository.findUserByEmail("lookup.user@example.com").isPresent());
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.outbox.UserChangeMessage;
+import com.thecommerce.user.outbox.UserOutboxEvent;
+import com.thecommerce.user.outbox.UserOutboxRelay;
+import com.thecommerce.user.outbox.UserOutboxRepository;
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+/**
+ * 애플리케이션의 예약 relay가 이벤트를 먼저 가져가지 않도록 relay 주기를 늘리고, 테스트에서 만든 relay로 전달합니다.
+ */
+@SpringBootTest(properties = "thecommerce.outbox.relay-interval=PT1H")
+class UserOutboxRelayTests {
+    private static final Duration LAG = Duration.ofSeconds(5);
+
+    @Autowired
+    private UserOutboxRepository userOutboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> userIndexes = new CopyOnWriteArrayList<>();
+    private final List<UserChangeMessage> published = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        userOutboxRepository.deleteAll(userOutboxRepository.findAll().stream()
+                .filter(event -> userIndexes.contains(event.getUserIndex()))
+                .collect(Collectors.toList()));
+    }
+
+    private UserOutboxRelay relay(Clock clock, AtomicInteger failures) {
+        return new UserOutboxRelay(userOutboxRepository, messages -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("sink is down");
+            }
+            published.addAll(messages);
+        }, objectMapper, new TransactionTemplate(transactionManager), 100, clock, LAG);
+    }
+
+    private Long save(long userIndex) throws Exception {
+        userIndexes.add(userIndex);
+        UserOutboxEvent event = new UserOutboxEvent();
+        event.setUserIndex(userIndex);
+        event.setEventType(UserChangedEvent.Type.UPDATED);
+        event.setPayload(objectMapper.writeValueAsString(new UserListDTO(userIndex, "relay" + userIndex,
+                "relay" + userIndex, "relay" + userIndex + "@example.com", "010-1234-5678", LocalDateTime.now())));
+        event.setCreateDate(LocalDateTime.now());
+        return userOutboxRepository.save(event).getId();
+    }
+
+    private List<Long> publishedIds() {
+        return published.stream()
+                .filter(message -> userIndexes.contains(message.getUserIndex()))
+                .map(UserChangeMessage::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testFailedBatchIsRetriedAndPublishedOnce() throws Exception {
+        Long id = save(-101L);
+        UserOutboxRelay relay = relay(Clock.offset(Clock.systemDefaultZone(), LAG), new AtomicInteger(1));
+
+        assertThrows(IllegalStateException.class, relay::relay);
+        assertTrue(userOutboxRepository.findById(id).isPresent());
+        assertTrue(publishedIds().isEmpty());
+
+        relay.relay();
+        relay.relay();
+
+        assertEquals(Arrays.asList(id), publishedIds());
+        assertTrue(!userOutboxRepository.findById(id).isPresent());
+    }
+
+    @Test
+    void testLaterCommittedLowerIdIsNotOvertaken() throws Exception {
+        CountDownLatch saved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 먼저 순번을 받았지만 늦게 커밋되는 트랜잭션
+            Future<Long> slow = executor.submit(() -> new TransactionTemplate(transactionManager).execute(status -> {
+                try {
+                    Long id = save(-201L);
+                    saved.countDown();
+                    commit.await();
+                    return id;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            assertTrue(saved.await(5, TimeUnit.SECONDS));
+            Long fastId = save(-202L);
+
+            // 늦은 트랜잭션이 열려 있는 동안에는 뒤의 순번도 아직 전달하지 않습니다.
+            relay(Clock.systemDefaultZone(), new AtomicInteger()).relay();
+            assertTrue(publishedIds().isEmpty());
+
+            commit.countDown();
+            Long slowId = slow.get(5, TimeUnit.SECONDS);
+            assertTrue(slowId < fastId);
+
+            relay(Clock.offset(Clock.systemDefaultZone(), LAG), new AtomicInteger()).relay();
+            assertEquals(Arrays.asList(slowId, fastId), publishedIds());
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.thecommerce.user.outbox.InMemoryUserChangeEventSink;
+import com.thecommerce.user.outbox.UserChangeEventSink;
+import com.thecommerce.user.outbox.UserChangeMessage;
+import com.thecommerce.user.outbox.UserOutboxRelay;
+import com.thecommerce.user.user.UserChangedEvent;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.status.UserRegistrationStatus;
+import com.thecommerce.user.user.status.UserUpdateStatus;
+import com.thecommerce.user.user.userDTO.UpdateUserDTO;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+@SpringBootTest
+class UserOutboxTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserOutboxRelay userOutboxRelay;
+
+    @Autowired
+    private UserChangeEventSink userChangeEventSink;
+
+    @Test
+    void testSaveAndUpdateArePublishedInOrder() {
+        UserDTO userDTO = new UserDTO(null, "outbox1", "outbox1", "outbox1@example.com", "Password!123",
+                "010-1234-5678", null);
+        assertEquals(UserRegistrationStatus.OK, userService.save(userDTO));
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setPhoneNumber("010-9999-9999");
+        assertEquals(UserUpdateStatus.OK, userService.updateUser(updateUserDTO, "outbox1"));
+
+        userOutboxRelay.relay();
+
+        List<UserChangeMessage> messages = ((InMemoryUserChangeEventSink) userChangeEventSink).getMessages()
+                .stream()
+                .filter(message -> "outbox1".equals(message.getUser().getUserId()))
+                .collect(Collectors.toList());
+        assertEquals(2, messages.size());
+        assertEquals(UserChangedEvent.Type.CREATED, messages.get(0).getType());
+        assertEquals(UserChangedEvent.Type.UPDATED, messages.get(1).getType());
+        assertEquals("010-9999-9999", messages.get(1).getUser().getPhoneNumber());
+        assertEquals(messages.get(0).getUserIndex(), messages.get(1).getUserIndex());
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.thecommerce.user.search.UserPrefixIndex;
+import com.thecommerce.user.user.userDTO.UserListDTO;
+
+class UserPrefixIndexTests {
+
+    private UserPrefixIndex userPrefixIndex;
+
+    @BeforeEach
+    public void setup() {
+        userPrefixIndex = new UserPrefixIndex();
+        userPrefixIndex.index(user(1L, "alice", "alice@example.com"));
+        userPrefixIndex.index(user(2L, "alex", "lex@example.com"));
+        userPrefixIndex.index(user(3L, "bob", "al.bob@example.com"));
+    }
+
+    private static UserListDTO user(Long userIndex, String userName, String email) {
+        return new UserListDTO(userIndex, "id" + userIndex, userName, email, "010-1234-5678", LocalDateTime.now());
+    }
+
+    @Test
+    void testSearchMatchesUserNameAndEmailPrefix() {
+        List<UserListDTO> result = userPrefixIndex.search("AL", 10);
+
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    void testSearchRespectsLimit() {
+        List<UserListDTO> result = userPrefixIndex.search("al", 2);
+
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    void testUpdateReplacesOldTerms() {
+        userPrefixIndex.index(user(2L, "zed", "lex@example.com"));
+
+        assertTrue(userPrefixIndex.search("alex", 10).isEmpty());
+        assertEquals("zed", userPrefixIndex.search("ze", 10).get(0).getUserName());
+    }
+
+    @Test
+    void testIndexIfAbsentKeepsNewerEntry() {
+        userPrefixIndex.index(user(4L, "carol", "carol@example.com"));
+        userPrefixIndex.indexIfAbsent(user(4L, "stale", "stale@example.com"));
+
+        assertTrue(userPrefixIndex.search("stale", 10).isEmpty());
+        assertEquals(1, userPrefixIndex.search("carol", 10).size());
+    }
+
+    @Test
+    void testRemoveDropsAllTerms() {
+        userPrefixIndex.remove(1L);
+        userPrefixIndex.remove(99L);
+
+        assertTrue(userPrefixIndex.search("alice", 10).isEmpty());
+        assertEquals(2, userPrefixIndex.search("al", 10).size());
+        assertEquals(2, userPrefixIndex.size());
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.thecommerce.user;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecommerce.user.auth.TokenService;
+import com.thecommerce.user.circuitbreaker.CircuitBreaker;
+import com.thecommerce.user.circuitbreaker.CircuitBreakerOpenException;
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.userDTO.UpdateUserDTO;
+import com.thecommerce.user.user.userDTO.UserBatchGetDTO;
+import com.thecommerce.user.user.userDTO.UserDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 회로 차단기가 열린 뒤에도 목록, 일괄 조회는 마지막으로 성공한 결과로 응답하고 쓰기는 바로 실패하는지 확인합니다.
+ * 회로를 연 채로 끝나므로 다른 테스트와 컨텍스트를 공유하지 않습니다.
+ */
+@SpringBootTest(properties = {
+        "thecommerce.circuit-breaker.window-size=5",
+        "thecommerce.circuit-breaker.minimum-calls=5",
+        "thecommerce.circuit-breaker.open-duration=1h" })
+@AutoConfigureMockMvc
+@DirtiesContext
+class UserReadFallbackTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CircuitBreaker circuitBreaker;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String batchGet(String... userIds) throws Exception {
+        return objectMapper.writeValueAsString(new UserBatchGetDTO(Arrays.asList(userIds), Collections.emptyList()));
+    }
+
+    @Test
+    void testReadsServeStaleSnapshotAndWritesFailFastWhileOpen() throws Exception {
+        User user = new User();
+        user.setUserId("breakerUser");
+        user.setUserName("breaker");
+        user.setEmail("breakerUser@example.com");
+        user.setPassword("Password!123");
+        user.setPhoneNumber("010-1234-5678");
+        user.setCreateDate(LocalDateTime.now());
+        userRepository.save(user);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/list"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.WARNING));
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchGet("breakerUser")))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.onResult(0L, true, System.nanoTime());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, () -> userRepository.findUserByUserId("breakerUser"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/list"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.WARNING, containsString("110")))
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.AGE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].userId", is("breakerUser")));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/list").param("page", "3"))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchGet("breakerUser")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.WARNING))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.users", hasSize(1)));
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchGet("breakerUser", "unknownUser")))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable());
+
+        UserDTO userDTO = new UserDTO(null, "newUser", "newName", "newUser@example.com", "Password!123",
+                "010-1234-5678", null);
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/user/join")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userDTO)))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable());
+
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setPhoneNumber("010-1234-1234");
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/user/breakerUser")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer "
+                        + tokenService.issue(user.getUserIndex(), "breakerUser"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateUserDTO)))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable());
+
+        assertEquals(2.0, meterRegistry.get("user.read.stale").functionCounter().count());
+        assertTrue(meterRegistry.get("user.circuit-breaker.not-permitted").functionCounter().count() >= 4);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.thecommerce.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserRepository;
+import com.thecommerce.user.user.UserService;
+import com.thecommerce.user.user.status.UserUpdateStatus;
+import com.thecommerce.user.user.userDTO.UpdateUserDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class UserSecondLevelCacheTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        user = new User();
+        user.setUserId("cacheUser");
+        user.setUserName("cacheU");
+        user.setEmail("cacheUser@example.com");
+        user.setPassword("Password!123");
+        user.setPhoneNumber("010-1234-5678");
+        user.setCreateDate(LocalDateTime.now());
+        userRepository.save(user);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    void testRepeatedLookupIsServedFromCache() {
+        userRepository.findUserByUserId("cacheUser");
+        userRepository.findUserByUserId("cacheUser");
+        userRepository.findUserByUserId("cacheUser");
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getQueryCacheHitCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 2);
+    }
+
+    @Test
+    void testUpdateInvalidatesCachedLookup() {
+        assertEquals("010-1234-5678", userRepository.findUserByUserId("cacheUser").get().getPhoneNumber());
+
+        UpdateUserDTO updateUserDTO = new UpdateUserDTO();
+        updateUserDTO.setPhoneNumber("010-9999-0000");
+        assertEquals(UserUpdateStatus.OK, userService.updateUser(updateUserDTO, "cacheUser"));
+
+        assertEquals("010-9999-0000", userRepository.findUserByUserId("cacheUser").get().getPhoneNumber());
+    }
+
+    @Test
+    void testCacheRegionStatisticsAreExposedAsMetrics() {
+        userRepository.findUserByUserId("cacheUser");
+
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", User.CACHE_REGION).functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.cache.query.requests").functionCounter());
+    }
+
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -15,11 +17,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import com.thecommerce.user.user.User;
+import com.thecommerce.user.user.UserCounter;
 import com.thecommerce.user.user.UserRepository;
 import com.thecommerce.user.user.UserService;
 import com.thecommerce.user.user.status.UserRegistrationStatus;
@@ -37,6 +42,10 @@ class UserServiceTests {
     @MockBean
     private UserRepository userRepository;
 
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final UserCounter userCounter = mock(UserCounter.class);
+
     @Test
     void testSaveUser() {
         UserDTO userDTO = new UserDTO(null, "userId", "user", "test@example.com", "Password!123", "010-1234-5678",
@@ -51,7 +60,7 @@ class UserServiceTests {
     void checkDuplicateEmailExistingEmailReturnsAlreadyExistEmail() {
         UserRepository userRepository = mock(UserRepository.class);
         when(userRepository.findUserByEmail("test@example.com")).thenReturn(Optional.of(new User()));
-        UserService userService = new UserService(userRepository);
+        UserService userService = new UserService(userRepository, eventPublisher, userCounter);
 
         UserRegistrationStatus result = userService.checkDuplicateEmail("test@example.com");
 
@@ -62,7 +71,7 @@ class UserServiceTests {
     void updateUserValidUserReturnsOK() {
         UserRepository userRepository = mock(UserRepository.class);
         when(userRepository.findUserByUserId("testUser")).thenReturn(Optional.of(new User()));
-        UserService userService = new UserService(userRepository);
+        UserService userService = new UserService(userRepository, eventPublisher, userCounter);
         UpdateUserDTO updateUserDTO = new UpdateUserDTO();
         updateUserDTO.setPassword("newPassword!123");
         updateUserDTO.setUserName("new");
@@ -79,10 +88,10 @@ class UserServiceTests {
         List<User> userList = new ArrayList<>();
         userList.add(new User(1L, "user1", "User1", "user1@example.com", "010-1111-1111", null, LocalDateTime.now()));
         userList.add(new User(2L, "user2", "User2", "user2@example.com", "010-2222-2222", null, LocalDateTime.now()));
-        Page<User> userPage = new PageImpl<>(userList);
-        UserService userService = new UserService(userRepository);
+        UserService userService = new UserService(userRepository, eventPublisher, userCounter);
         Pageable pageable = Pageable.unpaged();
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(userPage);
+        when(userRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(userList));
+        when(userCounter.get()).thenReturn(2L);
 
         Page<UserListDTO> result = userService.getUserList(pageable);
 
@@ -91,10 +100,57 @@ class UserServiceTests {
         assertEquals("User2", result.getContent().get(1).getUserName());
     }
 
+    @Test
+    void getUserListUsesMaintainedCountInsteadOfCountQuery() {
+        UserRepository userRepository = mock(UserRepository.class);
+        List<User> userList = new ArrayList<>();
+        userList.add(new User(1L, "user1", "User1", "user1@example.com", "010-1111-1111", null, LocalDateTime.now()));
+        UserService userService = new UserService(userRepository, eventPublisher, userCounter);
+        when(userRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(userList));
+        when(userCounter.get()).thenReturn(41L);
+
+        Page<UserListDTO> result = userService.getUserList(PageRequest.of(0, 1));
+
+        assertEquals(41, result.getTotalElements());
+        assertEquals(41, result.getTotalPages());
+        verify(userRepository, never()).count();
+        verify(userRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void userCounterReconcilesWithRepositoryCount() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.count()).thenReturn(10L, 12L);
+        UserCounter counter = new UserCounter(userRepository);
+
+        assertEquals(10L, counter.get());
+        counter.increment();
+        assertEquals(11L, counter.get());
+        counter.reconcile();
+        assertEquals(12L, counter.get());
+    }
+
+    @Test
+    void userCounterDoesNotDoubleCountSignupsDuringReconcile() {
+        UserRepository userRepository = mock(UserRepository.class);
+        UserCounter counter = new UserCounter(userRepository);
+        when(userRepository.count()).thenReturn(10L);
+        assertEquals(10L, counter.get());
+
+        // 집계 중에 커밋된 회원가입은 집계 결과에도 포함되고 이벤트로도 증가합니다.
+        when(userRepository.count()).thenAnswer(invocation -> {
+            counter.increment();
+            return 11L;
+        }).thenReturn(11L);
+        counter.reconcile();
+
+        assertEquals(11L, counter.get());
+    }
+
     @Test
     void checkDuplicateEmailThrowsException() {
         UserRepository userRepository = mock(UserRepository.class);
-        UserService userService = new UserService(userRepository);
+        UserService userService = new UserService(userRepository, eventPublisher, userCounter);
         when(userRepository.findUserByEmail("test@example.com")).thenThrow(new RuntimeException("SERVER_ERROR"));
 
         UserRegistrationStatus result = userService.checkDuplicateEmail("test@example.com");
@@ -106,7 +162,7 @@ class UserServiceTests {
     void checkDuplicateUserNameThrowsException() {
         UserRepository userRepository = mock(UserRepository.class);
         when(userRepository.findUserByUserName("testUser")).thenThrow(new RuntimeException("SERVER_ERROR"));
-        UserService userService = new UserService(userRepository);
+        UserService userService = new UserService(userRepository, eventPublisher, userCounter);
 
         assertThrows(RuntimeException.class, () -> userService.checkDuplicateUserName("testUser"));
     }
@@ -116,7 +172,7 @@ class UserServiceTests {
         UserRepository userRepository = mock(UserRepository.class);
         when(userRepository.findUserByUserId("testUser")).thenReturn(Optional.of(new User()));
         when(userRepository.save(any(User.class))).thenThrow(new RuntimeException("SERVER_ERROR"));
-        UserService userService = new UserService(userRepository);
+        UserService userService = new UserService(userRepository, eventPublisher, userCounter);
         UpdateUserDTO updateUserDTO = new UpdateUserDTO();
         updateUserDTO.setPassword("newPassword!123");
 
@@ -130,7 +186,7 @@ class UserServiceTests {
         UserDTO userDTO = new UserDTO(null, "userId", "user", "test@example.com", "Password!123", "010-1234-5678", null);
         UserRepository userRepository = mock(UserRepository.class);
         when(userRepository.save(any(User.class))).thenThrow(new RuntimeException("SERVER_ERROR"));
-        UserService userService = new UserService(userRepository);
+        UserService userService = new UserService(userRepository, eventPublisher, userCounter);
 
         UserRegistrationStatus result = userService.save(userDTO);
 